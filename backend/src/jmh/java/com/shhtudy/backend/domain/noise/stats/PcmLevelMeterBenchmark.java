@@ -0,0 +1,62 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PCM 프레임 데시벨 계산 처리량 (스레드 1개 = 코어 하나당 프레임/초)
+ * 샘플 수 × 프레임/초 = 코어 하나가 감당하는 초당 샘플 수
+ * 결과는 장비마다 다르므로 수치는 적어 두지 않는다. 대상 장비에서 ./gradlew jmh 로 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PcmLevelMeterBenchmark {
+
+    private static final int FRAMES = 64; // 호출 한 번에 계산할 프레임 수 (업로드 요청 하나 규모)
+
+    @Param({"256", "1024", "4800"}) // 4800 = 48kHz 0.1초
+    private int frameSamples;
+
+    private short[] pcm;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        pcm = new short[FRAMES * frameSamples];
+        for (int i = 0; i < pcm.length; i++) {
+            // 직류 바이어스 + 가우시안 잡음
+            pcm[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, 200 + random.nextGaussian() * 3000));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public double vector() {
+        double sum = 0;
+        for (int f = 0; f < FRAMES; f++) {
+            sum += PcmLevelMeter.powerToDbfs(PcmVectorKernel.acPower(pcm, f * frameSamples, frameSamples));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public double scalar() {
+        double sum = 0;
+        for (int f = 0; f < FRAMES; f++) {
+            sum += PcmLevelMeter.powerToDbfs(PcmScalarKernel.acPower(pcm, f * frameSamples, frameSamples));
+        }
+        return sum;
+    }
+}
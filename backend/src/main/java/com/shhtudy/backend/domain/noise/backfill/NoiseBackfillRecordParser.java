@@ -0,0 +1,96 @@
+package com.shhtudy.backend.domain.noise.backfill;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 백필 입력 한 줄 파싱 (CSV 또는 NDJSON) → 정규화된 값으로 채움
+ * CSV  : user_id,seat_id,decibel,measured_at (seat_id 는 비어 있어도 됨, 첫 줄 헤더 허용)
+ * NDJSON: {"userId": "...", "seatId": 12, "decibel": 41.5, "measuredAt": "2025-06-04T15:30:00"} (snake_case 키도 허용)
+ * measured_at 은 ISO 날짜시각(시스템 시간대) 또는 epoch millis
+ */
+class NoiseBackfillRecordParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean ndjson;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // 마지막으로 파싱한 값
+    String userId;
+    int seatId;
+    double decibel;
+    long measuredAtMillis;
+
+    NoiseBackfillRecordParser(boolean ndjson) {
+        this.ndjson = ndjson;
+    }
+
+    static boolean isCsvHeader(String line) {
+        String lower = line.toLowerCase();
+        return lower.contains("user") && lower.contains("decibel");
+    }
+
+    /**
+     * 파싱 성공 여부 (형식이 틀린 줄은 false)
+     */
+    boolean parse(String line) {
+        try {
+            boolean parsed = ndjson ? parseJson(line) : parseCsv(line);
+            return parsed && userId != null && !userId.isBlank()
+                    && Double.isFinite(decibel) && decibel >= 0.0;
+        } catch (RuntimeException | IOException e) {
+            return false;
+        }
+    }
+
+    private boolean parseCsv(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length < 4) {
+            return false;
+        }
+        userId = fields[0].trim();
+        String seat = fields[1].trim();
+        seatId = seat.isEmpty() ? -1 : Integer.parseInt(seat);
+        decibel = Double.parseDouble(fields[2].trim());
+        measuredAtMillis = parseTime(fields[3].trim());
+        return true;
+    }
+
+    private boolean parseJson(String line) throws IOException {
+        userId = null;
+        seatId = -1;
+        decibel = Double.NaN;
+        measuredAtMillis = Long.MIN_VALUE;
+        try (JsonParser parser = JSON_FACTORY.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "userId", "user_id" -> userId = parser.getValueAsString();
+                    case "seatId", "seat_id" -> seatId = value == JsonToken.VALUE_NULL ? -1 : parser.getValueAsInt(-1);
+                    case "decibel" -> decibel = parser.getValueAsDouble(Double.NaN);
+                    case "measuredAt", "measured_at" -> measuredAtMillis = value == JsonToken.VALUE_NUMBER_INT
+                            ? parser.getLongValue() : parseTime(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return measuredAtMillis != Long.MIN_VALUE;
+    }
+
+    private long parseTime(String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(value);
+        }
+        return LocalDateTime.parse(value.replace(' ', 'T')).atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,61 @@
+package com.shhtudy.backend.domain.noise.backfill;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 오프라인 백필 실행기
+ * 예) java -jar app.jar --app.noise.backfill.file=/data/noise.csv --spring.main.web-application-type=none
+ * 같은 파일로 다시 실행하면 체크포인트부터 이어서 적재한다. (job-id 미지정 시 파일 이름/크기/수정 시각으로 생성)
+ */
+@Component
+@ConditionalOnProperty(name = "app.noise.backfill.file")
+public class NoiseBackfillRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseBackfillRunner.class);
+
+    private final NoiseBackfillService noiseBackfillService;
+    private final ConfigurableApplicationContext context;
+    private final String file;
+    private final String jobId;
+    private final boolean exitOnComplete;
+
+    public NoiseBackfillRunner(NoiseBackfillService noiseBackfillService,
+                               ConfigurableApplicationContext context,
+                               @Value("${app.noise.backfill.file}") String file,
+                               @Value("${app.noise.backfill.job-id:}") String jobId,
+                               @Value("${app.noise.backfill.exit-on-complete:true}") boolean exitOnComplete) {
+        this.noiseBackfillService = noiseBackfillService;
+        this.context = context;
+        this.file = file;
+        this.jobId = jobId;
+        this.exitOnComplete = exitOnComplete;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path input = Paths.get(file);
+        String resolvedJobId = jobId.isBlank()
+                ? (input.getFileName() + "-" + Files.size(input) + "-" + Files.getLastModifiedTime(input).toMillis())
+                        .replaceAll("[^A-Za-z0-9._-]", "_")
+                : jobId;
+
+        log.info("Starting noise backfill {} from {}", resolvedJobId, input);
+        noiseBackfillService.run(input, resolvedJobId);
+
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.shhtudy.backend.domain.noise.backfill;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseBackfillCheckpoint;
+import com.shhtudy.backend.domain.noise.repository.NoiseBackfillCheckpointRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseEventJdbcRepository;
+import com.shhtudy.backend.domain.noise.service.NoiseService;
+import com.shhtudy.backend.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 과거 소음 측정값 대량 적재 (CSV / NDJSON)
+ * 1) 입력 파일을 한 번 읽어 사용자 해시로 파티션 파일에 나눠 쓴다 (작업 디렉터리, 완료 표시 파일로 재사용)
+ * 2) 파티션마다 fork/join 풀에서 배치 insert, 저장한 행 수(체크포인트)는 같은 트랜잭션에서 갱신
+ *    → 중간에 죽어도 다시 실행하면 체크포인트 이후부터 이어서 적재
+ * 3) 적재가 끝난 파티션의 사용자별로 겹치는 세션 통계를 다시 계산
+ * 한 사용자의 행은 모두 한 파티션에 있으므로 파티션 간 충돌이 없다.
+ */
+@Service
+public class NoiseBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseBackfillService.class);
+
+    private static final String SPILLED_MARKER = "_SPILLED";
+
+    private final NoiseEventJdbcRepository noiseEventJdbcRepository;
+    private final NoiseBackfillCheckpointRepository checkpointRepository;
+    private final NoiseService noiseService;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int partitions;
+    private final int batchSize;
+    private final Path workDir;
+
+    public NoiseBackfillService(NoiseEventJdbcRepository noiseEventJdbcRepository,
+                                NoiseBackfillCheckpointRepository checkpointRepository,
+                                NoiseService noiseService,
+                                UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.noise.backfill.partitions:8}") int partitions,
+                                @Value("${app.noise.backfill.batch-size:5000}") int batchSize,
+                                @Value("${app.noise.backfill.work-dir:${java.io.tmpdir}/noise-backfill}") String workDir,
+                                @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.noiseEventJdbcRepository = noiseEventJdbcRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.noiseService = noiseService;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 파티션마다 커넥션 하나를 쓰므로 스케줄러 몫(2개)을 남기고 풀 크기에 맞춘다
+        this.partitions = Math.max(Math.min(partitions, poolSize - 2), 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.workDir = Paths.get(workDir);
+    }
+
+    public void run(Path input, String jobId) throws IOException {
+        long started = System.nanoTime();
+        Path jobDir = workDir.resolve(jobId);
+        spill(input, jobDir);
+
+        AtomicLong inserted = new AtomicLong();
+        AtomicLong sessions = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(partitions);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int p = 0; p < partitions; p++) {
+                int partitionNo = p;
+                tasks.add(() -> {
+                    importPartition(jobId, partitionNo, partitionFile(jobDir, partitionNo), inserted, sessions);
+                    return null;
+                });
+            }
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backfill interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Backfill failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Backfill {} done: {} rows inserted, {} sessions recomputed in {}s ({} rows/s)",
+                jobId, inserted.get(), sessions.get(), String.format("%.1f", seconds),
+                String.format("%.0f", inserted.get() / Math.max(seconds, 1e-3)));
+    }
+
+    /**
+     * 입력을 정규화해 파티션 파일로 나눈다: uid \t seatId \t decibel \t measuredAtMillis
+     */
+    private void spill(Path input, Path jobDir) throws IOException {
+        if (Files.exists(jobDir.resolve(SPILLED_MARKER))) {
+            log.info("Reusing spilled partitions in {}", jobDir);
+            return;
+        }
+        Files.createDirectories(jobDir);
+
+        Set<String> knownUsers = new HashSet<>(userRepository.findAllFirebaseUids());
+        String fileName = input.getFileName().toString().toLowerCase();
+        boolean ndjson = fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl") || fileName.endsWith(".json");
+        NoiseBackfillRecordParser parser = new NoiseBackfillRecordParser(ndjson);
+
+        BufferedWriter[] writers = new BufferedWriter[partitions];
+        long rows = 0;
+        long skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            for (int p = 0; p < partitions; p++) {
+                writers[p] = new BufferedWriter(Files.newBufferedWriter(partitionFile(jobDir, p), StandardCharsets.UTF_8), 1 << 20);
+            }
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || (first && !ndjson && NoiseBackfillRecordParser.isCsvHeader(line))) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                if (!parser.parse(line) || !knownUsers.contains(parser.userId)) {
+                    if (skipped++ < 10) {
+                        log.warn("Skipping backfill line: {}", line);
+                    }
+                    continue;
+                }
+                BufferedWriter writer = writers[partitionOf(parser.userId)];
+                writer.write(parser.userId);
+                writer.write('\t');
+                writer.write(Integer.toString(parser.seatId));
+                writer.write('\t');
+                writer.write(Double.toString(parser.decibel));
+                writer.write('\t');
+                writer.write(Long.toString(parser.measuredAtMillis));
+                writer.write('\n');
+                rows++;
+            }
+        } finally {
+            for (BufferedWriter writer : writers) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        }
+        Files.createFile(jobDir.resolve(SPILLED_MARKER));
+        log.info("Spilled {} rows into {} partitions ({} lines skipped)", rows, partitions, skipped);
+    }
+
+    private void importPartition(String jobId, int partitionNo, Path file,
+                                 AtomicLong inserted, AtomicLong sessions) throws IOException {
+        NoiseBackfillCheckpoint checkpoint = checkpointRepository.findByJobIdAndPartitionNo(jobId, partitionNo)
+                .orElseGet(() -> checkpointRepository.save(NoiseBackfillCheckpoint.builder()
+                        .jobId(jobId)
+                        .partitionNo(partitionNo)
+                        .build()));
+        if (checkpoint.isCompleted()) {
+            return;
+        }
+
+        long committed = checkpoint.getCommittedRows();
+        String[] userIds = new String[batchSize];
+        int[] seatIds = new int[batchSize];
+        double[] decibels = new double[batchSize];
+        long[] measuredAt = new long[batchSize];
+        int count = 0;
+        long lineNo = 0;
+
+        // 사용자별 측정 시각 범위 (세션 재계산 대상)
+        Map<String, long[]> userRanges = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 4);
+                String userId = fields[0];
+                long millis = Long.parseLong(fields[3]);
+                long[] range = userRanges.computeIfAbsent(userId, k -> new long[]{millis, millis});
+                range[0] = Math.min(range[0], millis);
+                range[1] = Math.max(range[1], millis);
+
+                // 이미 저장된 행은 건너뜀
+                if (lineNo++ < committed) {
+                    continue;
+                }
+                userIds[count] = userId;
+                seatIds[count] = Integer.parseInt(fields[1]);
+                decibels[count] = Double.parseDouble(fields[2]);
+                measuredAt[count] = millis;
+                if (++count == batchSize) {
+                    committed = commitBatch(checkpoint.getId(), committed, userIds, seatIds, decibels, measuredAt, count);
+                    inserted.addAndGet(count);
+                    count = 0;
+                }
+            }
+        }
+        if (count > 0) {
+            commitBatch(checkpoint.getId(), committed, userIds, seatIds, decibels, measuredAt, count);
+            inserted.addAndGet(count);
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        for (Map.Entry<String, long[]> entry : userRanges.entrySet()) {
+            LocalDateTime from = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getValue()[0]), zone);
+            LocalDateTime to = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getValue()[1]), zone);
+            sessions.addAndGet(noiseService.recomputeSessionStats(entry.getKey(), from, to));
+        }
+
+        checkpoint.setCompleted(true);
+        checkpoint.setCommittedRows(lineNo);
+        checkpointRepository.save(checkpoint);
+        log.info("Backfill {} partition {} done ({} rows)", jobId, partitionNo, lineNo);
+    }
+
+    // 데이터와 체크포인트를 한 트랜잭션으로 저장
+    private long commitBatch(Long checkpointId, long committed, String[] userIds, int[] seatIds,
+                             double[] decibels, long[] measuredAt, int count) {
+        long next = committed + count;
+        transactionTemplate.executeWithoutResult(status -> {
+            noiseEventJdbcRepository.batchInsert(userIds, seatIds, decibels, measuredAt, count);
+            checkpointRepository.updateCommittedRows(checkpointId, next);
+        });
+        return next;
+    }
+
+    private int partitionOf(String userId) {
+        return (userId.hashCode() & Integer.MAX_VALUE) % partitions;
+    }
+
+    private static Path partitionFile(Path jobDir, int partitionNo) {
+        return jobDir.resolve("part-" + partitionNo + ".tsv");
+    }
+}
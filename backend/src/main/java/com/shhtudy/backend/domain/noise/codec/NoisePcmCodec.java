@@ -0,0 +1,106 @@
+package com.shhtudy.backend.domain.noise.codec;
+
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 마이크 원본 진폭 프레임 업로드 포맷 (application/vnd.shhtudy.noise-pcm+binary)
+ *
+ * <pre>
+ * [1 byte ] 버전 (0x01)
+ * [varint ] 첫 프레임 시각 (epoch millis)
+ * [varint ] 프레임 간격 (ms)
+ * [varint ] 프레임당 샘플 수 N
+ * [varint ] 프레임 수 M
+ * M x N 개 16bit signed PCM (little-endian, 모노)
+ * </pre>
+ *
+ * 프레임 하나가 측정값 하나가 된다. (i 번째 프레임 시각 = 첫 프레임 시각 + i x 간격)
+ * 샘플은 요청마다 short 배열 하나로 한 번에 복사하고, 프레임마다 배열 구간만 sink 로 넘긴다.
+ */
+public final class NoisePcmCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.shhtudy.noise-pcm+binary";
+    public static final byte VERSION = 1;
+
+    public static final int MIN_FRAME_SAMPLES = 64;
+    public static final int MAX_FRAME_SAMPLES = 16384; // 48kHz 기준 약 0.34초
+    public static final int MAX_TOTAL_SAMPLES = 1 << 21; // 요청 하나 4MB
+    public static final long MAX_FRAME_INTERVAL_MS = 60_000;
+
+    private NoisePcmCodec() {
+    }
+
+    @FunctionalInterface
+    public interface FrameSink {
+        void accept(long measuredAtMillis, short[] samples, int offset, int length);
+    }
+
+    /**
+     * 프레임을 순서대로 sink 에 전달하고 프레임 수를 반환
+     */
+    public static int decode(ByteBuffer in, int maxFrames, FrameSink sink) {
+        long firstMillis;
+        long intervalMs;
+        int frameSamples;
+        int frameCount;
+        try {
+            if (in.get() != VERSION) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            firstMillis = NoiseSampleCodec.readVarLong(in);
+            intervalMs = NoiseSampleCodec.readVarLong(in);
+            long samples = NoiseSampleCodec.readVarLong(in);
+            long frames = NoiseSampleCodec.readVarLong(in);
+            if (intervalMs <= 0 || intervalMs > MAX_FRAME_INTERVAL_MS
+                    || samples < MIN_FRAME_SAMPLES || samples > MAX_FRAME_SAMPLES
+                    || frames < 0 || frames > maxFrames || samples * frames > MAX_TOTAL_SAMPLES) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            frameSamples = (int) samples;
+            frameCount = (int) frames;
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+
+        // 헤더 뒤 길이가 정확히 M x N x 2 byte 여야 한다
+        int totalSamples = frameSamples * frameCount;
+        if (in.remaining() != totalSamples * 2) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+        short[] pcm = new short[totalSamples];
+        in.slice().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(pcm);
+        in.position(in.limit());
+
+        for (int i = 0; i < frameCount; i++) {
+            sink.accept(firstMillis + i * intervalMs, pcm, i * frameSamples, frameSamples);
+        }
+        return frameCount;
+    }
+
+    /**
+     * 클라이언트/테스트용 인코더 (samples 길이는 frameSamples 의 배수)
+     */
+    public static byte[] encode(long firstMillis, long intervalMs, int frameSamples, short[] samples) {
+        int frameCount = samples.length / frameSamples;
+        ByteBuffer out = ByteBuffer.allocate(1 + 40 + frameCount * frameSamples * 2);
+        out.put(VERSION);
+        NoiseSampleCodec.writeVarLong(out, firstMillis);
+        NoiseSampleCodec.writeVarLong(out, intervalMs);
+        NoiseSampleCodec.writeVarLong(out, frameSamples);
+        NoiseSampleCodec.writeVarLong(out, frameCount);
+        out.order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frameCount * frameSamples; i++) {
+            out.putShort(samples[i]);
+        }
+
+        byte[] result = new byte[out.position()];
+        out.flip();
+        out.get(result);
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package com.shhtudy.backend.domain.noise.codec;
+
+import java.util.Arrays;
+
+/**
+ * 측정값을 시각/데시벨 배열로 모으는 버퍼 (샘플마다 객체를 만들지 않음)
+ */
+public final class NoiseSampleBuffer implements NoiseSampleCodec.SampleSink {
+
+    private long[] measuredAtMillis = new long[256];
+    private double[] decibels = new double[256];
+    private int size;
+
+    @Override
+    public void accept(long measuredAt, double decibel) {
+        if (size == measuredAtMillis.length) {
+            measuredAtMillis = Arrays.copyOf(measuredAtMillis, size * 2);
+            decibels = Arrays.copyOf(decibels, size * 2);
+        }
+        measuredAtMillis[size] = measuredAt;
+        decibels[size] = decibel;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long measuredAtMillis(int index) {
+        return measuredAtMillis[index];
+    }
+
+    public double decibel(int index) {
+        return decibels[index];
+    }
+
+    // 배열은 복사하지 않으므로 size() 까지만 유효
+    public long[] measuredAtArray() {
+        return measuredAtMillis;
+    }
+
+    public double[] decibelArray() {
+        return decibels;
+    }
+}
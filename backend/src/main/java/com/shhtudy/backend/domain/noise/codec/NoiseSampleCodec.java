@@ -0,0 +1,150 @@
+package com.shhtudy.backend.domain.noise.codec;
+
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * 소음 측정값 바이너리 포맷 (application/vnd.shhtudy.noise+binary)
+ *
+ * <pre>
+ * [1 byte ] 버전 (0x01)
+ * [varint ] 측정값 개수 N
+ * [varint ] 기준 시각 (epoch millis)
+ * N 번 반복:
+ *   [zigzag varint] 직전 측정 시각과의 차이 (ms, 첫 값은 기준 시각과의 차이)
+ *   [varint       ] 데시벨 x 10 (0.1 dB 단위, 0 ~ 2000)
+ * </pre>
+ *
+ * 1초 간격 측정이면 샘플당 3~4바이트 정도로 줄어든다.
+ * 디코딩은 샘플마다 객체를 만들지 않고 SampleSink 로 바로 넘긴다.
+ */
+public final class NoiseSampleCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.shhtudy.noise+binary";
+    public static final byte VERSION = 1;
+
+    private static final double DECIBEL_SCALE = 10.0;
+    private static final long MAX_QUANTIZED = Math.round(NoiseSessionAccumulator.MAX_DECIBEL * DECIBEL_SCALE);
+
+    private NoiseSampleCodec() {
+    }
+
+    @FunctionalInterface
+    public interface SampleSink {
+        void accept(long measuredAtMillis, double decibel);
+    }
+
+    /**
+     * 헤더만 읽어서 측정값 개수를 반환 (버퍼 위치는 바꾸지 않음)
+     */
+    public static int peekCount(ByteBuffer in) {
+        ByteBuffer view = in.duplicate();
+        try {
+            readVersion(view);
+            return toCount(readVarLong(view));
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+    }
+
+    /**
+     * 측정값을 순서대로 sink 에 전달하고 개수를 반환
+     */
+    public static int decode(ByteBuffer in, int maxCount, SampleSink sink) {
+        try {
+            readVersion(in);
+            int count = toCount(readVarLong(in));
+            if (count > maxCount) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+
+            long timestamp = readVarLong(in);
+            for (int i = 0; i < count; i++) {
+                timestamp += zigZagDecode(readVarLong(in));
+                long quantized = readVarLong(in);
+                // varint 는 부호가 없어 64bit 를 넘기면 음수로 읽힌다
+                if (quantized < 0 || quantized > MAX_QUANTIZED) {
+                    throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+                }
+                sink.accept(timestamp, quantized / DECIBEL_SCALE);
+            }
+
+            if (in.hasRemaining()) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            return count;
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+    }
+
+    /**
+     * 클라이언트/테스트용 인코더
+     */
+    public static byte[] encode(long[] measuredAtMillis, double[] decibels, int count) {
+        // 최악의 경우: 헤더(1 + 10 + 10) + 샘플당(10 + 10)
+        ByteBuffer out = ByteBuffer.allocate(21 + count * 20);
+        out.put(VERSION);
+        writeVarLong(out, count);
+
+        long base = count > 0 ? measuredAtMillis[0] : 0;
+        writeVarLong(out, base);
+
+        long prev = base;
+        for (int i = 0; i < count; i++) {
+            writeVarLong(out, zigZagEncode(measuredAtMillis[i] - prev));
+            writeVarLong(out, Math.round(decibels[i] * DECIBEL_SCALE));
+            prev = measuredAtMillis[i];
+        }
+
+        byte[] result = new byte[out.position()];
+        out.flip();
+        out.get(result);
+        return result;
+    }
+
+    private static void readVersion(ByteBuffer in) {
+        if (in.get() != VERSION) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+    }
+
+    private static int toCount(long value) {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+        return (int) value;
+    }
+
+    public static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+    }
+
+    public static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
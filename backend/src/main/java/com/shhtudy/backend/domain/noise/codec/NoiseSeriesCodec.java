@@ -0,0 +1,283 @@
+package com.shhtudy.backend.domain.noise.codec;
+
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 세션 측정값 시계열 압축 포맷 (Gorilla 방식, noise_sessions.sample_series)
+ *
+ * <pre>
+ * [1 byte ] 버전 (0x01)
+ * [varint ] 측정값 개수 N
+ * 이후 비트열 (MSB 부터):
+ *   첫 값: 측정 시각 64bit (epoch millis) + 데시벨 64bit (double 원본)
+ *   이후 시각: 직전 간격과의 차이(delta-of-delta, zigzag)
+ *     '0'               → 간격 그대로
+ *     '10'   + 7bit     → -64 ~ 63 ms
+ *     '110'  + 9bit     → -256 ~ 255 ms
+ *     '1110' + 12bit    → -2048 ~ 2047 ms
+ *     '1111' + 64bit    → 그 외
+ *   이후 데시벨: 직전 값과의 XOR
+ *     '0'               → 같은 값
+ *     '10'  + 유효 비트 → 직전 선행/후행 0 비트 범위 안에 들어감
+ *     '11'  + 선행 0 개수 6bit + 유효 비트 수-1 6bit + 유효 비트
+ * </pre>
+ *
+ * 1초 간격 측정이면 시각은 샘플당 1~9비트, 조용해서 값이 그대로면 데시벨도 1비트로 줄어든다.
+ * 원본 값을 그대로 복원한다. (손실 없음)
+ */
+public final class NoiseSeriesCodec {
+
+    public static final byte VERSION = 1;
+
+    private NoiseSeriesCodec() {
+    }
+
+    /**
+     * 저장된 측정값 개수 (비트열은 읽지 않음)
+     */
+    public static int peekCount(byte[] series) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(series);
+            if (in.get() != VERSION) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            return (int) NoiseSampleCodec.readVarLong(in);
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+    }
+
+    public static int decode(byte[] series, NoiseSampleCodec.SampleSink sink) {
+        return decode(series, Long.MIN_VALUE, Long.MAX_VALUE, sink);
+    }
+
+    /**
+     * [fromMillis, toMillis] 범위의 측정값만 순서대로 sink 에 전달하고 개수를 반환
+     * 샘플마다 객체를 만들지 않고, 범위를 넘어서면 나머지는 읽지 않는다.
+     */
+    public static int decode(byte[] series, long fromMillis, long toMillis, NoiseSampleCodec.SampleSink sink) {
+        ByteBuffer in = ByteBuffer.wrap(series);
+        int count;
+        try {
+            if (in.get() != VERSION) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            count = (int) NoiseSampleCodec.readVarLong(in);
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+        if (count <= 0) {
+            return 0;
+        }
+
+        BitReader reader = new BitReader(series, in.position());
+        long timestamp = reader.read(64);
+        long valueBits = reader.read(64);
+        long delta = 0;
+        int leading = 0;
+        int trailing = 0;
+
+        int emitted = 0;
+        for (int i = 0; ; i++) {
+            if (timestamp > toMillis) {
+                break;
+            }
+            if (timestamp >= fromMillis) {
+                sink.accept(timestamp, Double.longBitsToDouble(valueBits));
+                emitted++;
+            }
+            if (i + 1 == count) {
+                break;
+            }
+
+            delta += readDeltaOfDelta(reader);
+            timestamp += delta;
+
+            if (reader.read(1) != 0) {
+                if (reader.read(1) != 0) {
+                    leading = (int) reader.read(6);
+                    int significant = (int) reader.read(6) + 1;
+                    trailing = 64 - leading - significant;
+                }
+                int significant = 64 - leading - trailing;
+                valueBits ^= reader.read(significant) << trailing;
+            }
+        }
+        return emitted;
+    }
+
+    private static long readDeltaOfDelta(BitReader reader) {
+        if (reader.read(1) == 0) {
+            return 0;
+        }
+        int bits;
+        if (reader.read(1) == 0) {
+            bits = 7;
+        } else if (reader.read(1) == 0) {
+            bits = 9;
+        } else if (reader.read(1) == 0) {
+            bits = 12;
+        } else {
+            bits = 64;
+        }
+        long zigZag = reader.read(bits);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    /**
+     * 측정값을 시각 순서대로 하나씩 추가하는 인코더 (행을 읽으면서 바로 압축)
+     */
+    public static final class Encoder {
+
+        private final BitWriter writer = new BitWriter();
+        private int count;
+        private long prevTimestamp;
+        private long prevDelta;
+        private long prevValueBits;
+        private int prevLeading = Integer.MAX_VALUE;
+        private int prevTrailing;
+
+        public void add(long measuredAtMillis, double decibel) {
+            long valueBits = Double.doubleToRawLongBits(decibel);
+            if (count == 0) {
+                writer.write(measuredAtMillis, 64);
+                writer.write(valueBits, 64);
+            } else {
+                writeTimestamp(measuredAtMillis);
+                writeValue(valueBits);
+            }
+            prevTimestamp = measuredAtMillis;
+            prevValueBits = valueBits;
+            count++;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public byte[] toBytes() {
+            ByteBuffer header = ByteBuffer.allocate(11);
+            header.put(VERSION);
+            NoiseSampleCodec.writeVarLong(header, count);
+
+            byte[] body = writer.toBytes();
+            byte[] result = new byte[header.position() + body.length];
+            System.arraycopy(header.array(), 0, result, 0, header.position());
+            System.arraycopy(body, 0, result, header.position(), body.length);
+            return result;
+        }
+
+        private void writeTimestamp(long timestamp) {
+            long delta = timestamp - prevTimestamp;
+            long deltaOfDelta = delta - prevDelta;
+            prevDelta = delta;
+
+            long zigZag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63);
+            if (deltaOfDelta == 0) {
+                writer.write(0b0, 1);
+            } else if (zigZag < (1L << 7)) {
+                writer.write(0b10, 2);
+                writer.write(zigZag, 7);
+            } else if (zigZag < (1L << 9)) {
+                writer.write(0b110, 3);
+                writer.write(zigZag, 9);
+            } else if (zigZag < (1L << 12)) {
+                writer.write(0b1110, 4);
+                writer.write(zigZag, 12);
+            } else {
+                writer.write(0b1111, 4);
+                writer.write(zigZag, 64);
+            }
+        }
+
+        private void writeValue(long valueBits) {
+            long xor = valueBits ^ prevValueBits;
+            if (xor == 0) {
+                writer.write(0b0, 1);
+                return;
+            }
+            int leading = Long.numberOfLeadingZeros(xor);
+            int trailing = Long.numberOfTrailingZeros(xor);
+
+            if (prevLeading != Integer.MAX_VALUE && leading >= prevLeading && trailing >= prevTrailing) {
+                // 직전 유효 비트 범위 재사용
+                writer.write(0b10, 2);
+                writer.write(xor >>> prevTrailing, 64 - prevLeading - prevTrailing);
+                return;
+            }
+
+            int significant = 64 - leading - trailing;
+            writer.write(0b11, 2);
+            writer.write(leading, 6);
+            writer.write(significant - 1, 6);
+            writer.write(xor >>> trailing, significant);
+            prevLeading = leading;
+            prevTrailing = trailing;
+        }
+    }
+
+    private static final class BitWriter {
+
+        private byte[] buffer = new byte[256];
+        private long bitPosition;
+
+        // value 의 하위 bits 비트를 MSB 부터 기록
+        void write(long value, int bits) {
+            ensureCapacity(bitPosition + bits);
+            for (int remaining = bits; remaining > 0; ) {
+                int byteIndex = (int) (bitPosition >>> 3);
+                int freeInByte = 8 - (int) (bitPosition & 7);
+                int chunk = Math.min(freeInByte, remaining);
+                int shift = remaining - chunk;
+                int part = (int) ((value >>> shift) & ((1 << chunk) - 1));
+                buffer[byteIndex] |= (byte) (part << (freeInByte - chunk));
+                bitPosition += chunk;
+                remaining -= chunk;
+            }
+        }
+
+        byte[] toBytes() {
+            return Arrays.copyOf(buffer, (int) ((bitPosition + 7) >>> 3));
+        }
+
+        private void ensureCapacity(long bits) {
+            int needed = (int) ((bits + 7) >>> 3);
+            if (needed > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(needed, buffer.length * 2));
+            }
+        }
+    }
+
+    private static final class BitReader {
+
+        private final byte[] buffer;
+        private long bitPosition;
+
+        BitReader(byte[] buffer, int byteOffset) {
+            this.buffer = buffer;
+            this.bitPosition = (long) byteOffset << 3;
+        }
+
+        long read(int bits) {
+            if (bitPosition + bits > ((long) buffer.length << 3)) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            long result = 0;
+            for (int remaining = bits; remaining > 0; ) {
+                int byteIndex = (int) (bitPosition >>> 3);
+                int availableInByte = 8 - (int) (bitPosition & 7);
+                int chunk = Math.min(availableInByte, remaining);
+                int part = (buffer[byteIndex] >>> (availableInByte - chunk)) & ((1 << chunk) - 1);
+                result = (result << chunk) | part;
+                bitPosition += chunk;
+                remaining -= chunk;
+            }
+            return result;
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package com.shhtudy.backend.domain.noise.controller;
 
+import com.shhtudy.backend.domain.noise.codec.NoisePcmCodec;
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
 import com.shhtudy.backend.domain.noise.dto.*;
+import com.shhtudy.backend.domain.noise.entity.NoiseDailyReport;
+import com.shhtudy.backend.domain.noise.enums.DistributionPeriod;
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.TrendRange;
+import com.shhtudy.backend.domain.noise.service.NoiseHeatmapService;
 import com.shhtudy.backend.domain.noise.service.NoiseService;
+import com.shhtudy.backend.domain.noise.service.NoiseTrendService;
 import com.shhtudy.backend.global.auth.FirebaseAuthService;
 import com.shhtudy.backend.global.response.ResponseCustom;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,9 +22,21 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/noise")
@@ -26,24 +46,92 @@ import org.springframework.web.bind.annotation.*;
 public class NoiseController {
 
     private final NoiseService noiseService;
+    private final NoiseHeatmapService noiseHeatmapService;
+    private final NoiseTrendService noiseTrendService;
     private final FirebaseAuthService firebaseAuthService;
 
+    // 측정값 저장 응답에 서버가 정한 전송 간격을 헤더로 붙인다
+    public static final String UPLOAD_INTERVAL_HEADER = "X-Noise-Upload-Interval-Ms";
+    public static final String SAMPLE_INTERVAL_HEADER = "X-Noise-Sample-Interval-Ms";
+
     private String extractUid(String authorizationHeader) {
         return firebaseAuthService.verifyIdToken(authorizationHeader.replace("Bearer ", ""));
     }
 
+    private static HttpHeaders samplingHeaders(NoiseSamplingAdviceDto advice) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(UPLOAD_INTERVAL_HEADER, String.valueOf(advice.getUploadIntervalMs()));
+        headers.set(SAMPLE_INTERVAL_HEADER, String.valueOf(advice.getSampleIntervalMs()));
+        return headers;
+    }
+
     @PostMapping("/event")
-    @Operation(summary = "소음 이벤트 저장", description = "실시간 측정된 소음 이벤트를 서버에 저장합니다.")
-    public ResponseCustom<Void> saveNoiseEvent(@RequestHeader("Authorization") String authorizationHeader,
-                                               @RequestBody @Valid NoiseEventRequestDto dto) {
+    @Operation(summary = "소음 이벤트 저장", description = "실시간 측정된 소음 이벤트를 서버에 저장합니다. 응답 헤더 " + UPLOAD_INTERVAL_HEADER + " 로 다음 전송 간격을 알려줍니다.")
+    public ResponseEntity<ResponseCustom<Void>> saveNoiseEvent(@RequestHeader("Authorization") String authorizationHeader,
+                                                               @RequestBody @Valid NoiseEventRequestDto dto) {
 
         String userId = extractUid(authorizationHeader);
-        noiseService.saveNoiseEvent(userId, dto);
-        return ResponseCustom.OK();
+        NoiseSamplingAdviceDto advice = noiseService.saveNoiseEvent(userId, dto);
+        return ResponseEntity.ok().headers(samplingHeaders(advice)).body(ResponseCustom.OK());
+    }
+
+    @PostMapping("/events/batch")
+    @Operation(summary = "소음 이벤트 일괄 저장", description = "측정 시각이 포함된 소음 측정값 여러 건을 한 번에 저장합니다. (Content-Encoding: gzip 지원) 응답 헤더 " + UPLOAD_INTERVAL_HEADER + " 로 다음 전송 간격을 알려줍니다.")
+    public ResponseEntity<ResponseCustom<Void>> saveNoiseEvents(@RequestHeader("Authorization") String authorizationHeader,
+                                                                @RequestBody @Valid NoiseEventBatchRequestDto dto) {
+
+        String userId = extractUid(authorizationHeader);
+        NoiseSamplingAdviceDto advice = noiseService.saveNoiseEvents(userId, dto);
+        return ResponseEntity.ok().headers(samplingHeaders(advice)).body(ResponseCustom.OK());
+    }
+
+    @PostMapping(value = "/events/batch", consumes = NoiseSampleCodec.CONTENT_TYPE)
+    @Operation(summary = "소음 이벤트 일괄 저장 (바이너리)",
+            description = "델타 인코딩된 바이너리 포맷(" + NoiseSampleCodec.CONTENT_TYPE + ")으로 소음 측정값을 저장합니다. 성공 시 본문 없이 204를 반환합니다.")
+    public ResponseEntity<Void> saveNoiseSamples(@RequestHeader("Authorization") String authorizationHeader,
+                                                 @RequestBody byte[] body) {
+
+        String userId = extractUid(authorizationHeader);
+        NoiseSamplingAdviceDto advice = noiseService.saveNoiseSamples(userId, ByteBuffer.wrap(body));
+        return ResponseEntity.noContent().headers(samplingHeaders(advice)).build();
+    }
+
+    @PostMapping(value = "/events/pcm", consumes = NoisePcmCodec.CONTENT_TYPE)
+    @Operation(summary = "소음 원본 진폭 프레임 저장",
+            description = "16bit PCM 프레임(" + NoisePcmCodec.CONTENT_TYPE + ")을 받아 서버에서 RMS/dBFS 와 기기 모델별 보정 dB 를 계산해 저장합니다. 프레임 하나가 측정값 하나입니다. 성공 시 본문 없이 204를 반환합니다.")
+    public ResponseEntity<Void> saveNoisePcmFrames(@RequestHeader("Authorization") String authorizationHeader,
+                                                   @Parameter(description = "기기 모델명 (보정값 선택, 없으면 기본 보정값)", example = "SM-S918N")
+                                                   @RequestHeader(value = "X-Device-Model", required = false) String deviceModel,
+                                                   @RequestBody byte[] body) {
+
+        String userId = extractUid(authorizationHeader);
+        NoiseSamplingAdviceDto advice = noiseService.saveNoisePcmFrames(userId, ByteBuffer.wrap(body), deviceModel);
+        return ResponseEntity.noContent().headers(samplingHeaders(advice)).build();
+    }
+
+    @PostMapping("/events/windows")
+    @Operation(summary = "소음 구간 요약 일괄 저장",
+            description = "측정값이 모두 45 dB 이하인 구간(예: 10초)의 개수/합/최소/최대를 저장합니다. 원본 측정값을 보낸 것과 세션 통계와 점수가 같습니다. "
+                    + "기준 초과 측정값이 하나라도 있는 구간은 거절(-5011)되므로 원본 측정값으로 보내야 합니다.")
+    public ResponseEntity<ResponseCustom<Void>> saveNoiseWindows(@RequestHeader("Authorization") String authorizationHeader,
+                                                                 @RequestBody @Valid NoiseWindowBatchRequestDto dto) {
+
+        String userId = extractUid(authorizationHeader);
+        NoiseSamplingAdviceDto advice = noiseService.saveNoiseWindows(userId, dto);
+        return ResponseEntity.ok().headers(samplingHeaders(advice)).body(ResponseCustom.OK());
+    }
+
+    @GetMapping("/sampling")
+    @Operation(summary = "측정/전송 간격 조회",
+            description = "좌석 소음 수준과 서버 수신 부하로 정한 전송 간격을 조회합니다. 측정값 저장 응답 헤더(" + UPLOAD_INTERVAL_HEADER + ")와 같은 값입니다. "
+                    + "조용한 좌석은 간격 동안 측정값을 모아서 보내고, 기준 초과 측정값이 나오면 간격과 관계없이 바로 보냅니다.")
+    public ResponseCustom<NoiseSamplingAdviceDto> getSamplingAdvice(@RequestHeader("Authorization") String authorizationHeader) {
+        String userId = extractUid(authorizationHeader);
+        return ResponseCustom.OK(noiseService.getSamplingAdvice(userId));
     }
 
     @GetMapping("/events")
-    @Operation(summary = "소음 이벤트 목록 조회", parameters = {
+    @Operation(summary = "소음 이벤트 목록 조회", description = "원본으로 저장된 측정값만 나옵니다. 기준(45dB) 미만의 조용한 측정값은 묶음(noise_sample_runs)으로 저장되어 이 목록에 없으며, 전체 측정값은 GET /api/noise/samples 로 조회합니다.", parameters = {
             @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0"),
             @Parameter(name = "size", description = "페이지 크기", example = "10"),
             @Parameter(name = "sort", description = "정렬 기준 (measuredAt,DESC)", example = "measuredAt,DESC")
@@ -57,20 +145,138 @@ public class NoiseController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/events/cursor")
+    @Operation(summary = "소음 이벤트 목록 조회 (커서)",
+            description = "측정 시각 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회하며, 페이지 깊이와 관계없이 일정한 비용으로 조회됩니다.")
+    public ResponseCustom<NoiseEventCursorResponseDto> getNoiseEventCursorPage(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부 (COUNT 쿼리 실행)", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        String userId = extractUid(authorizationHeader);
+        return ResponseCustom.OK(noiseService.getNoiseEventCursorPage(userId, cursor, size, includeTotal));
+    }
+
     @PutMapping("/session/close")
-    @Operation(summary = "소음 세션 종료 및 통계 저장")
+    @Operation(summary = "소음 세션 종료 및 통계 저장", description = "통계는 서버에서 누적한 측정값으로 계산합니다. 요청 본문은 하위 호환용이며 무시됩니다.")
     public ResponseCustom<Void> closeNoiseSession(@RequestHeader("Authorization") String authorizationHeader,
-                                                  @RequestBody @Validated NoiseSessionRequestDto requestDto) {
+                                                  @RequestBody(required = false) @Validated NoiseSessionRequestDto requestDto) {
         String userId = extractUid(authorizationHeader);
-        noiseService.closeSession(userId, requestDto);
+        // 버퍼에 남은 측정값을 먼저 커밋해야 종료 통계/리포트 계산에서 빠지지 않는다
+        noiseService.flushPendingWrites(userId);
+        noiseService.closeSession(userId);
         return ResponseCustom.OK();
     }
 
     @GetMapping("/report")
-    @Operation(summary = "소음 리포트 조회", description = "가장 최근 소음 세션의 통계 리포트를 조회합니다.")
-    public ResponseCustom<NoiseReportResponseDto> getReport(@RequestHeader("Authorization") String authorizationHeader) {
+    @Operation(summary = "소음 리포트 조회", description = "오늘 소음 리포트를 조회합니다. 세션 종료 시 저장된 스냅샷을 돌려주며 ETag 로 변경 여부를 확인할 수 있습니다. (변경 없으면 304)")
+    public ResponseEntity<ResponseCustom<NoiseReportResponseDto>> getReport(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String userId = extractUid(authorizationHeader);
+
+        Optional<NoiseDailyReport> snapshot = noiseService.findReportSnapshot(userId, LocalDate.now());
+        if (snapshot.isEmpty()) {
+            // 오늘 종료된 세션이 없으면 진행 중인 값으로 계산 (캐시하지 않음)
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(ResponseCustom.OK(noiseService.getNoiseReport(userId)));
+        }
+
+        NoiseDailyReport report = snapshot.get();
+        NoiseReportResponseDto dto = noiseService.toReportDto(report);
+        // 구역 순위는 다른 사용자의 세션 종료로도 바뀌므로 구역 세션 수도 ETag 에 넣는다
+        String eTag = "\"" + report.getId().getReportDate() + "-"
+                + report.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "-"
+                + (dto.getZoneRank() != null ? dto.getZoneRank().getSessionCount() : 0) + "\"";
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ifNoneMatch != null && (ifNoneMatch.contains(eTag) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(ResponseCustom.OK(dto));
+    }
+
+    @GetMapping("/history")
+    @Operation(summary = "소음 이력 조회", description = "기간 [from, to)의 소음 통계를 분/시간/일 단위 구간으로 조회합니다. 기간 미지정 시 오늘 하루, 단위 미지정 시 기간에 맞춰 자동 선택합니다.")
+    public ResponseCustom<NoiseHistoryResponseDto> getHistory(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @Parameter(description = "조회 시작 시각", example = "2025-06-04T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (미포함)", example = "2025-06-05T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "구간 단위 (MINUTE, HOUR, DAY)", example = "HOUR")
+            @RequestParam(required = false) RollupResolution resolution) {
+        String userId = extractUid(authorizationHeader);
+        return ResponseCustom.OK(noiseService.getNoiseHistory(userId, from, to, resolution));
+    }
+
+    @GetMapping("/samples")
+    @Operation(summary = "소음 측정값 원본 조회", description = "기간 [from, to)의 측정값을 시각 순서대로 조회합니다. 압축 보관된 세션도 풀어서 포함하고, 조용한 측정값은 묶음(runs)으로 따로 돌려줍니다. 최대 하루, 기간 미지정 시 오늘 하루.")
+    public ResponseCustom<NoiseSampleSeriesResponseDto> getSamples(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @Parameter(description = "조회 시작 시각", example = "2025-06-04T09:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (미포함)", example = "2025-06-04T12:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        String userId = extractUid(authorizationHeader);
+        return ResponseCustom.OK(noiseService.getNoiseSampleSeries(userId, from, to));
+    }
+
+    @GetMapping(value = "/samples", produces = NoiseSampleCodec.CONTENT_TYPE)
+    @Operation(summary = "소음 측정값 원본 조회 (바이너리)",
+            description = "Accept: " + NoiseSampleCodec.CONTENT_TYPE + " 이면 업로드와 같은 델타 인코딩 포맷으로 반환합니다. 조용한 측정값 묶음은 포함하지 않습니다.")
+    public ResponseEntity<byte[]> getSamplesBinary(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        String userId = extractUid(authorizationHeader);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NoiseSampleCodec.CONTENT_TYPE))
+                .body(noiseService.getNoiseSampleBinary(userId, from, to));
+    }
+
+    @GetMapping("/trends")
+    @Operation(summary = "소음 추이 조회", description = "최근 일주일(week), 30일(month), 1년(year)의 일별 평균/최고 데시벨, 기준 초과 횟수, 포인트 변화와 등급 변화를 조회합니다.")
+    public ResponseCustom<NoiseTrendResponseDto> getTrends(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @Parameter(description = "조회 범위 (week, month, year)", example = "month")
+            @RequestParam(defaultValue = "week") String range) {
+        String userId = extractUid(authorizationHeader);
+        return ResponseCustom.OK(noiseTrendService.getTrend(userId, TrendRange.from(range)));
+    }
+
+    @GetMapping("/distribution")
+    @Operation(summary = "데시벨 분포 조회", description = "최근 일주일(WEEK) 또는 30일(MONTH)의 데시벨 분포와 p50/p90/p99를 조회합니다.")
+    public ResponseCustom<NoiseDistributionResponseDto> getDistribution(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @Parameter(description = "조회 기간 (WEEK, MONTH)", example = "WEEK")
+            @RequestParam(defaultValue = "WEEK") DistributionPeriod period) {
         String userId = extractUid(authorizationHeader);
-        return ResponseCustom.OK(noiseService.getNoiseReport(userId));
+        return ResponseCustom.OK(noiseService.getNoiseDistribution(userId, period));
+    }
+
+    @GetMapping("/heatmap")
+    @Operation(summary = "실시간 소음 히트맵 조회", description = "좌석별 최신/최근 평균 데시벨과 구역(A/B/C/F)별 집계를 조회합니다. DB를 조회하지 않습니다.")
+    public ResponseCustom<NoiseHeatmapDto> getHeatmap(@RequestHeader("Authorization") String authorizationHeader) {
+        extractUid(authorizationHeader);
+        return ResponseCustom.OK(noiseHeatmapService.getSnapshot());
+    }
+
+    @GetMapping(value = "/heatmap/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "실시간 소음 히트맵 스트림 (SSE)",
+            description = "연결 시 snapshot 이벤트로 전체 상태를, 이후 tick 마다 delta 이벤트로 바뀐 좌석/구역만 전송합니다.")
+    public SseEmitter streamHeatmap(@RequestHeader("Authorization") String authorizationHeader) {
+        extractUid(authorizationHeader);
+        return noiseHeatmapService.subscribe();
     }
 
     @GetMapping("/manner")
@@ -0,0 +1,26 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "좌석별 실시간 소음 DTO")
+public class HeatmapSeatDto {
+
+    @Schema(description = "좌석 ID", example = "12")
+    private int seatId;
+
+    @Schema(description = "구역 (A, B, C, F)", example = "A")
+    private String zone;
+
+    @Schema(description = "측정 중 여부 (최근 측정값이 없으면 false)", example = "true")
+    private boolean active;
+
+    @Schema(description = "최신 데시벨", example = "41.5")
+    private double latestDecibel;
+
+    @Schema(description = "최근 평균 데시벨", example = "39.8")
+    private double avgDecibel;
+}
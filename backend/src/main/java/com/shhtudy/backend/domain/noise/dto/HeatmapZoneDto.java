@@ -0,0 +1,23 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "구역별 실시간 소음 DTO")
+public class HeatmapZoneDto {
+
+    @Schema(description = "구역 (A, B, C, F)", example = "A")
+    private String zone;
+
+    @Schema(description = "측정 중인 좌석 수", example = "8")
+    private int activeSeats;
+
+    @Schema(description = "측정 중인 좌석들의 최근 평균 데시벨", example = "38.2")
+    private double avgDecibel;
+
+    @Schema(description = "측정 중인 좌석들의 최신 데시벨 중 최고값", example = "52.0")
+    private double maxDecibel;
+}
@@ -20,4 +20,7 @@ public class MannerScoreResponseDto {
 
     @Schema(description = "기준 초과 횟수", example = "3")
     private int eventCount;
-}
\ No newline at end of file
+
+    @Schema(description = "오늘 마지막 세션의 구역 내 순위 (오늘 종료된 세션이 없거나 구역을 모르면 null)")
+    private NoiseZoneRankDto zoneRank;
+}
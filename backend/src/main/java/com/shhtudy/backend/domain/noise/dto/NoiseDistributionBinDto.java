@@ -0,0 +1,17 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "데시벨 분포 막대 DTO (1 dB 구간)")
+public class NoiseDistributionBinDto {
+
+    @Schema(description = "구간 상한 데시벨 (이전 값 초과 ~ 이 값 이하)", example = "42.0")
+    private double decibel;
+
+    @Schema(description = "측정 횟수", example = "1250")
+    private long count;
+}
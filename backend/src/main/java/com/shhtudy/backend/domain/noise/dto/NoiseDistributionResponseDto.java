@@ -0,0 +1,44 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "기간별 데시벨 분포 응답 DTO")
+public class NoiseDistributionResponseDto {
+
+    @Schema(description = "조회 기간 (WEEK, MONTH)", example = "WEEK")
+    private String period;
+
+    @Schema(description = "시작 날짜", example = "2025-05-29")
+    private LocalDate from;
+
+    @Schema(description = "종료 날짜 (포함)", example = "2025-06-04")
+    private LocalDate to;
+
+    @Schema(description = "측정 횟수", example = "86400")
+    private long sampleCount;
+
+    @Schema(description = "데시벨 중앙값 (p50)", example = "38.4")
+    private double p50Decibel;
+
+    @Schema(description = "데시벨 90 백분위수 (p90)", example = "47.1")
+    private double p90Decibel;
+
+    @Schema(description = "데시벨 99 백분위수 (p99)", example = "58.6")
+    private double p99Decibel;
+
+    @Schema(description = "최고 데시벨", example = "63.0")
+    private double maxDecibel;
+
+    @Schema(description = "조용한 비율", example = "0.82")
+    private double quietRatio;
+
+    @Schema(description = "1 dB 단위 분포 (측정값이 있는 구간만)")
+    private List<NoiseDistributionBinDto> bins;
+}
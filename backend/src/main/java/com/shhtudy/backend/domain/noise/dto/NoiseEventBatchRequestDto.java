@@ -0,0 +1,24 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "소음 이벤트 일괄 기록 요청 DTO")
+public class NoiseEventBatchRequestDto {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @Valid
+    @NotEmpty(message = "측정값이 비어 있습니다.")
+    @Size(max = MAX_BATCH_SIZE, message = "한 번에 최대 1000개까지 업로드할 수 있습니다.")
+    @Schema(description = "측정 시각이 포함된 소음 측정값 목록")
+    private List<NoiseEventItemDto> events;
+}
@@ -0,0 +1,25 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "소음 이벤트 커서 목록 응답 DTO")
+public class NoiseEventCursorResponseDto {
+
+    @Schema(description = "소음 이벤트 리스트 (최신순)")
+    private List<NoiseEventDto> events;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "djF8MjAyNS0wNi0wNFQxNTozMDowMHwxMjM0NQ")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 개수 (includeTotal=true 일 때만)", example = "42", nullable = true)
+    private Long totalCount;
+}
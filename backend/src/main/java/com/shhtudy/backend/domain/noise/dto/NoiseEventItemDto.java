@@ -0,0 +1,26 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Schema(description = "일괄 업로드용 소음 측정값 DTO")
+public class NoiseEventItemDto {
+
+    @NotNull
+    @DecimalMin(value = "0.0", message = "데시벨 값은 0 이상이어야 합니다.")
+    @DecimalMax(value = "200.0", message = "데시벨 값은 200 이하여야 합니다.")
+    @Schema(description = "측정된 데시벨 값", example = "55.0")
+    private Double decibel;
+
+    @NotNull
+    @Schema(description = "측정 시각", example = "2025-06-04T15:30:00")
+    private LocalDateTime measuredAt;
+}
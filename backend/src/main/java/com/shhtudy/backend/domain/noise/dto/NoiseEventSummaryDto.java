@@ -1,6 +1,6 @@
 package com.shhtudy.backend.domain.noise.dto;
 
-import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.store.NoiseEventRecord;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,8 +18,8 @@ public class NoiseEventSummaryDto {
     @Schema(description = "발생 시각", example = "2025-04-25T14:32:00")
     private LocalDateTime measuredAt;
 
-    // NoiseEvent → NoiseEventSummaryDto 변환
-    public static NoiseEventSummaryDto from(NoiseEvent event) {
+    // NoiseEventRecord → NoiseEventSummaryDto 변환
+    public static NoiseEventSummaryDto from(NoiseEventRecord event) {
         return NoiseEventSummaryDto.builder()
                 .decibel(event.getDecibel())
                 .measuredAt(event.getMeasuredAt())
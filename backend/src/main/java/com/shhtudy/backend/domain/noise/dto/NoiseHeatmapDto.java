@@ -0,0 +1,25 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "소음 히트맵 DTO (snapshot: 전체, delta: 직전 전송 이후 바뀐 좌석/구역만)")
+public class NoiseHeatmapDto {
+
+    @Schema(description = "히트맵 버전 (tick 마다 증가)", example = "1024")
+    private long version;
+
+    @Schema(description = "생성 시각 (epoch millis)", example = "1717482600000")
+    private long generatedAt;
+
+    @Schema(description = "좌석 목록")
+    private List<HeatmapSeatDto> seats;
+
+    @Schema(description = "구역 목록")
+    private List<HeatmapZoneDto> zones;
+}
@@ -0,0 +1,43 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import com.shhtudy.backend.domain.noise.stats.NoiseBucketStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Schema(description = "소음 이력 구간 DTO")
+public class NoiseHistoryBucketDto {
+
+    @Schema(description = "구간 시작 시각", example = "2025-06-04T15:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "측정 횟수", example = "3600")
+    private long sampleCount;
+
+    @Schema(description = "평균 데시벨", example = "41.2")
+    private double avgDecibel;
+
+    @Schema(description = "최저 데시벨", example = "30.5")
+    private double minDecibel;
+
+    @Schema(description = "최고 데시벨", example = "63.0")
+    private double maxDecibel;
+
+    @Schema(description = "기준 초과 횟수", example = "5")
+    private long overCount;
+
+    public static NoiseHistoryBucketDto from(NoiseBucketStats stats) {
+        return NoiseHistoryBucketDto.builder()
+                .bucketStart(stats.getBucketStart())
+                .sampleCount(stats.getSampleCount())
+                .avgDecibel(stats.getAverageDecibel())
+                .minDecibel(stats.getMinDecibel())
+                .maxDecibel(stats.getMaxDecibel())
+                .overCount(stats.getOverCount())
+                .build();
+    }
+}
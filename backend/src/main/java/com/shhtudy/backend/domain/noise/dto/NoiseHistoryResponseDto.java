@@ -0,0 +1,19 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "소음 이력 응답 DTO")
+public class NoiseHistoryResponseDto {
+
+    @Schema(description = "구간 단위 (MINUTE, HOUR, DAY)", example = "HOUR")
+    private String resolution;
+
+    @Schema(description = "구간별 집계 리스트 (측정값이 없는 구간은 생략)")
+    private List<NoiseHistoryBucketDto> buckets;
+}
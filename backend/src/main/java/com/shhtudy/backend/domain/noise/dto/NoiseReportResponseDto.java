@@ -28,4 +28,16 @@ public class NoiseReportResponseDto {
 
     @Schema(description = "내 조용한 비율", example = "0.82")
     private double userQuietRatio;
+
+    @Schema(description = "오늘 데시벨 중앙값 (p50)", example = "38.4")
+    private double p50Decibel;
+
+    @Schema(description = "오늘 데시벨 90 백분위수 (p90)", example = "47.1")
+    private double p90Decibel;
+
+    @Schema(description = "오늘 데시벨 99 백분위수 (p99)", example = "58.6")
+    private double p99Decibel;
+
+    @Schema(description = "오늘 마지막 세션의 구역 내 순위 (구역을 모르면 null)")
+    private NoiseZoneRankDto zoneRank;
 }
@@ -0,0 +1,31 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Schema(description = "조용한 측정값 묶음 DTO (기준 이하 측정값을 1분 이내로 묶어 저장한 구간)")
+public class NoiseSampleRunDto {
+
+    @Schema(description = "첫 측정 시각", example = "2025-06-04T15:30:00")
+    private LocalDateTime startAt;
+
+    @Schema(description = "마지막 측정 시각", example = "2025-06-04T15:30:59")
+    private LocalDateTime endAt;
+
+    @Schema(description = "묶인 측정값 개수", example = "60")
+    private long sampleCount;
+
+    @Schema(description = "평균 데시벨", example = "38.2")
+    private double avgDecibel;
+
+    @Schema(description = "최소 데시벨", example = "35.0")
+    private double minDecibel;
+
+    @Schema(description = "최대 데시벨", example = "42.5")
+    private double maxDecibel;
+}
@@ -0,0 +1,29 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "소음 측정값 원본 시계열 응답 DTO")
+public class NoiseSampleSeriesResponseDto {
+
+    @Schema(description = "조회 시작 시각", example = "2025-06-04T09:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "조회 종료 시각 (미포함)", example = "2025-06-04T12:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "측정값 개수 (묶음에 든 측정값 포함)", example = "10800")
+    private long sampleCount;
+
+    @Schema(description = "개별 측정값 리스트 (기준 초과 또는 단독 측정값, 측정 시각 오름차순)")
+    private List<NoiseEventDto> samples;
+
+    @Schema(description = "조용한 측정값 묶음 리스트 (시작 시각 오름차순)")
+    private List<NoiseSampleRunDto> runs;
+}
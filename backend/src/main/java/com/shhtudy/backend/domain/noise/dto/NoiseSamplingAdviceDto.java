@@ -0,0 +1,21 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import com.shhtudy.backend.domain.noise.enums.SamplingMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "서버가 정한 측정/전송 간격 DTO")
+public class NoiseSamplingAdviceDto {
+
+    @Schema(description = "측정 간격 (ms, 급격한 소음 판정 기준이라 항상 1초)", example = "1000")
+    private long sampleIntervalMs;
+
+    @Schema(description = "전송 간격 (ms, 이 시간 동안 측정값을 모아서 일괄 전송, 기준 초과 측정값은 즉시 전송)", example = "10000")
+    private long uploadIntervalMs;
+
+    @Schema(description = "FULL: 측정값마다 전송, QUIET: 조용한 좌석이라 모아서 전송", example = "QUIET")
+    private SamplingMode mode;
+}
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@Schema(description = "소음 세션 종료 요청 DTO")
+@Schema(description = "소음 세션 종료 요청 DTO (하위 호환용, 서버 누적 통계를 사용하므로 값은 무시됨)")
 public class NoiseSessionRequestDto {
 
     @Schema(description = "평균 데시벨", example = "42.3")
@@ -0,0 +1,37 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@Schema(description = "일별 소음 추이 DTO")
+public class NoiseTrendDayDto {
+
+    @Schema(description = "날짜 (세션 종료일 기준)", example = "2025-06-04")
+    private LocalDate date;
+
+    @Schema(description = "종료된 세션 수", example = "2")
+    private int sessionCount;
+
+    @Schema(description = "평균 데시벨 (측정값 수 가중)", example = "41.2")
+    private double avgDecibel;
+
+    @Schema(description = "최고 데시벨", example = "63.0")
+    private double maxDecibel;
+
+    @Schema(description = "기준 초과 측정값 수", example = "37")
+    private long overCount;
+
+    @Schema(description = "포인트 변화", example = "5")
+    private int pointDelta;
+
+    @Schema(description = "그날 마지막 세션 이후 등급", example = "GOOD")
+    private String grade;
+
+    @Schema(description = "등급이 바뀐 날이면 바뀌기 전 등급", example = "WARNING")
+    private String previousGrade;
+}
@@ -0,0 +1,32 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "소음 추이 응답 DTO")
+public class NoiseTrendResponseDto {
+
+    @Schema(description = "조회 범위 (WEEK, MONTH, YEAR)", example = "MONTH")
+    private String range;
+
+    @Schema(description = "시작 날짜", example = "2025-05-06")
+    private LocalDate from;
+
+    @Schema(description = "종료 날짜 (오늘)", example = "2025-06-04")
+    private LocalDate to;
+
+    @Schema(description = "기간 전체 포인트 변화", example = "12")
+    private int pointDelta;
+
+    @Schema(description = "기간 전체 기준 초과 측정값 수", example = "420")
+    private long overCount;
+
+    @Schema(description = "일별 추이 (세션이 없는 날은 생략)")
+    private List<NoiseTrendDayDto> days;
+}
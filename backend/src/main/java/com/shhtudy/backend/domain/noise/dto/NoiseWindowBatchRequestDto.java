@@ -0,0 +1,24 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "측정 구간 요약 일괄 기록 요청 DTO")
+public class NoiseWindowBatchRequestDto {
+
+    public static final int MAX_WINDOWS = 360; // 10초 구간 기준 1시간
+
+    @Valid
+    @NotEmpty(message = "구간 요약이 비어 있습니다.")
+    @Size(max = MAX_WINDOWS, message = "한 번에 최대 360개 구간까지 업로드할 수 있습니다.")
+    @Schema(description = "측정 시각 순서의 구간 요약 목록 (구간끼리 겹치면 안 됨)")
+    private List<NoiseWindowSummaryDto> windows;
+}
@@ -0,0 +1,57 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Schema(description = "클라이언트가 집계한 측정 구간 요약 DTO (구간 안 측정값이 모두 45 dB 이하일 때만)")
+public class NoiseWindowSummaryDto {
+
+    @NotNull
+    @Schema(description = "구간 첫 측정 시각", example = "2025-06-04T15:30:00")
+    private LocalDateTime startAt;
+
+    @NotNull
+    @Schema(description = "구간 마지막 측정 시각 (첫 측정 시각과 같은 1분 안)", example = "2025-06-04T15:30:09")
+    private LocalDateTime endAt;
+
+    @NotNull
+    @Min(value = 1, message = "측정값 개수는 1 이상이어야 합니다.")
+    @Schema(description = "측정값 개수 (구간 길이 / 측정 간격(1초) + 1 이하)", example = "10")
+    private Long count;
+
+    @NotNull
+    @DecimalMin(value = "0.0", message = "데시벨 합은 0 이상이어야 합니다.")
+    @Schema(description = "데시벨 합", example = "382.5")
+    private Double sum;
+
+    @NotNull
+    @DecimalMin(value = "0.0", message = "데시벨 값은 0 이상이어야 합니다.")
+    @DecimalMax(value = "200.0", message = "데시벨 값은 200 이하여야 합니다.")
+    @Schema(description = "최소 데시벨", example = "35.2")
+    private Double min;
+
+    @NotNull
+    @DecimalMin(value = "0.0", message = "데시벨 값은 0 이상이어야 합니다.")
+    @DecimalMax(value = "200.0", message = "데시벨 값은 200 이하여야 합니다.")
+    @Schema(description = "최대 데시벨", example = "41.8")
+    private Double max;
+
+    @NotNull
+    @Min(value = 0, message = "기준 초과 개수는 0 이상이어야 합니다.")
+    @Schema(description = "기준(45 dB) 초과 측정값 개수 (0 이 아니면 거절, 원본 측정값으로 전송)", example = "0")
+    private Long overCount;
+
+    @NotNull
+    @Min(value = 0, message = "연속 초과 길이는 0 이상이어야 합니다.")
+    @Schema(description = "가장 긴 연속 기준 초과 측정값 수 (0 이 아니면 거절)", example = "0")
+    private Long longestLoudRun;
+}
@@ -0,0 +1,23 @@
+package com.shhtudy.backend.domain.noise.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "구역 내 오늘 세션 순위 DTO")
+public class NoiseZoneRankDto {
+
+    @Schema(description = "구역", example = "B")
+    private String zone;
+
+    @Schema(description = "오늘 이 구역에서 종료된 세션 수", example = "57")
+    private long sessionCount;
+
+    @Schema(description = "평균 데시벨 기준, 내 세션보다 시끄러운 세션 비율 (%) — 비교 대상이 없으면 null", example = "82.1")
+    private Double quieterThanPercent;
+
+    @Schema(description = "조용한 비율 기준, 내 세션보다 조용한 비율이 낮은 세션 비율 (%) — 비교 대상이 없으면 null", example = "75.0")
+    private Double quietRatioPercentile;
+}
@@ -0,0 +1,33 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import com.shhtudy.backend.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 백필 작업의 파티션별 진행 상황 (저장한 행 수는 데이터와 같은 트랜잭션에서 갱신)
+ */
+@Entity
+@Table(name = "noise_backfill_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_noise_backfill_job_partition", columnNames = {"job_id", "partition_no"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoiseBackfillCheckpoint extends BaseEntity {
+
+    @Column(name = "job_id", nullable = false, length = 200)
+    private String jobId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "committed_rows", nullable = false)
+    @Setter
+    private long committedRows;
+
+    // 적재 + 세션 통계 재계산까지 끝났는지
+    @Column(name = "completed", nullable = false)
+    @Setter
+    private boolean completed;
+}
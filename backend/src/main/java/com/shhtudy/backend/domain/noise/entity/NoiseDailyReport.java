@@ -0,0 +1,65 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 하루 소음 리포트 스냅샷 (세션 종료/수정 시에만 다시 계산)
+ * 리포트 조회는 (user_id, report_date) 기본 키 한 번만 읽는다.
+ */
+@Entity
+@Table(name = "noise_daily_reports")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoiseDailyReport {
+
+    @EmbeddedId
+    private NoiseDailyReportId id;
+
+    @Column(name = "grade", nullable = false, length = 10)
+    private String grade;
+
+    @Column(name = "avg_decibel", nullable = false)
+    private double avgDecibel;
+
+    @Column(name = "max_decibel", nullable = false)
+    private double maxDecibel;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    @Column(name = "quiet_ratio", nullable = false)
+    private double quietRatio;
+
+    @Column(name = "p50_decibel", nullable = false)
+    private double p50Decibel;
+
+    @Column(name = "p90_decibel", nullable = false)
+    private double p90Decibel;
+
+    @Column(name = "p99_decibel", nullable = false)
+    private double p99Decibel;
+
+    // 구역 순위 계산용 (그날 마지막으로 종료된 세션 값, 순위는 조회 시 구역 분포로 계산)
+    @Column(name = "zone", length = 10)
+    private String zone;
+
+    @Column(name = "session_avg_decibel", nullable = false)
+    private double sessionAvgDecibel;
+
+    @Column(name = "session_quiet_ratio", nullable = false)
+    private double sessionQuietRatio;
+
+    // 요약 이벤트 (NoiseSeriesCodec, 표시 순서 그대로)
+    @Column(name = "summary_events", columnDefinition = "BLOB")
+    private byte[] summaryEvents;
+
+    // ETag 계산용
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class NoiseDailyReportId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // users.firebase_uid
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+}
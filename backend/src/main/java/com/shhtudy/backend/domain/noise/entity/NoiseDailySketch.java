@@ -0,0 +1,37 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import com.shhtudy.backend.domain.common.BaseEntity;
+import com.shhtudy.backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 하루 데시벨 분포 (세션 종료 시 세션 분포를 병합)
+ * 주간/월간 분포는 이 행들을 다시 병합해서 만든다.
+ */
+@Entity
+@Table(name = "noise_daily_sketches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_noise_daily_sketches_user_date", columnNames = {"user_id", "sketch_date"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoiseDailySketch extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "sketch_date", nullable = false)
+    private LocalDate sketchDate;
+
+    @Column(name = "sample_count", nullable = false)
+    @Setter
+    private long sampleCount;
+
+    @Column(name = "sketch", nullable = false, columnDefinition = "BLOB")
+    @Setter
+    private byte[] sketch;
+}
@@ -1,7 +1,7 @@
 package com.shhtudy.backend.domain.noise.entity;
 
 import com.shhtudy.backend.domain.common.BaseEntity;
-import com.shhtudy.backend.domain.noise.dto.NoiseEventSummaryDto;
+import com.shhtudy.backend.domain.seat.entity.Seat;
 import com.shhtudy.backend.domain.user.entity.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -10,7 +10,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "noise_events")
+@Table(name = "noise_events",
+        indexes = @Index(name = "idx_noise_events_user_measured_id", columnList = "user_id, measured_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,9 +21,14 @@ import java.time.LocalDateTime;
 public class NoiseEvent extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // 파티션 테이블은 FK 불가
     private User user;
 
+    @Schema(description = "측정 당시 사용자가 앉아 있던 좌석")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seat_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Seat seat;
+
     @Schema(description = "측정된 데시벨 값", example = "55.0")
     @Column(nullable = false)
     private double decibel;
@@ -0,0 +1,53 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import com.shhtudy.backend.domain.common.BaseEntity;
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.RollupScope;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * noise_events 를 분/시간/일 단위로 미리 집계한 테이블
+ * 행은 NoiseRollupScheduler 가 INSERT ... ON DUPLICATE KEY UPDATE 로 누적한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "noise_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_noise_rollups_bucket",
+                columnNames = {"scope", "scope_key", "resolution", "bucket_start"}))
+public class NoiseRollup extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 10)
+    private RollupScope scope;
+
+    @Column(name = "scope_key", nullable = false, length = 128)
+    private String scopeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false, length = 10)
+    private RollupResolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(name = "decibel_sum", nullable = false)
+    private double decibelSum;
+
+    @Column(name = "min_decibel", nullable = false)
+    private double minDecibel;
+
+    @Column(name = "max_decibel", nullable = false)
+    private double maxDecibel;
+
+    @Column(name = "over_count", nullable = false)
+    private long overCount;
+}
@@ -0,0 +1,28 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 롤업 집계가 어디까지 진행됐는지 기록 (noise_events.id 기준)
+ */
+@Entity
+@Table(name = "noise_rollup_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoiseRollupWatermark {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import com.shhtudy.backend.domain.common.BaseEntity;
+import com.shhtudy.backend.domain.seat.entity.Seat;
+import com.shhtudy.backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연속된 조용한 측정값을 한 행으로 묶은 기록 (QuietSampleRun)
+ * 기준 초과 측정값만 noise_events 에 한 건씩 남고, 나머지는 여기에 1분 이내 묶음으로 저장된다.
+ * 행은 NoiseRunCollapser 가 JDBC 로 넣는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "noise_sample_runs",
+        indexes = @Index(name = "idx_noise_sample_runs_user_start", columnList = "user_id, start_at"))
+public class NoiseSampleRun extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seat_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Seat seat;
+
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(name = "decibel_sum", nullable = false)
+    private double decibelSum;
+
+    @Column(name = "min_decibel", nullable = false)
+    private double minDecibel;
+
+    @Column(name = "max_decibel", nullable = false)
+    private double maxDecibel;
+
+    // 묶음 안 데시벨 분포 (DecibelHistogram 직렬화)
+    @Column(name = "histogram", nullable = false, columnDefinition = "BLOB")
+    private byte[] histogram;
+}
@@ -36,4 +36,48 @@ public class NoiseSession extends BaseEntity {
     @Column(name = "quiet_ratio", nullable = false)
     @Setter
     private double quietRatio;
+
+    // 세션 데시벨 분포 (DecibelHistogram 직렬화)
+    @Column(name = "decibel_sketch", columnDefinition = "BLOB")
+    @Setter
+    private byte[] decibelSketch;
+
+    // 측정값 시계열 압축본 (NoiseSeriesCodec, 세션 종료 후 압축 작업에서 채움)
+    @Column(name = "sample_series", columnDefinition = "MEDIUMBLOB")
+    @Setter
+    private byte[] sampleSeries;
+
+    // 압축 시점의 세션 구간 최대 이벤트 id (이후 백필 등으로 행이 늘었으면 원본을 지우지 않고 다시 압축)
+    @Column(name = "series_max_event_id")
+    @Setter
+    private Long seriesMaxEventId;
+
+    // 원본 noise_events 삭제 여부 (true 면 sample_series 가 유일한 원본)
+    @Column(name = "raw_purged", nullable = false)
+    @Setter
+    private boolean rawPurged;
+
+    // 측정값 수 / 기준 초과 측정값 수 (추이 집계용)
+    @Column(name = "sample_count", nullable = false)
+    @Setter
+    private long sampleCount;
+
+    @Column(name = "over_count", nullable = false)
+    @Setter
+    private long overCount;
+
+    // 이 세션으로 실제 바뀐 포인트와 바뀐 뒤 등급
+    @Column(name = "point_delta", nullable = false)
+    @Setter
+    private int pointDelta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "grade_after", length = 10)
+    @Setter
+    private User.Grade gradeAfter;
+
+    // 세션 구역 (좌석 위치 코드 앞자리, 구역 순위용)
+    @Column(name = "zone", length = 10)
+    @Setter
+    private String zone;
 }
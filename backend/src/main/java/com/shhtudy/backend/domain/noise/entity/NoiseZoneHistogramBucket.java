@@ -0,0 +1,39 @@
+package com.shhtudy.backend.domain.noise.entity;
+
+import com.shhtudy.backend.domain.common.BaseEntity;
+import com.shhtudy.backend.domain.noise.enums.ZoneHistogramMetric;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 구역별 하루 세션 분포 (세션 평균 데시벨, 조용한 비율의 고정 구간 히스토그램)
+ * 세션 종료 시 해당 구간 행을 INSERT ... ON DUPLICATE KEY UPDATE 로 1 증가시킨다. (0 인 구간은 행 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "noise_zone_histograms",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_noise_zone_histograms_bucket",
+                columnNames = {"zone", "stat_date", "metric", "bucket"}))
+public class NoiseZoneHistogramBucket extends BaseEntity {
+
+    @Column(name = "zone", nullable = false, length = 10)
+    private String zone;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private ZoneHistogramMetric metric;
+
+    @Column(name = "bucket", nullable = false)
+    private int bucket;
+
+    @Column(name = "session_count", nullable = false)
+    private long sessionCount;
+}
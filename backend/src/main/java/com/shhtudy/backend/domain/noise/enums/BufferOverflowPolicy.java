@@ -0,0 +1,7 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+public enum BufferOverflowPolicy {
+    BLOCK,        // 자리가 날 때까지 잠시 대기 후, 그래도 가득 차 있으면 503
+    DROP_OLDEST,  // 가장 오래된 측정값을 버리고 새 값을 넣음
+    REJECT        // 즉시 503 응답
+}
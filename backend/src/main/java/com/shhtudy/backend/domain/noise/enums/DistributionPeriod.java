@@ -0,0 +1,16 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+public enum DistributionPeriod {
+    WEEK(7),
+    MONTH(30);
+
+    private final int days; // 오늘 포함 최근 며칠
+
+    DistributionPeriod(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+}
@@ -0,0 +1,51 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupResolution {
+    MINUTE(Duration.ofMinutes(1), "%Y-%m-%d %H:%i:00"),
+    HOUR(Duration.ofHours(1), "%Y-%m-%d %H:00:00"),
+    DAY(Duration.ofDays(1), "%Y-%m-%d 00:00:00");
+
+    private final Duration bucketSize;
+    private final String mysqlFormat; // measured_at → 버킷 시작 시각 (DATE_FORMAT 형식)
+
+    RollupResolution(Duration bucketSize, String mysqlFormat) {
+        this.bucketSize = bucketSize;
+        this.mysqlFormat = mysqlFormat;
+    }
+
+    public Duration getBucketSize() {
+        return bucketSize;
+    }
+
+    public String getMysqlFormat() {
+        return mysqlFormat;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return switch (this) {
+            case MINUTE -> time.truncatedTo(ChronoUnit.MINUTES);
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+
+    public boolean isAligned(LocalDateTime time) {
+        return truncate(time).equals(time);
+    }
+
+    /**
+     * [from, to) 구간을 정확히 나눌 수 있는 가장 큰 단위
+     */
+    public static RollupResolution coarsestFor(LocalDateTime from, LocalDateTime to) {
+        for (RollupResolution resolution : new RollupResolution[]{DAY, HOUR}) {
+            if (resolution.isAligned(from) && resolution.isAligned(to)) {
+                return resolution;
+            }
+        }
+        return MINUTE;
+    }
+}
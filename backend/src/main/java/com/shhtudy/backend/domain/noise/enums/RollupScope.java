@@ -0,0 +1,6 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+public enum RollupScope {
+    USER, // scope_key = firebase uid
+    SEAT  // scope_key = seat id
+}
@@ -0,0 +1,66 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+/**
+ * 롤업 원천 테이블 (각자 id 워터마크를 따로 가진다)
+ * 조용한 측정값 묶음은 1분 구간을 넘지 않으므로 시작 시각으로 버킷을 정해도 정확하다.
+ */
+public enum RollupSource {
+    EVENTS("noise_rollup", "noise_events", "measured_at",
+            "COUNT(*)", "SUM(decibel)", "MIN(decibel)", "MAX(decibel)", "CASE WHEN decibel > ? THEN 1 ELSE 0 END"),
+    RUNS("noise_rollup_runs", "noise_sample_runs", "start_at",
+            "SUM(sample_count)", "SUM(decibel_sum)", "MIN(min_decibel)", "MAX(max_decibel)",
+            "CASE WHEN max_decibel > ? THEN sample_count ELSE 0 END");
+
+    private final String watermarkName;
+    private final String table;
+    private final String timeColumn;
+    private final String countExpr;
+    private final String sumExpr;
+    private final String minExpr;
+    private final String maxExpr;
+    private final String overExpr; // 기준(?) 초과 측정값 수, SUM 안에 들어감
+
+    RollupSource(String watermarkName, String table, String timeColumn, String countExpr,
+                 String sumExpr, String minExpr, String maxExpr, String overExpr) {
+        this.watermarkName = watermarkName;
+        this.table = table;
+        this.timeColumn = timeColumn;
+        this.countExpr = countExpr;
+        this.sumExpr = sumExpr;
+        this.minExpr = minExpr;
+        this.maxExpr = maxExpr;
+        this.overExpr = overExpr;
+    }
+
+    public String getWatermarkName() {
+        return watermarkName;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getTimeColumn() {
+        return timeColumn;
+    }
+
+    public String getCountExpr() {
+        return countExpr;
+    }
+
+    public String getSumExpr() {
+        return sumExpr;
+    }
+
+    public String getMinExpr() {
+        return minExpr;
+    }
+
+    public String getMaxExpr() {
+        return maxExpr;
+    }
+
+    public String getOverExpr() {
+        return overExpr;
+    }
+}
@@ -0,0 +1,6 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+public enum SamplingMode {
+    FULL,  // 기준 근처/초과이거나 좌석 상태를 모름 → 측정값마다 바로 전송
+    QUIET  // 조용한 좌석 → 모아서 전송, 또는 구간 요약(/events/windows) (서버 부하에 따라 간격이 늘어남)
+}
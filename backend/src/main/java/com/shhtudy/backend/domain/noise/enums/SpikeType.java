@@ -0,0 +1,6 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+public enum SpikeType {
+    SUDDEN,    // 기준선 대비 한 번에 크게 튄 소음
+    SUSTAINED  // 기준선보다 높은 소음이 계속 이어짐 (CUSUM)
+}
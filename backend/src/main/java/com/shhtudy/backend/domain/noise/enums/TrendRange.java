@@ -0,0 +1,30 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+
+public enum TrendRange {
+    WEEK(7),
+    MONTH(30),
+    YEAR(365);
+
+    private final int days; // 오늘 포함 최근 며칠
+
+    TrendRange(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    // week / WEEK 모두 허용
+    public static TrendRange from(String value) {
+        for (TrendRange range : values()) {
+            if (range.name().equalsIgnoreCase(value.trim())) {
+                return range;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_NOISE_HISTORY_RANGE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.shhtudy.backend.domain.noise.enums;
+
+/**
+ * 구역별 하루 세션 분포 지표 (고정 구간)
+ */
+public enum ZoneHistogramMetric {
+    AVG_DECIBEL(0.5, 300),  // 세션 평균 데시벨, 0.5 dB 구간, 150 dB 이상은 마지막 구간
+    QUIET_RATIO(0.01, 100); // 세션 조용한 비율, 1% 구간
+
+    private final double bucketWidth;
+    private final int maxBucket;
+
+    ZoneHistogramMetric(double bucketWidth, int maxBucket) {
+        this.bucketWidth = bucketWidth;
+        this.maxBucket = maxBucket;
+    }
+
+    public int bucketOf(double value) {
+        int bucket = (int) Math.floor(value / bucketWidth + 1e-9);
+        return Math.max(0, Math.min(maxBucket, bucket));
+    }
+
+    public int getBucketCount() {
+        return maxBucket + 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.shhtudy.backend.domain.noise.event;
+
+import com.shhtudy.backend.domain.noise.enums.SpikeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석 소음 이상 감지 이벤트 (ApplicationEventPublisher 로 발행)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NoiseSpikeEvent {
+
+    private final String userId;
+    private final int seatId;
+    private final SpikeType type;
+    private final double decibel;
+    private final double baselineDecibel;
+    private final long measuredAtMillis;
+}
@@ -0,0 +1,74 @@
+package com.shhtudy.backend.domain.noise.event;
+
+import com.shhtudy.backend.domain.message.entity.Message;
+import com.shhtudy.backend.domain.message.repository.MessageRepository;
+import com.shhtudy.backend.domain.noise.enums.SpikeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소음 이상 감지 시 해당 좌석 사용자에게 경고 쪽지 발송 (좌석별 쿨다운)
+ * 발신자는 app.noise.spike.warning.sender-id 의 시스템 계정
+ * 수집 트랜잭션이 커밋된 뒤 별도 트랜잭션으로 저장한다. (발송 실패가 수집 트랜잭션을 rollback-only 로 만들지 않도록,
+ * 트랜잭션 밖에서 발행된 센서/버퍼 경로는 바로 실행)
+ */
+@Component
+public class NoiseSpikeWarningListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseSpikeWarningListener.class);
+
+    private final MessageRepository messageRepository;
+    private final boolean enabled;
+    private final String senderId;
+    private final long cooldownMillis;
+    private final ConcurrentHashMap<Integer, Long> lastWarnedAt = new ConcurrentHashMap<>();
+
+    public NoiseSpikeWarningListener(MessageRepository messageRepository,
+                                     @Value("${app.noise.spike.warning.enabled:false}") boolean enabled,
+                                     @Value("${app.noise.spike.warning.sender-id:}") String senderId,
+                                     @Value("${app.noise.spike.warning.cooldown-ms:600000}") long cooldownMillis) {
+        this.messageRepository = messageRepository;
+        this.enabled = enabled && !senderId.isBlank();
+        this.senderId = senderId;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onSpike(NoiseSpikeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long previous = lastWarnedAt.get(event.getSeatId());
+        if (previous != null && now - previous < cooldownMillis) {
+            return;
+        }
+        // 동시에 두 건이 들어와도 한 번만 발송
+        if (previous == null ? lastWarnedAt.putIfAbsent(event.getSeatId(), now) != null
+                : !lastWarnedAt.replace(event.getSeatId(), previous, now)) {
+            return;
+        }
+
+        try {
+            Message message = new Message();
+            message.setSenderId(senderId);
+            message.setReceiverId(event.getUserId());
+            message.setContent(event.getType() == SpikeType.SUDDEN
+                    ? String.format("갑작스러운 소음이 감지되었습니다. (%.1f dB) 주변을 배려해 주세요.", event.getDecibel())
+                    : String.format("평소보다 높은 소음이 계속되고 있습니다. (%.1f dB) 주변을 배려해 주세요.", event.getDecibel()));
+            messageRepository.save(message);
+        } catch (RuntimeException e) {
+            // 경고 발송 실패가 소음 수집을 막지 않도록
+            log.warn("Failed to send noise spike warning to seat {}", event.getSeatId(), e);
+        }
+    }
+}
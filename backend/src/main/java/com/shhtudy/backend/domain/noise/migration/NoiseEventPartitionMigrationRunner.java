@@ -0,0 +1,47 @@
+package com.shhtudy.backend.domain.noise.migration;
+
+import com.shhtudy.backend.domain.noise.scheduler.NoiseEventPartitionScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * noise_events 파티션 테이블 변환 실행기 (한 번만 실행하는 마이그레이션)
+ * 예) java -jar app.jar --app.noise.partitioning.migrate=true --spring.main.web-application-type=none
+ * 변환 후에는 app.noise.partitioning.enabled=true 로 두면 스케줄러가 파티션 생성/삭제만 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.noise.partitioning.migrate", havingValue = "true")
+public class NoiseEventPartitionMigrationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseEventPartitionMigrationRunner.class);
+
+    private final NoiseEventPartitionScheduler noiseEventPartitionScheduler;
+    private final ConfigurableApplicationContext context;
+    private final boolean exitOnComplete;
+
+    public NoiseEventPartitionMigrationRunner(NoiseEventPartitionScheduler noiseEventPartitionScheduler,
+                                              ConfigurableApplicationContext context,
+                                              @Value("${app.noise.partitioning.exit-on-complete:true}") boolean exitOnComplete) {
+        this.noiseEventPartitionScheduler = noiseEventPartitionScheduler;
+        this.context = context;
+        this.exitOnComplete = exitOnComplete;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Starting noise_events partition migration");
+        noiseEventPartitionScheduler.migrate();
+        log.info("noise_events partition migration finished");
+
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NoiseBackfillCheckpointRepository extends JpaRepository<NoiseBackfillCheckpoint, Long> {
+
+    Optional<NoiseBackfillCheckpoint> findByJobIdAndPartitionNo(String jobId, int partitionNo);
+
+    @Modifying
+    @Query("UPDATE NoiseBackfillCheckpoint c SET c.committedRows = :committedRows WHERE c.id = :id")
+    int updateCommittedRows(@Param("id") Long id, @Param("committedRows") long committedRows);
+}
@@ -0,0 +1,10 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseDailyReport;
+import com.shhtudy.backend.domain.noise.entity.NoiseDailyReportId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NoiseDailyReportRepository extends JpaRepository<NoiseDailyReport, NoiseDailyReportId> {
+}
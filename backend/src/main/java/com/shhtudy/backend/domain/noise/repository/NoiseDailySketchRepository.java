@@ -0,0 +1,18 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseDailySketch;
+import com.shhtudy.backend.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NoiseDailySketchRepository extends JpaRepository<NoiseDailySketch, Long> {
+
+    Optional<NoiseDailySketch> findByUserAndSketchDate(User user, LocalDate sketchDate);
+
+    List<NoiseDailySketch> findByUserAndSketchDateBetween(User user, LocalDate from, LocalDate to);
+}
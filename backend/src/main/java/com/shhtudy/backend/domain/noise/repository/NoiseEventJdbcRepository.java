@@ -0,0 +1,130 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.common.Status;
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * noise_events 대량 저장용 JDBC 리포지토리
+ * BaseEntity의 IDENTITY 전략 때문에 Hibernate는 insert 배치를 하지 않으므로,
+ * 여러 건을 저장할 때는 JdbcTemplate batchUpdate로 직접 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoiseEventJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO noise_events (user_id, seat_id, decibel, measured_at, created_at, updated_at, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<NoiseEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NoiseEvent event = events.get(i);
+                ps.setString(1, event.getUser().getFirebaseUid());
+                if (event.getSeat() != null) {
+                    ps.setInt(2, event.getSeat().getSeatId());
+                } else {
+                    ps.setNull(2, Types.INTEGER);
+                }
+                ps.setDouble(3, event.getDecibel());
+                ps.setTimestamp(4, Timestamp.valueOf(event.getMeasuredAt()));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                ps.setString(7, Status.ACTIVE.name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+
+    /**
+     * 열 단위 배열로 일괄 저장 (백필처럼 건수가 많을 때 엔티티를 만들지 않기 위함)
+     * seatIds 의 음수는 좌석 없음, measuredAtMillis 는 시스템 시간대 기준 epoch millis
+     */
+    public void batchInsert(String[] userIds, int[] seatIds, double[] decibels, long[] measuredAtMillis, int count) {
+        if (count == 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, userIds[i]);
+                if (seatIds[i] >= 0) {
+                    ps.setInt(2, seatIds[i]);
+                } else {
+                    ps.setNull(2, Types.INTEGER);
+                }
+                ps.setDouble(3, decibels[i]);
+                ps.setTimestamp(4, new Timestamp(measuredAtMillis[i]));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                ps.setString(7, Status.ACTIVE.name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+    }
+
+    /**
+     * [from, to] 측정값을 시각 순서대로 sink 에 전달 (엔티티를 만들지 않음)
+     */
+    public void streamSamples(String userId, LocalDateTime from, LocalDateTime to, NoiseSampleCodec.SampleSink sink) {
+        jdbcTemplate.query(
+                "SELECT measured_at, decibel FROM noise_events " +
+                "WHERE user_id = ? AND measured_at BETWEEN ? AND ? ORDER BY measured_at, id",
+                rs -> {
+                    sink.accept(rs.getTimestamp(1).getTime(), rs.getDouble(2));
+                },
+                userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public Long findMaxId(String userId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM noise_events WHERE user_id = ? AND measured_at BETWEEN ? AND ?",
+                Long.class, userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    // [from, to] 중 id 가 maxId 이하인 행만 삭제 (압축 이후 들어온 행은 남긴다)
+    public int deleteBetween(String userId, LocalDateTime from, LocalDateTime to, long maxId) {
+        return jdbcTemplate.update(
+                "DELETE FROM noise_events WHERE user_id = ? AND measured_at BETWEEN ? AND ? AND id <= ?",
+                userId, Timestamp.valueOf(from), Timestamp.valueOf(to), maxId);
+    }
+
+    // [from, to] 중 마지막으로 좌석이 기록된 측정값의 좌석 (없으면 null)
+    public Integer findLatestSeatId(String userId, LocalDateTime from, LocalDateTime to) {
+        List<Integer> seats = jdbcTemplate.queryForList(
+                "SELECT seat_id FROM noise_events WHERE user_id = ? AND measured_at BETWEEN ? AND ? " +
+                "AND seat_id IS NOT NULL ORDER BY measured_at DESC LIMIT 1",
+                Integer.class, userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return seats.isEmpty() ? null : seats.get(0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * noise_events 일 단위 RANGE COLUMNS(measured_at) 파티션 관리용 DDL (MySQL 전용)
+ * 파티션 pYYYYMMDD 는 해당 날짜 다음 날 0시 미만의 행을 담고, pmax 는 나머지를 받는다.
+ * DDL 은 여러 인스턴스가 동시에 실행하지 않도록 MySQL 네임드 락(GET_LOCK) 안에서만 실행한다.
+ */
+@Repository
+public class NoiseEventPartitionRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final String LOCK_NAME = "noise_events_partitioning";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NoiseEventPartitionRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 네임드 락을 잡고 action 실행 (timeoutSeconds 안에 못 잡으면 실행하지 않고 false)
+     * GET_LOCK 은 커넥션 단위라 트랜잭션으로 커넥션 하나를 고정해서 락/DDL/해제를 같은 커넥션에서 실행한다.
+     * (DDL 은 MySQL 에서 암묵적으로 커밋되므로 트랜잭션은 커넥션 고정 용도)
+     */
+    public boolean runLocked(int timeoutSeconds, Runnable action) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Integer acquired = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, timeoutSeconds);
+            if (acquired == null || acquired != 1) {
+                return false;
+            }
+            try {
+                action.run();
+            } finally {
+                jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * 파티션 이름 목록 (파티션되지 않은 테이블이면 빈 목록)
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'noise_events' AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+    }
+
+    public LocalDate findMinMeasuredDate() {
+        Date date = jdbcTemplate.queryForObject("SELECT DATE(MIN(measured_at)) FROM noise_events", Date.class);
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    /**
+     * 기존 테이블을 파티션 테이블로 변환한다. 테이블 전체를 다시 쓰므로 마이그레이션 실행기에서만 호출한다.
+     * 파티션 테이블은 FK 를 가질 수 없고 PK 에 파티션 키가 포함되어야 한다.
+     */
+    public void partition(List<LocalDate> days) {
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'noise_events' AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+                String.class);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE noise_events DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+
+        Integer measuredAtInPk = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.KEY_COLUMN_USAGE " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'noise_events' " +
+                "AND CONSTRAINT_NAME = 'PRIMARY' AND COLUMN_NAME = 'measured_at'",
+                Integer.class);
+        if (measuredAtInPk == null || measuredAtInPk == 0) {
+            jdbcTemplate.execute("ALTER TABLE noise_events DROP PRIMARY KEY, ADD PRIMARY KEY (id, measured_at)");
+        }
+
+        jdbcTemplate.execute("ALTER TABLE noise_events PARTITION BY RANGE COLUMNS(measured_at) (" +
+                partitionDefinitions(days) + ")");
+    }
+
+    /**
+     * pmax 를 쪼개 앞으로 쓸 일 단위 파티션을 만든다. (days 는 기존 마지막 파티션 이후 날짜, 오름차순)
+     */
+    public void addPartitions(List<LocalDate> days) {
+        jdbcTemplate.execute("ALTER TABLE noise_events REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                partitionDefinitions(days) + ")");
+    }
+
+    public void dropPartitions(List<String> partitionNames) {
+        jdbcTemplate.execute("ALTER TABLE noise_events DROP PARTITION " + String.join(", ", partitionNames));
+    }
+
+    public boolean hasEventsAfter(String partitionName, long eventId) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM noise_events PARTITION (" + partitionName + ") WHERE id > ?)",
+                Boolean.class, eventId);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    public static String partitionName(LocalDate day) {
+        return "p" + day.format(PARTITION_NAME_FORMAT);
+    }
+
+    /**
+     * pYYYYMMDD → 날짜 (pmax 등 규칙에 맞지 않으면 null)
+     */
+    public static LocalDate partitionDay(String partitionName) {
+        if (partitionName.length() != 9 || partitionName.charAt(0) != 'p') {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(1), PARTITION_NAME_FORMAT);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String partitionDefinitions(List<LocalDate> days) {
+        String dayPartitions = days.stream()
+                .map(day -> "PARTITION " + partitionName(day) +
+                        " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00')")
+                .collect(Collectors.joining(", "));
+        return dayPartitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+}
@@ -16,14 +16,22 @@ import java.util.List;
 public interface NoiseEventRepository extends JpaRepository<NoiseEvent, Long> {
 
     List<NoiseEvent> findByUserAndMeasuredAtBetween(User user, LocalDateTime start, LocalDateTime end);
-    List<NoiseEvent> findTop2ByUserOrderByCreatedAtDesc(User user);
+    List<NoiseEvent> findByUserAndMeasuredAtBetweenOrderByMeasuredAtAsc(User user, LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT COUNT(e) FROM NoiseEvent e WHERE e.user = :user AND e.decibel > :threshold AND e.measuredAt BETWEEN :start AND :end")
-    int countTodayOverEvents(@Param("user") User user,
-                             @Param("threshold") double threshold,
-                             @Param("start") LocalDateTime start,
-                             @Param("end") LocalDateTime end);
-
-    List<NoiseEvent> findTop2ByUserAndMeasuredAtBetweenOrderByMeasuredAtDesc(User user, LocalDateTime startOfToday, LocalDateTime endOfToday);
+    // [start, end) 반열림 구간이라 하루 조회가 일 단위 파티션 하나만 읽는다
+    List<NoiseEvent> findByUserAndMeasuredAtGreaterThanEqualAndMeasuredAtLessThanOrderByMeasuredAtDesc(User user, LocalDateTime startOfToday, LocalDateTime endOfToday, Pageable pageable);
     Page<NoiseEvent> findByUser(User user, Pageable pageable);
+
+    // 커서 기반 조회 (measured_at, id 내림차순, COUNT 쿼리 없음)
+    List<NoiseEvent> findByUserOrderByMeasuredAtDescIdDesc(User user, Pageable pageable);
+
+    @Query("SELECT e FROM NoiseEvent e WHERE e.user = :user " +
+            "AND (e.measuredAt < :measuredAt OR (e.measuredAt = :measuredAt AND e.id < :id)) " +
+            "ORDER BY e.measuredAt DESC, e.id DESC")
+    List<NoiseEvent> findPageAfter(@Param("user") User user,
+                                   @Param("measuredAt") LocalDateTime measuredAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    long countByUser(User user);
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.RollupScope;
+import com.shhtudy.backend.domain.noise.enums.RollupSource;
+import com.shhtudy.backend.domain.noise.stats.NoiseBucketStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * noise_rollups 집계용 JDBC 리포지토리 (MySQL 전용 SQL)
+ * 원천(noise_events / noise_sample_runs)마다 같은 SQL 틀에 테이블/컬럼 식만 바꿔 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoiseRollupJdbcRepository {
+
+    // 아직 커밋 중일 수 있는 최근 행은 건너뛰고, id 순서로 최대 limit 건까지의 마지막 id
+    private static final String NEXT_WATERMARK_SQL_TEMPLATE =
+            "SELECT MAX(id) FROM (" +
+            "  SELECT id FROM %s WHERE id > ? AND created_at < ? ORDER BY id LIMIT ?" +
+            ") AS chunk";
+
+    private static final String UPSERT_SQL_TEMPLATE =
+            "INSERT INTO noise_rollups (scope, scope_key, resolution, bucket_start, sample_count, decibel_sum, " +
+            "  min_decibel, max_decibel, over_count, created_at, updated_at, status) " +
+            "SELECT * FROM (" +
+            "  SELECT ? AS scope, %1$s AS scope_key, ? AS resolution, DATE_FORMAT(%4$s, '%2$s') AS bucket_start, " +
+            "    %5$s AS c, %6$s AS s, %7$s AS mn, %8$s AS mx, " +
+            "    SUM(%9$s) AS o, NOW() AS ca, NOW() AS ua, 'ACTIVE' AS st " +
+            "  FROM %3$s " +
+            "  WHERE id > ? AND id <= ? AND %1$s IS NOT NULL " +
+            "  GROUP BY scope_key, bucket_start" +
+            ") AS agg " +
+            "ON DUPLICATE KEY UPDATE " +
+            "  sample_count = sample_count + agg.c, " +
+            "  decibel_sum = decibel_sum + agg.s, " +
+            "  min_decibel = LEAST(min_decibel, agg.mn), " +
+            "  max_decibel = GREATEST(max_decibel, agg.mx), " +
+            "  over_count = over_count + agg.o, " +
+            "  updated_at = NOW()";
+
+    // 워터마크 이후(아직 롤업되지 않은) 원본 행을 같은 단위로 집계
+    private static final String TAIL_SQL_TEMPLATE =
+            "SELECT DATE_FORMAT(%4$s, '%2$s') AS bucket_start, %5$s, %6$s, %7$s, %8$s, SUM(%9$s) " +
+            "FROM %3$s " +
+            "WHERE id > ? AND %1$s = ? AND %4$s >= ? AND %4$s < ? " +
+            "GROUP BY bucket_start";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long findNextWatermark(RollupSource source, long lastEventId, LocalDateTime createdBefore, int limit) {
+        return jdbcTemplate.queryForObject(String.format(NEXT_WATERMARK_SQL_TEMPLATE, source.getTable()), Long.class,
+                lastEventId, Timestamp.valueOf(createdBefore), limit);
+    }
+
+    public void upsertRollups(RollupSource source, RollupScope scope, RollupResolution resolution,
+                              long fromEventIdExclusive, long toEventIdInclusive, double overThreshold) {
+        String sql = format(UPSERT_SQL_TEMPLATE, source, scope, resolution);
+        jdbcTemplate.update(sql, scope.name(), resolution.name(), overThreshold,
+                fromEventIdExclusive, toEventIdInclusive);
+    }
+
+    public List<NoiseBucketStats> aggregateTail(RollupSource source, RollupScope scope, String scopeKey,
+                                                RollupResolution resolution, long afterEventId,
+                                                LocalDateTime from, LocalDateTime to, double overThreshold) {
+        String sql = format(TAIL_SQL_TEMPLATE, source, scope, resolution);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new NoiseBucketStats(
+                        rs.getTimestamp(1).toLocalDateTime(),
+                        rs.getLong(2),
+                        rs.getDouble(3),
+                        rs.getDouble(4),
+                        rs.getDouble(5),
+                        rs.getLong(6)),
+                overThreshold, afterEventId, scopeKey, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private static String format(String template, RollupSource source, RollupScope scope, RollupResolution resolution) {
+        return String.format(template, keyColumn(scope), resolution.getMysqlFormat(), source.getTable(),
+                source.getTimeColumn(), source.getCountExpr(), source.getSumExpr(),
+                source.getMinExpr(), source.getMaxExpr(), source.getOverExpr());
+    }
+
+    private static String keyColumn(RollupScope scope) {
+        return switch (scope) {
+            case USER -> "user_id";
+            case SEAT -> "seat_id";
+        };
+    }
+}
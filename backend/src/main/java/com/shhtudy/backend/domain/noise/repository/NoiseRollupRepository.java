@@ -0,0 +1,17 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollup;
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.RollupScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NoiseRollupRepository extends JpaRepository<NoiseRollup, Long> {
+
+    List<NoiseRollup> findByScopeAndScopeKeyAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            RollupScope scope, String scopeKey, RollupResolution resolution, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,9 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollupWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NoiseRollupWatermarkRepository extends JpaRepository<NoiseRollupWatermark, String> {
+}
@@ -0,0 +1,96 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.common.Status;
+import com.shhtudy.backend.domain.noise.stats.DecibelHistogram;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * noise_sample_runs 저장/조회용 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoiseSampleRunJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO noise_sample_runs (user_id, seat_id, start_at, end_at, sample_count, decibel_sum, " +
+            "min_decibel, max_decibel, histogram, created_at, updated_at, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시작 시각이 before 이전이고 id 가 maxId 이하인 묶음을 최대 limit 건 삭제 (삭제한 수 반환)
+     */
+    public int deleteStartedBefore(LocalDateTime before, long maxId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM noise_sample_runs WHERE start_at < ? AND id <= ? LIMIT ?",
+                Timestamp.valueOf(before), maxId, limit);
+    }
+
+    public void batchInsert(List<QuietSampleRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                QuietSampleRun run = runs.get(i);
+                ps.setString(1, run.getUserId());
+                if (run.getSeatId() >= 0) {
+                    ps.setInt(2, run.getSeatId());
+                } else {
+                    ps.setNull(2, Types.INTEGER);
+                }
+                ps.setTimestamp(3, new Timestamp(run.getStartMillis()));
+                ps.setTimestamp(4, new Timestamp(run.getEndMillis()));
+                ps.setLong(5, run.getCount());
+                ps.setDouble(6, run.getSum());
+                ps.setDouble(7, run.getMin());
+                ps.setDouble(8, run.getMax());
+                ps.setBytes(9, run.getHistogram().toBytes());
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+                ps.setString(12, Status.ACTIVE.name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return runs.size();
+            }
+        });
+    }
+
+    /**
+     * 시작 시각이 [from, to) 인 묶음을 시작 시각 순서대로 전달 (연속 구간 조회 시 경계 묶음이 두 번 나오지 않도록 반열림)
+     */
+    public void streamRuns(String userId, LocalDateTime from, LocalDateTime to, Consumer<QuietSampleRun> sink) {
+        jdbcTemplate.query(
+                "SELECT seat_id, start_at, end_at, sample_count, decibel_sum, min_decibel, max_decibel, histogram " +
+                "FROM noise_sample_runs WHERE user_id = ? AND start_at >= ? AND start_at < ? ORDER BY start_at, id",
+                rs -> {
+                    int seatId = rs.getInt(1);
+                    if (rs.wasNull()) {
+                        seatId = -1;
+                    }
+                    sink.accept(new QuietSampleRun(userId, seatId,
+                            rs.getTimestamp(2).getTime(), rs.getTimestamp(3).getTime(),
+                            rs.getLong(4), rs.getDouble(5), rs.getDouble(6), rs.getDouble(7),
+                            DecibelHistogram.fromBytes(rs.getBytes(8))));
+                },
+                userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
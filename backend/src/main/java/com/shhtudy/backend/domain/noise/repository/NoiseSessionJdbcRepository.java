@@ -0,0 +1,49 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.stats.NoiseTrendAggregator;
+import com.shhtudy.backend.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * noise_sessions 집계용 JDBC 리포지토리
+ * 추이 집계는 통계 열만 필요하므로 압축본/분포 BLOB 을 읽지 않도록 엔티티 대신 열만 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoiseSessionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 종료 시각이 [from, to) 인 세션 통계를 열 배열에 담는다
+     */
+    public void loadClosedSessions(String userId, LocalDateTime from, LocalDateTime to,
+                                   NoiseTrendAggregator.Sessions sessions) {
+        jdbcTemplate.query(
+                "SELECT checkout_time, sample_count, avg_decibel, max_decibel, over_count, point_delta, grade_after " +
+                "FROM noise_sessions WHERE user_id = ? AND checkout_time >= ? AND checkout_time < ?",
+                rs -> {
+                    Timestamp checkout = rs.getTimestamp(1);
+                    String grade = rs.getString(7);
+                    sessions.add(checkout.toLocalDateTime().toLocalDate().toEpochDay(), checkout.getTime(),
+                            rs.getLong(2), rs.getDouble(3), rs.getDouble(4), rs.getLong(5), rs.getInt(6),
+                            grade != null ? User.Grade.valueOf(grade).ordinal() : -1);
+                },
+                userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    // before 이전에 종료된 마지막 세션 이후 등급 (기간 첫날의 등급 변화 판단용)
+    public User.Grade findLastGradeBefore(String userId, LocalDateTime before) {
+        List<String> grades = jdbcTemplate.queryForList(
+                "SELECT grade_after FROM noise_sessions WHERE user_id = ? AND checkout_time < ? " +
+                "AND grade_after IS NOT NULL ORDER BY checkout_time DESC LIMIT 1",
+                String.class, userId, Timestamp.valueOf(before));
+        return grades.isEmpty() ? null : User.Grade.valueOf(grades.get(0));
+    }
+}
@@ -3,6 +3,8 @@ package com.shhtudy.backend.domain.noise.repository;
 import com.shhtudy.backend.domain.noise.entity.NoiseSession;
 import com.shhtudy.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -15,8 +17,39 @@ public interface NoiseSessionRepository extends JpaRepository<NoiseSession, Long
     // 최근 전체 세션 조회 (종료된 것 포함)
     List<NoiseSession> findByUser(User user);
 
+    @Query("SELECT AVG(s.avgDecibel) FROM NoiseSession s WHERE s.user = :user")
+    Double averageAvgDecibel(@Param("user") User user);
+
     // 아직 닫히지 않은 가장 최근 세션만 조회
     Optional<NoiseSession> findTopByUserAndCheckoutTimeIsNullOrderByCheckinTimeDesc(User user);
 
     List<NoiseSession> findByUserAndCheckinTimeBetween(User user, LocalDateTime startOfToday, LocalDateTime endOfToday);
-}
\ No newline at end of file
+
+    // 종료 시각이 [from, to) 인 세션 (일별 분포 재구성용)
+    List<NoiseSession> findByUserAndCheckoutTimeGreaterThanEqualAndCheckoutTimeLessThan(User user, LocalDateTime from, LocalDateTime to);
+
+    // 아직 압축하지 않은 종료 세션 (오래된 것부터)
+    List<NoiseSession> findTop100ByCheckoutTimeLessThanAndSampleSeriesIsNullOrderByCheckoutTimeAsc(LocalDateTime checkoutBefore);
+
+    // 압축은 끝났지만 원본 이벤트가 남아 있는 세션
+    List<NoiseSession> findTop100BySampleSeriesIsNotNullAndRawPurgedFalseAndCheckoutTimeLessThanOrderByCheckoutTimeAsc(LocalDateTime checkoutBefore);
+
+    // [from, to] 와 겹치면서 원본 이벤트를 지운 세션
+    @Query("SELECT s FROM NoiseSession s WHERE s.user = :user AND s.rawPurged = true " +
+            "AND s.checkinTime <= :to AND s.checkoutTime >= :from ORDER BY s.checkinTime")
+    List<NoiseSession> findPurgedOverlapping(@Param("user") User user,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // [from, to) 에 마지막으로 종료된 세션의 구역 순위용 값 (BLOB 제외)
+    Optional<RankView> findTopByUserAndCheckoutTimeGreaterThanEqualAndCheckoutTimeLessThanOrderByCheckoutTimeDesc(
+            User user, LocalDateTime from, LocalDateTime to);
+
+    interface RankView {
+        String getZone();
+
+        double getAvgDecibel();
+
+        double getQuietRatio();
+    }
+}
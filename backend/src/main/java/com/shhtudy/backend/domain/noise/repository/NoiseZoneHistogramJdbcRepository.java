@@ -0,0 +1,51 @@
+package com.shhtudy.backend.domain.noise.repository;
+
+import com.shhtudy.backend.domain.noise.enums.ZoneHistogramMetric;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * noise_zone_histograms 증감/조회
+ * 같은 구역에서 세션이 동시에 끝나도 행 단위 원자적 증가라 값이 유실되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoiseZoneHistogramJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO noise_zone_histograms (zone, stat_date, metric, bucket, session_count, created_at, updated_at, status) " +
+            "VALUES (?, ?, ?, ?, GREATEST(?, 0), NOW(), NOW(), 'ACTIVE') " +
+            "ON DUPLICATE KEY UPDATE session_count = GREATEST(session_count + ?, 0), updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(String zone, LocalDate day, ZoneHistogramMetric metric, int bucket, long delta) {
+        jdbcTemplate.update(UPSERT_SQL, zone, Date.valueOf(day), metric.name(), bucket, delta, delta);
+    }
+
+    /**
+     * 지표별 구간 개수 배열 ([지표 ordinal][구간])
+     */
+    public long[][] findBuckets(String zone, LocalDate day) {
+        ZoneHistogramMetric[] metrics = ZoneHistogramMetric.values();
+        long[][] counts = new long[metrics.length][];
+        for (ZoneHistogramMetric metric : metrics) {
+            counts[metric.ordinal()] = new long[metric.getBucketCount()];
+        }
+        jdbcTemplate.query(
+                "SELECT metric, bucket, session_count FROM noise_zone_histograms WHERE zone = ? AND stat_date = ?",
+                rs -> {
+                    ZoneHistogramMetric metric = ZoneHistogramMetric.valueOf(rs.getString(1));
+                    int bucket = rs.getInt(2);
+                    if (bucket >= 0 && bucket < counts[metric.ordinal()].length) {
+                        counts[metric.ordinal()][bucket] = rs.getLong(3);
+                    }
+                },
+                zone, Date.valueOf(day));
+        return counts;
+    }
+}
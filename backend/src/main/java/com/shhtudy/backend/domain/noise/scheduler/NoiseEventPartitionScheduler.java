@@ -0,0 +1,174 @@
+package com.shhtudy.backend.domain.noise.scheduler;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollupWatermark;
+import com.shhtudy.backend.domain.noise.repository.NoiseEventPartitionRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupWatermarkRepository;
+import com.shhtudy.backend.domain.noise.service.NoiseRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * noise_events 일 단위 파티션 관리
+ * - 파티션 테이블 변환은 migrate() 로 한 번만 (NoiseEventPartitionMigrationRunner, 기동 시 자동 변환 없음)
+ * - 앞으로 precreate-days 일치 파티션을 미리 생성
+ * - retention-days 를 넘긴 파티션은 통째로 DROP (행 단위 DELETE 없음)
+ * 여러 인스턴스 중 락을 잡은 한 곳만 실행한다.
+ */
+@Component
+public class NoiseEventPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseEventPartitionScheduler.class);
+
+    private static final int MAX_INITIAL_PARTITIONS = 1000; // MySQL 한도(8192)보다 충분히 작게
+    private static final int MIGRATION_LOCK_TIMEOUT_SECONDS = 60;
+
+    private final NoiseEventPartitionRepository noiseEventPartitionRepository;
+    private final NoiseRollupWatermarkRepository noiseRollupWatermarkRepository;
+
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int precreateDays;
+    private final boolean rollupEnabled;
+
+    public NoiseEventPartitionScheduler(NoiseEventPartitionRepository noiseEventPartitionRepository,
+                                        NoiseRollupWatermarkRepository noiseRollupWatermarkRepository,
+                                        @Value("${app.noise.partitioning.enabled:false}") boolean enabled,
+                                        @Value("${app.noise.partitioning.retention-days:90}") int retentionDays,
+                                        @Value("${app.noise.partitioning.precreate-days:7}") int precreateDays,
+                                        @Value("${app.noise.rollup.enabled:true}") boolean rollupEnabled) {
+        this.noiseEventPartitionRepository = noiseEventPartitionRepository;
+        this.noiseRollupWatermarkRepository = noiseRollupWatermarkRepository;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.precreateDays = Math.max(precreateDays, 1);
+        this.rollupEnabled = rollupEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.noise.partitioning.cron:0 30 0 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 다른 인스턴스가 실행 중이면 건너뜀 (다음 주기에 다시 확인)
+            boolean locked = noiseEventPartitionRepository.runLocked(0, () -> {
+                LocalDate today = LocalDate.now();
+                List<String> partitions = noiseEventPartitionRepository.findPartitionNames();
+                if (partitions.isEmpty()) {
+                    log.warn("noise_events is not partitioned; run the migration with --app.noise.partitioning.migrate=true");
+                    return;
+                }
+                createFuturePartitions(today, partitions);
+                dropExpiredPartitions(today, partitions);
+            });
+            if (!locked) {
+                log.info("Skipping noise_events partition maintenance: lock held by another instance");
+            }
+        } catch (DataAccessException e) {
+            log.error("noise_events partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * noise_events 를 파티션 테이블로 한 번 변환 (이미 파티션 테이블이면 아무것도 하지 않음)
+     * FK 삭제/PK 변경/테이블 재작성이 일어나므로 쓰기가 없는 점검 시간에 실행한다.
+     */
+    public void migrate() {
+        boolean locked = noiseEventPartitionRepository.runLocked(MIGRATION_LOCK_TIMEOUT_SECONDS, () -> {
+            LocalDate today = LocalDate.now();
+            if (!noiseEventPartitionRepository.findPartitionNames().isEmpty()) {
+                log.info("noise_events is already partitioned; nothing to migrate");
+                return;
+            }
+            convertTable(today);
+        });
+        if (!locked) {
+            throw new IllegalStateException("noise_events partition lock is held by another instance");
+        }
+    }
+
+    private void convertTable(LocalDate today) {
+        LocalDate first = today;
+        LocalDate minMeasured = noiseEventPartitionRepository.findMinMeasuredDate();
+        if (minMeasured != null && minMeasured.isBefore(first)) {
+            first = minMeasured;
+        }
+        // 가장 앞 파티션이 그 이전 데이터를 모두 받으므로 보존 기간 밖은 한 파티션으로 합친다
+        if (retentionDays > 0 && first.isBefore(today.minusDays(retentionDays + 1L))) {
+            first = today.minusDays(retentionDays + 1L);
+        }
+        if (first.isBefore(today.minusDays(MAX_INITIAL_PARTITIONS))) {
+            first = today.minusDays(MAX_INITIAL_PARTITIONS);
+        }
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(today.plusDays(precreateDays)); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        log.warn("Converting noise_events to {} daily partitions (table rebuild)", days.size());
+        noiseEventPartitionRepository.partition(days);
+    }
+
+    private void createFuturePartitions(LocalDate today, List<String> partitions) {
+        LocalDate lastDay = null;
+        for (String partition : partitions) {
+            LocalDate day = NoiseEventPartitionRepository.partitionDay(partition);
+            if (day != null && (lastDay == null || day.isAfter(lastDay))) {
+                lastDay = day;
+            }
+        }
+
+        LocalDate from = lastDay != null ? lastDay.plusDays(1) : today;
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(today.plusDays(precreateDays)); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        if (!days.isEmpty()) {
+            noiseEventPartitionRepository.addPartitions(days);
+            log.info("Created noise_events partitions {} ~ {}", days.get(0), days.get(days.size() - 1));
+        }
+    }
+
+    private void dropExpiredPartitions(LocalDate today, List<String> partitions) {
+        if (retentionDays <= 0) {
+            return;
+        }
+        LocalDate oldestKept = today.minusDays(retentionDays);
+        long rolledUpEventId = noiseRollupWatermarkRepository.findById(NoiseRollupService.WATERMARK_NAME)
+                .map(NoiseRollupWatermark::getLastEventId)
+                .orElse(0L);
+
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            LocalDate day = NoiseEventPartitionRepository.partitionDay(partition);
+            if (day == null || !day.isBefore(oldestKept)) {
+                continue;
+            }
+            // 아직 롤업되지 않은 이벤트가 남아 있으면 통계가 사라지므로 다음 실행으로 미룬다
+            if (rollupEnabled && noiseEventPartitionRepository.hasEventsAfter(partition, rolledUpEventId)) {
+                log.warn("Skipping drop of {}: events not yet rolled up", partition);
+                continue;
+            }
+            expired.add(partition);
+        }
+        if (!expired.isEmpty()) {
+            noiseEventPartitionRepository.dropPartitions(expired);
+            log.info("Dropped expired noise_events partitions {}", expired);
+        }
+    }
+}
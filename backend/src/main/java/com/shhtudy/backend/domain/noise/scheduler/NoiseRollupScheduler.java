@@ -0,0 +1,90 @@
+package com.shhtudy.backend.domain.noise.scheduler;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollupWatermark;
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.RollupScope;
+import com.shhtudy.backend.domain.noise.enums.RollupSource;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupWatermarkRepository;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * noise_events, noise_sample_runs 를 각자의 워터마크(마지막으로 집계한 id) 이후부터 잘라 읽어 noise_rollups 에 누적한다.
+ * 롤업 누적과 워터마크 갱신은 한 트랜잭션이라, 중간에 죽어도 같은 구간을 두 번 더하지 않는다.
+ */
+@Component
+public class NoiseRollupScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseRollupScheduler.class);
+
+    private final NoiseRollupJdbcRepository noiseRollupJdbcRepository;
+    private final NoiseRollupWatermarkRepository noiseRollupWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long lagSeconds;
+
+    public NoiseRollupScheduler(NoiseRollupJdbcRepository noiseRollupJdbcRepository,
+                                NoiseRollupWatermarkRepository noiseRollupWatermarkRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.noise.rollup.enabled:true}") boolean enabled,
+                                @Value("${app.noise.rollup.chunk-size:50000}") int chunkSize,
+                                @Value("${app.noise.rollup.lag-seconds:5}") long lagSeconds) {
+        this.noiseRollupJdbcRepository = noiseRollupJdbcRepository;
+        this.noiseRollupWatermarkRepository = noiseRollupWatermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.lagSeconds = lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.noise.rollup.interval-ms:60000}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        for (RollupSource source : RollupSource.values()) {
+            // 밀린 구간이 있으면 한 번에 따라잡는다
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> compactChunk(source)))) {
+                // 다음 청크
+            }
+        }
+    }
+
+    private boolean compactChunk(RollupSource source) {
+        NoiseRollupWatermark watermark = noiseRollupWatermarkRepository.findById(source.getWatermarkName())
+                .orElseGet(() -> new NoiseRollupWatermark(source.getWatermarkName(), 0L, null));
+
+        long from = watermark.getLastEventId();
+        // 커밋이 늦는 행을 건너뛰지 않도록 최근 lagSeconds 동안 생성된 행은 다음 주기로 미룬다
+        LocalDateTime createdBefore = LocalDateTime.now().minusSeconds(lagSeconds);
+        Long to = noiseRollupJdbcRepository.findNextWatermark(source, from, createdBefore, chunkSize);
+        if (to == null) {
+            return false;
+        }
+
+        for (RollupScope scope : RollupScope.values()) {
+            for (RollupResolution resolution : RollupResolution.values()) {
+                noiseRollupJdbcRepository.upsertRollups(source, scope, resolution, from, to,
+                        NoiseSessionAccumulator.QUIET_THRESHOLD_DB);
+            }
+        }
+
+        watermark.setLastEventId(to);
+        watermark.setUpdatedAt(LocalDateTime.now());
+        noiseRollupWatermarkRepository.save(watermark);
+
+        log.debug("Noise rollup compacted {} ({}, {}]", source.getTable(), from, to);
+        return true;
+    }
+}
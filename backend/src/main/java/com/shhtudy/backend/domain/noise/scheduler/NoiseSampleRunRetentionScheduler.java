@@ -0,0 +1,73 @@
+package com.shhtudy.backend.domain.noise.scheduler;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollupWatermark;
+import com.shhtudy.backend.domain.noise.enums.RollupSource;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupWatermarkRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseSampleRunJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * retention-days 를 넘긴 noise_sample_runs 를 청크 단위로 삭제
+ * 롤업을 쓰면 롤업 워터마크까지 집계된 묶음만 지운다. (아직 집계 안 된 묶음은 다음 주기에)
+ */
+@Component
+public class NoiseSampleRunRetentionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseSampleRunRetentionScheduler.class);
+
+    private final NoiseSampleRunJdbcRepository noiseSampleRunJdbcRepository;
+    private final NoiseRollupWatermarkRepository noiseRollupWatermarkRepository;
+
+    private final int retentionDays;
+    private final int chunkSize;
+    private final boolean rollupEnabled;
+
+    public NoiseSampleRunRetentionScheduler(NoiseSampleRunJdbcRepository noiseSampleRunJdbcRepository,
+                                            NoiseRollupWatermarkRepository noiseRollupWatermarkRepository,
+                                            @Value("${app.noise.runs.retention-days:90}") int retentionDays,
+                                            @Value("${app.noise.runs.retention-chunk-size:10000}") int chunkSize,
+                                            @Value("${app.noise.rollup.enabled:true}") boolean rollupEnabled) {
+        this.noiseSampleRunJdbcRepository = noiseSampleRunJdbcRepository;
+        this.noiseRollupWatermarkRepository = noiseRollupWatermarkRepository;
+        this.retentionDays = retentionDays;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.rollupEnabled = rollupEnabled;
+    }
+
+    @Scheduled(cron = "${app.noise.runs.retention-cron:0 50 0 * * *}")
+    public void purgeExpired() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        LocalDateTime before = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        long maxId = rollupEnabled
+                ? noiseRollupWatermarkRepository.findById(RollupSource.RUNS.getWatermarkName())
+                        .map(NoiseRollupWatermark::getLastEventId)
+                        .orElse(0L)
+                : Long.MAX_VALUE;
+
+        long deleted = 0;
+        try {
+            // 청크마다 autocommit 이라 긴 락 없이 조금씩 지운다
+            int chunk;
+            do {
+                chunk = noiseSampleRunJdbcRepository.deleteStartedBefore(before, maxId, chunkSize);
+                deleted += chunk;
+            } while (chunk == chunkSize);
+        } catch (DataAccessException e) {
+            log.error("noise_sample_runs retention failed after {} rows", deleted, e);
+            return;
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} noise_sample_runs started before {}", deleted, before);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.shhtudy.backend.domain.noise.scheduler;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollupWatermark;
+import com.shhtudy.backend.domain.noise.entity.NoiseSession;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupWatermarkRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseSessionRepository;
+import com.shhtudy.backend.domain.noise.service.NoiseRollupService;
+import com.shhtudy.backend.domain.noise.service.NoiseSeriesService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료된 세션의 측정값을 압축본으로 만들고 원본 noise_events 를 지운다. (purge-raw 일 때만 동작)
+ * 압축본은 원본을 지운 세션에서만 읽으므로, 원본을 남기는 설정에서는 압축하지 않는다.
+ * - 종료 후 grace-minutes 가 지난 세션만 압축 (쓰기 버퍼에 남은 측정값을 기다림)
+ * - 원본 삭제는 purge-after-days 일 이전에 종료됐고 롤업까지 끝난 세션만 (통계가 사라지지 않도록)
+ * - 압축 이후 세션 구간에 행이 추가됐으면 삭제하지 않고 다시 압축
+ */
+@Component
+public class NoiseSeriesCompactionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseSeriesCompactionScheduler.class);
+
+    private final NoiseSeriesService noiseSeriesService;
+    private final NoiseSessionRepository noiseSessionRepository;
+    private final NoiseRollupWatermarkRepository noiseRollupWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long graceMinutes;
+    private final boolean purgeRaw;
+    private final int purgeAfterDays;
+    private final boolean rollupEnabled;
+
+    public NoiseSeriesCompactionScheduler(NoiseSeriesService noiseSeriesService,
+                                          NoiseSessionRepository noiseSessionRepository,
+                                          NoiseRollupWatermarkRepository noiseRollupWatermarkRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${app.noise.series.enabled:true}") boolean enabled,
+                                          @Value("${app.noise.series.grace-minutes:5}") long graceMinutes,
+                                          @Value("${app.noise.series.purge-raw:false}") boolean purgeRaw,
+                                          @Value("${app.noise.series.purge-after-days:1}") int purgeAfterDays,
+                                          @Value("${app.noise.rollup.enabled:true}") boolean rollupEnabled) {
+        this.noiseSeriesService = noiseSeriesService;
+        this.noiseSessionRepository = noiseSessionRepository;
+        this.noiseRollupWatermarkRepository = noiseRollupWatermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.graceMinutes = graceMinutes;
+        this.purgeRaw = purgeRaw;
+        // 오늘 리포트는 원본 이벤트를 읽으므로 최소 하루는 남긴다
+        this.purgeAfterDays = Math.max(purgeAfterDays, 1);
+        this.rollupEnabled = rollupEnabled;
+    }
+
+    @Scheduled(fixedDelayString = "${app.noise.series.interval-ms:60000}")
+    public void run() {
+        if (!enabled || !purgeRaw || !noiseSeriesService.supportsRawPurge()) {
+            return;
+        }
+        try {
+            compactClosedSessions();
+            purgeCompactedSessions();
+        } catch (DataAccessException e) {
+            log.error("noise series compaction failed", e);
+        }
+    }
+
+    private void compactClosedSessions() {
+        LocalDateTime checkoutBefore = LocalDateTime.now().minusMinutes(graceMinutes);
+        List<NoiseSession> sessions;
+        do {
+            sessions = noiseSessionRepository
+                    .findTop100ByCheckoutTimeLessThanAndSampleSeriesIsNullOrderByCheckoutTimeAsc(checkoutBefore);
+            long samples = 0;
+            for (NoiseSession session : sessions) {
+                Integer count = transactionTemplate.execute(status -> noiseSeriesService.compact(session));
+                samples += count != null ? count : 0;
+            }
+            if (!sessions.isEmpty()) {
+                log.info("Compacted {} noise sessions ({} samples)", sessions.size(), samples);
+            }
+        } while (sessions.size() == 100);
+    }
+
+    private void purgeCompactedSessions() {
+        LocalDateTime checkoutBefore = LocalDate.now().minusDays(purgeAfterDays - 1L).atStartOfDay();
+        long rolledUpEventId = noiseRollupWatermarkRepository.findById(NoiseRollupService.WATERMARK_NAME)
+                .map(NoiseRollupWatermark::getLastEventId)
+                .orElse(0L);
+
+        long deleted = 0;
+        int recompact = 0;
+        for (NoiseSession session : noiseSessionRepository
+                .findTop100BySampleSeriesIsNotNullAndRawPurgedFalseAndCheckoutTimeLessThanOrderByCheckoutTimeAsc(checkoutBefore)) {
+            // 아직 롤업되지 않은 이벤트가 있으면 다음 실행으로 미룬다
+            Long maxEventId = noiseSeriesService.findMaxEventId(session);
+            if (rollupEnabled && maxEventId != null && maxEventId > rolledUpEventId) {
+                continue;
+            }
+            Integer count = transactionTemplate.execute(status -> noiseSeriesService.purgeRaw(session));
+            if (count != null && count < 0) {
+                recompact++;
+            } else {
+                deleted += count != null ? count : 0;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Purged {} raw noise events of compacted sessions", deleted);
+        }
+        if (recompact > 0) {
+            log.warn("{} compacted noise sessions received new events; cleared for recompaction", recompact);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.shhtudy.backend.domain.noise.sensor;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.service.NoiseService;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.user.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 고정형 소음 센서 UDP 게이트웨이
+ *
+ * <pre>
+ * datagram (big-endian)
+ * [1 byte] 버전 (0x01)
+ * 이후 8 byte 프레임 반복 (하나 이상)
+ *   seatId   u16
+ *   sequence u32 (센서별 1씩 증가)
+ *   decibel  u16 (0.1 dB 단위, 0 ~ 2000)
+ * </pre>
+ *
+ * 수신 스레드 하나가 논블로킹 채널에서 버퍼 하나를 재사용해 읽고, 측정 시각은 서버 수신 시각이다.
+ * 좌석 → 이용자는 occupant-cache-ms 동안 캐시하고(빈 좌석 포함), 측정값은 batch-size 또는
+ * flush-interval-ms 단위로 모아 NoiseService 의 일반 수집 경로(누적 통계, 히트맵, 이상 감지, 묶음 저장)로 넘긴다.
+ * 저장은 사용자별 트랜잭션이라 한 사용자 저장이 실패해도 다른 사용자 측정값은 저장된다.
+ * 인증이 없으므로 기본은 루프백에만 바인딩하고, 센서망 인터페이스 주소를 bind-address 로 지정한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.noise.sensor.enabled", havingValue = "true")
+public class NoiseSensorGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoiseSensorGateway.class);
+
+    private static final byte VERSION = 1;
+    private static final int FRAME_SIZE = 8;
+    private static final int MAX_DATAGRAM_SIZE = 1 + FRAME_SIZE * 64;
+    private static final long IDLE_SELECT_MS = 1000;
+
+    private final NoiseService noiseService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.noise.sensor.bind-address:127.0.0.1}")
+    private String bindAddress;
+
+    @Value("${app.noise.sensor.port:9876}")
+    private int port;
+
+    @Value("${app.noise.heatmap.max-seat-id:1023}")
+    private int maxSeatId;
+
+    @Value("${app.noise.sensor.occupant-cache-ms:10000}")
+    private long occupantCacheMs;
+
+    @Value("${app.noise.sensor.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.noise.sensor.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.noise.sensor.reorder-window:64}")
+    private int reorderWindow;
+
+    @Value("${app.noise.sensor.receive-buffer-bytes:4194304}")
+    private int receiveBufferBytes;
+
+    @Value("${app.noise.sensor.shutdown-timeout-ms:5000}")
+    private long shutdownTimeoutMs;
+
+    private DatagramChannel channel;
+    private Selector selector;
+    private Thread receiver;
+    private volatile boolean running;
+
+    // 아래는 수신 스레드 전용
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE);
+    private final List<NoiseEvent> pending = new ArrayList<>();
+    private long firstPendingAt;
+    private SensorSequenceTracker sequenceTracker;
+    private User[] occupants;
+    private long[] occupantExpiresAt;
+
+    private Counter receivedCounter;
+    private Counter malformedCounter;
+    private Counter duplicateCounter;
+    private Counter lateCounter;
+    private Counter missedCounter;
+    private Counter unassignedCounter;
+    private Counter flushFailedCounter;
+
+    public NoiseSensorGateway(NoiseService noiseService, MeterRegistry meterRegistry) {
+        this.noiseService = noiseService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        sequenceTracker = new SensorSequenceTracker(maxSeatId, reorderWindow);
+        occupants = new User[maxSeatId + 1];
+        occupantExpiresAt = new long[maxSeatId + 1];
+
+        receivedCounter = counter("noise.sensor.received", "수신한 센서 프레임 수");
+        malformedCounter = counter("noise.sensor.malformed", "형식이 잘못되어 버린 datagram/프레임 수");
+        duplicateCounter = counter("noise.sensor.duplicate", "중복 순번으로 버린 프레임 수");
+        lateCounter = counter("noise.sensor.late", "순서가 뒤바뀌어 늦게 도착해 버린 프레임 수");
+        missedCounter = counter("noise.sensor.missed", "순번 공백으로 추정한 유실 프레임 수");
+        unassignedCounter = counter("noise.sensor.unassigned", "이용자가 없는 좌석이라 버린 프레임 수");
+        flushFailedCounter = counter("noise.sensor.flush_failed", "저장 실패로 유실된 측정값 수");
+
+        try {
+            selector = Selector.open();
+            channel = DatagramChannel.open();
+            channel.configureBlocking(false);
+            // 저장이 잠깐 밀리는 동안 커널이 datagram 을 버리지 않도록 수신 버퍼를 넉넉히
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, receiveBufferBytes);
+            channel.bind(new InetSocketAddress(bindAddress, port));
+            channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        running = true;
+        receiver = new Thread(this::runReceiveLoop, "noise-sensor-gateway");
+        receiver.setDaemon(true);
+        receiver.start();
+        logger.info("소음 센서 UDP 게이트웨이 시작 - {}:{}, batchSize: {}, flushIntervalMs: {}",
+                bindAddress, port, batchSize, flushIntervalMs);
+    }
+
+    private Counter counter(String name, String description) {
+        return Counter.builder(name).description(description).register(meterRegistry);
+    }
+
+    private void runReceiveLoop() {
+        while (running) {
+            try {
+                long waitMs = pending.isEmpty() ? IDLE_SELECT_MS
+                        : Math.max(1, firstPendingAt + flushIntervalMs - System.currentTimeMillis());
+                selector.select(waitMs);
+                selector.selectedKeys().clear();
+
+                // 쌓인 datagram 을 배치 크기까지 한 번에 읽는다
+                while (pending.size() < batchSize) {
+                    buffer.clear();
+                    if (channel.receive(buffer) == null) {
+                        break;
+                    }
+                    buffer.flip();
+                    handleDatagram(buffer);
+                }
+
+                if (!pending.isEmpty() && (pending.size() >= batchSize
+                        || System.currentTimeMillis() - firstPendingAt >= flushIntervalMs)) {
+                    flush();
+                }
+            } catch (IOException e) {
+                if (running) {
+                    logger.warn("소음 센서 수신 오류: {}", e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                logger.error("소음 센서 처리 오류", e);
+            }
+        }
+        flush();
+    }
+
+    private void handleDatagram(ByteBuffer datagram) {
+        int remaining = datagram.remaining();
+        if (remaining < 1 + FRAME_SIZE || (remaining - 1) % FRAME_SIZE != 0 || datagram.get() != VERSION) {
+            malformedCounter.increment();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        LocalDateTime measuredAt = LocalDateTime.now();
+        while (datagram.hasRemaining()) {
+            int seatId = datagram.getShort() & 0xFFFF;
+            int sequence = datagram.getInt();
+            double decibel = (datagram.getShort() & 0xFFFF) / 10.0;
+            receivedCounter.increment();
+
+            if (seatId > maxSeatId || decibel > NoiseSessionAccumulator.MAX_DECIBEL) {
+                malformedCounter.increment();
+                continue;
+            }
+            switch (sequenceTracker.accept(seatId, sequence)) {
+                case SensorSequenceTracker.DUPLICATE -> {
+                    duplicateCounter.increment();
+                    continue;
+                }
+                case SensorSequenceTracker.LATE -> {
+                    lateCounter.increment();
+                    continue;
+                }
+                default -> {
+                    if (sequenceTracker.getMissed() > 0) {
+                        missedCounter.increment(sequenceTracker.getMissed());
+                    }
+                }
+            }
+
+            User user = occupant(seatId, now);
+            if (user == null) {
+                unassignedCounter.increment();
+                continue;
+            }
+            if (pending.isEmpty()) {
+                firstPendingAt = now;
+            }
+            pending.add(NoiseEvent.builder()
+                    .user(user)
+                    .seat(user.getCurrentSeat())
+                    .decibel(decibel)
+                    .measuredAt(measuredAt)
+                    .build());
+        }
+    }
+
+    // 좌석 이용자 (빈 좌석도 캐시해서 좌석당 occupant-cache-ms 에 한 번만 조회)
+    private User occupant(int seatId, long now) {
+        if (now < occupantExpiresAt[seatId]) {
+            return occupants[seatId];
+        }
+        try {
+            occupants[seatId] = noiseService.findSensorSeatUser(seatId).orElse(null);
+        } catch (RuntimeException e) {
+            // DB 오류 시 직전 값을 잠시 더 쓴다
+            logger.warn("센서 좌석 이용자 조회 실패 - seat: {}, {}", seatId, e.getMessage());
+        }
+        occupantExpiresAt[seatId] = now + occupantCacheMs;
+        return occupants[seatId];
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 사용자별로 나눠 저장 (한 사용자 실패가 배치 전체를 롤백하지 않도록)
+        Map<String, List<NoiseEvent>> byUser = new LinkedHashMap<>();
+        for (NoiseEvent event : pending) {
+            byUser.computeIfAbsent(event.getUser().getFirebaseUid(), key -> new ArrayList<>()).add(event);
+        }
+        pending.clear();
+        for (Map.Entry<String, List<NoiseEvent>> entry : byUser.entrySet()) {
+            List<NoiseEvent> events = entry.getValue();
+            try {
+                noiseService.saveSensorEvents(events);
+            } catch (RuntimeException e) {
+                flushFailedCounter.increment(events.size());
+                logger.error("소음 센서 측정값 저장 실패 - user: {}, {}건 유실: {}",
+                        entry.getKey(), events.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        try {
+            if (receiver != null) {
+                receiver.join(shutdownTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            if (selector != null) {
+                selector.close();
+            }
+        } catch (IOException e) {
+            logger.warn("소음 센서 채널 종료 오류: {}", e.getMessage());
+        }
+        logger.info("소음 센서 UDP 게이트웨이 종료");
+    }
+}
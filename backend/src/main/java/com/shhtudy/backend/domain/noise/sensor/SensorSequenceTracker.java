@@ -0,0 +1,54 @@
+package com.shhtudy.backend.domain.noise.sensor;
+
+/**
+ * 좌석 센서별 마지막 순번 (32bit, 넘치면 0부터 다시)
+ * 순번 차이를 부호 있는 32bit 로 비교해서(RFC 1982) 넘침을 자연스럽게 처리한다.
+ * - 차이 1       : 정상
+ * - 차이 2 이상  : 중간 프레임 유실 (유실 수 기록, 받은 프레임은 그대로 사용)
+ * - 차이 0       : 중복
+ * - 차이 음수    : reorderWindow 이내면 늦게 온 프레임(버림), 그보다 크게 뒤로 가면 센서 재시작으로 보고 받아들인다
+ * 게이트웨이 수신 스레드 하나에서만 사용한다.
+ */
+class SensorSequenceTracker {
+
+    static final int ACCEPTED = 0;
+    static final int DUPLICATE = 1;
+    static final int LATE = 2;
+
+    private final int[] lastSequence;
+    private final boolean[] seen;
+    private final int reorderWindow;
+
+    private long missed; // 마지막 accept 에서 건너뛴 프레임 수
+
+    SensorSequenceTracker(int maxSeatId, int reorderWindow) {
+        this.lastSequence = new int[maxSeatId + 1];
+        this.seen = new boolean[maxSeatId + 1];
+        this.reorderWindow = reorderWindow;
+    }
+
+    int accept(int seatId, int sequence) {
+        missed = 0;
+        if (!seen[seatId]) {
+            seen[seatId] = true;
+            lastSequence[seatId] = sequence;
+            return ACCEPTED;
+        }
+        int diff = sequence - lastSequence[seatId];
+        if (diff == 0) {
+            return DUPLICATE;
+        }
+        if (diff < 0 && diff >= -reorderWindow) {
+            return LATE;
+        }
+        if (diff > 1) {
+            missed = diff - 1L;
+        }
+        lastSequence[seatId] = sequence;
+        return ACCEPTED;
+    }
+
+    long getMissed() {
+        return missed;
+    }
+}
@@ -0,0 +1,379 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.enums.BufferOverflowPolicy;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 소음 이벤트 write-behind 버퍼
+ * 요청 스레드는 큐에 넣고 바로 반환하고, 별도 flusher 스레드가
+ * batch-size 만큼 모이거나 flush-interval 이 지나면 한 번에 저장한다.
+ * 이미 응답한 측정값이므로 저장 실패 시 트랜잭션 단위로 max-retries 번 재시도하고 (지수 백오프),
+ * 그래도 실패하면 큐에 다시 넣어 다음 배치에서 저장한다. 큐에 자리가 없거나 종료 중일 때만 유실된다.
+ * NoiseRunCollapser 가 닫은 조용한 측정값 묶음도 별도 큐로 받아 같은 flusher 스레드가 같은 방식으로 저장한다.
+ * 세션 종료처럼 DB 에서 다시 읽기 전에는 flush(userId) 로 그 사용자 몫을 바로 저장한다.
+ */
+@Component
+public class NoiseEventWriteBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoiseEventWriteBuffer.class);
+
+    private final NoiseEventStore noiseEventStore;
+    private final NoiseSampleRunWriter noiseSampleRunWriter;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.noise.write-buffer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.noise.write-buffer.capacity:10000}")
+    private int capacity;
+
+    @Value("${app.noise.write-buffer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.noise.write-buffer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${app.noise.write-buffer.overflow-policy:REJECT}")
+    private BufferOverflowPolicy overflowPolicy;
+
+    @Value("${app.noise.write-buffer.block-timeout-ms:200}")
+    private long blockTimeoutMs;
+
+    @Value("${app.noise.write-buffer.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${app.noise.write-buffer.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${app.noise.write-buffer.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    private BlockingQueue<NoiseEvent> queue;
+    private BlockingQueue<QuietSampleRun> runQueue;
+    private Thread flusher;
+    // flusher 가 큐에서 꺼낸 배치를 저장할 때까지 잡는 락 (공정: flush(userId) 가 다음 주기를 기다리지 않도록)
+    private final ReentrantLock saveLock = new ReentrantLock(true);
+    private volatile boolean running;
+    private final AtomicLong flushedCount = new AtomicLong(); // 저장 완료 누적 건수 (대기 시간 추정용)
+
+    private Timer flushTimer;
+    private Counter droppedCounter;
+    private Counter rejectedCounter;
+    private Counter flushFailedCounter;
+    private Counter retriedCounter;
+    private Counter requeuedCounter;
+
+    public NoiseEventWriteBuffer(NoiseEventStore noiseEventStore, NoiseSampleRunWriter noiseSampleRunWriter,
+                                 MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.noiseEventStore = noiseEventStore;
+        this.noiseSampleRunWriter = noiseSampleRunWriter;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        runQueue = new ArrayBlockingQueue<>(capacity);
+
+        Gauge.builder("noise.write_buffer.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 소음 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("noise.write_buffer.run_depth", runQueue, BlockingQueue::size)
+                .description("저장 대기 중인 조용한 측정값 묶음 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("noise.write_buffer.flush")
+                .description("배치 저장 소요 시간")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("noise.write_buffer.dropped")
+                .description("DROP_OLDEST 정책으로 버려진 소음 이벤트 수")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("noise.write_buffer.rejected")
+                .description("버퍼가 가득 차 거절된 소음 이벤트 수")
+                .register(meterRegistry);
+        flushFailedCounter = Counter.builder("noise.write_buffer.flush_failed")
+                .description("저장 실패로 유실된 소음 이벤트 수")
+                .register(meterRegistry);
+        retriedCounter = Counter.builder("noise.write_buffer.retried")
+                .description("저장 실패 후 재시도한 배치 수")
+                .register(meterRegistry);
+        requeuedCounter = Counter.builder("noise.write_buffer.requeued")
+                .description("재시도 후에도 실패해 큐에 다시 넣은 소음 이벤트 수")
+                .register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "noise-event-flusher");
+        flusher.start();
+        logger.info("소음 이벤트 write-behind 버퍼 시작 - capacity: {}, batchSize: {}, flushIntervalMs: {}, policy: {}",
+                capacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 저장 대기 중인 이벤트 수
+    public int getDepth() {
+        return running ? queue.size() : 0;
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public void enqueue(NoiseEvent event) {
+        if (!running) {
+            throw new CustomException(ErrorCode.NOISE_BUFFER_FULL);
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        reject();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    reject();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+            }
+            default -> {
+                if (!queue.offer(event)) {
+                    reject();
+                }
+            }
+        }
+    }
+
+    /**
+     * 닫힌 묶음을 큐에 넣고, 자리가 없어 넣지 못한 묶음을 돌려준다 (호출 측에서 바로 저장)
+     */
+    public List<QuietSampleRun> enqueueRuns(List<QuietSampleRun> runs) {
+        if (!running) {
+            return runs;
+        }
+        for (int i = 0; i < runs.size(); i++) {
+            if (!runQueue.offer(runs.get(i))) {
+                return runs.subList(i, runs.size());
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 사용자의 대기 중인 측정값/묶음을 바로 저장 (세션 종료 통계/리포트를 DB 에서 계산하기 전에 호출)
+     * flusher 가 이미 꺼내 저장 중인 배치가 있으면 끝날 때까지 기다린다. 실패하면 큐에 다시 넣고 예외를 올린다.
+     */
+    public void flush(String userId) {
+        if (queue == null) {
+            return;
+        }
+        saveLock.lock();
+        try {
+            List<NoiseEvent> events = removeMatching(queue, event -> userId.equals(event.getUser().getFirebaseUid()));
+            List<QuietSampleRun> runs = removeMatching(runQueue, run -> userId.equals(run.getUserId()));
+            try {
+                if (!events.isEmpty()) {
+                    saveWithRetry(() -> noiseEventStore.saveAll(events));
+                    flushedCount.addAndGet(events.size());
+                    events.clear();
+                }
+                if (!runs.isEmpty()) {
+                    saveWithRetry(() -> noiseSampleRunWriter.store(runs));
+                }
+            } catch (RuntimeException e) {
+                requeue(queue, events);
+                requeue(runQueue, runs);
+                throw e;
+            }
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    private static <T> List<T> removeMatching(BlockingQueue<T> source, Predicate<T> matches) {
+        List<T> removed = new ArrayList<>();
+        source.removeIf(item -> matches.test(item) && removed.add(item));
+        return removed;
+    }
+
+    private void reject() {
+        rejectedCounter.increment();
+        throw new CustomException(ErrorCode.NOISE_BUFFER_FULL);
+    }
+
+    private void runFlushLoop() {
+        List<NoiseEvent> batch = new ArrayList<>(batchSize);
+
+        // 종료 요청 후에도 큐가 빌 때까지 계속 저장
+        while (running || !queue.isEmpty() || !runQueue.isEmpty()) {
+            saveLock.lock();
+            try {
+                NoiseEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                flushRuns();
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 이벤트 기준으로 flush-interval 안에서 batch-size 만큼 모아 본다
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) {
+                        break;
+                    }
+                    long waitNanos = deadline - System.nanoTime();
+                    if (waitNanos <= 0) {
+                        break;
+                    }
+                    NoiseEvent next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                // interrupt 되면 모아둔 배치를 저장하고, 남은 큐를 비운 뒤 끝낸다
+                flush(batch);
+                flushRuns();
+                running = false;
+            } finally {
+                batch.clear();
+                saveLock.unlock();
+            }
+        }
+    }
+
+    private void flush(List<NoiseEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            saveWithRetry(() -> noiseEventStore.saveAll(batch));
+            flushedCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            int requeued = running ? requeue(queue, batch) : 0;
+            int lost = batch.size() - requeued;
+            if (lost > 0) {
+                flushFailedCounter.increment(lost);
+            }
+            logger.error("소음 이벤트 배치 저장 실패 - 재시도 {}회 후 {}건 다시 대기, {}건 유실: {}",
+                    maxRetries, requeued, lost, e.getMessage(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 대기 중인 묶음을 batch-size 씩 저장 (실패 처리는 이벤트 배치와 같음)
+    private void flushRuns() {
+        List<QuietSampleRun> runs = new ArrayList<>(Math.min(batchSize, runQueue.size()));
+        while (runQueue.drainTo(runs, batchSize) > 0) {
+            try {
+                saveWithRetry(() -> noiseSampleRunWriter.store(runs));
+            } catch (RuntimeException e) {
+                int requeued = running ? requeue(runQueue, runs) : 0;
+                int lost = runs.size() - requeued;
+                logger.error("조용한 측정값 묶음 저장 실패 - 재시도 {}회 후 {}건 다시 대기, {}건 유실: {}",
+                        maxRetries, requeued, lost, e.getMessage(), e);
+                return; // 다시 넣은 묶음은 다음 주기에
+            } finally {
+                runs.clear();
+            }
+        }
+    }
+
+    // 배치 하나를 트랜잭션으로 저장 (일부만 들어간 채 재시도해서 중복되지 않도록)
+    private void saveWithRetry(Runnable save) {
+        long backoff = retryBackoffMs;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> save.run());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries || !running) {
+                    throw e;
+                }
+                retriedCounter.increment();
+                logger.warn("소음 이벤트 배치 저장 재시도 {}/{} ({}ms 후): {}", attempt + 1, maxRetries, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoff = Math.min(backoff * 2, flushIntervalMs * 10);
+            }
+        }
+    }
+
+    // 자리가 있는 만큼 다시 넣고 넣은 수를 반환
+    private <T> int requeue(BlockingQueue<T> target, List<T> batch) {
+        int requeued = 0;
+        for (T item : batch) {
+            if (!target.offer(item)) {
+                break;
+            }
+            requeued++;
+        }
+        requeuedCounter.increment(requeued);
+        return requeued;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            logger.warn("소음 이벤트 버퍼 종료 시간 초과 - 미저장 {}건, 묶음 {}건", queue.size(), runQueue.size());
+        } else {
+            logger.info("소음 이벤트 버퍼 종료 - 남은 이벤트 저장 완료");
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.dto.HeatmapSeatDto;
+import com.shhtudy.backend.domain.noise.dto.HeatmapZoneDto;
+import com.shhtudy.backend.domain.noise.dto.NoiseHeatmapDto;
+import com.shhtudy.backend.domain.noise.stats.SeatNoiseBoard;
+import com.shhtudy.backend.domain.seat.entity.Seat;
+import com.shhtudy.backend.domain.seat.repository.SeatRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석/구역 실시간 소음 히트맵
+ * - 측정값은 SeatNoiseBoard(락 없는 원시 배열)에 바로 반영
+ * - tick 마다 스냅샷을 만들어 직전 전송분과 달라진 좌석/구역만 SSE 로 전송
+ *   (전송은 전용 스레드에서, 느린 구독자가 스케줄러 스레드를 막지 않도록. 밀리면 다음 tick 에 전체 스냅샷)
+ * - 조회는 메모리만 읽는다 (좌석→구역 매핑은 시작 시 한 번 로드)
+ */
+@Service
+public class NoiseHeatmapService {
+
+    private static final Logger log = LoggerFactory.getLogger(NoiseHeatmapService.class);
+
+    private static final String[] ZONES = {"A", "B", "C", "F"};
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int HEARTBEAT_TICKS = 15;
+    private static final int MAX_PENDING_BROADCASTS = 16;
+
+    private final SeatRepository seatRepository;
+    private final SeatNoiseBoard board;
+    private final long staleMillis;
+    private final long emitterTimeoutMillis;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    // SSE 전송 전용 스레드 (한 스레드라 구독자마다 델타 순서가 유지됨)
+    private final ExecutorService broadcaster = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_BROADCASTS), runnable -> {
+                Thread thread = new Thread(runnable, "noise-heatmap-sse");
+                thread.setDaemon(true);
+                return thread;
+            });
+    // 전송이 밀려 델타를 버렸으면 다음 tick 에 델타 대신 전체 스냅샷 전송 (tick 스레드만 사용)
+    private boolean resyncNeeded;
+
+    // seatId → 구역 인덱스 (-1: 매핑 없음)
+    private volatile int[] zoneBySeat;
+    // 마지막으로 전송한 상태 (tick 스레드만 교체, 새 구독자는 이것을 전체 스냅샷으로 받음)
+    private volatile Frame published;
+    private int ticksSinceSend;
+
+    public NoiseHeatmapService(SeatRepository seatRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.noise.heatmap.max-seat-id:1023}") int maxSeatId,
+                               @Value("${app.noise.heatmap.ewma-alpha:0.2}") double ewmaAlpha,
+                               @Value("${app.noise.heatmap.stale-ms:30000}") long staleMillis,
+                               @Value("${app.noise.heatmap.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.seatRepository = seatRepository;
+        this.board = new SeatNoiseBoard(maxSeatId, ewmaAlpha);
+        this.staleMillis = staleMillis;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.zoneBySeat = new int[board.size()];
+        Arrays.fill(zoneBySeat, -1);
+        this.published = Frame.empty(board.size());
+
+        meterRegistry.gauge("noise.heatmap.subscribers", emitters, List::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSeatZones() {
+        int[] zones = new int[board.size()];
+        Arrays.fill(zones, -1);
+        for (Seat seat : seatRepository.findAll()) {
+            if (seat.getSeatId() < 0 || seat.getSeatId() >= zones.length) {
+                log.warn("Seat {} exceeds heatmap capacity ({})", seat.getSeatId(), zones.length - 1);
+                continue;
+            }
+            zones[seat.getSeatId()] = zoneIndex(seat.getLocationCode());
+        }
+        zoneBySeat = zones;
+    }
+
+    public void record(int seatId, double decibel, long measuredAtMillis) {
+        board.record(seatId, decibel, measuredAtMillis);
+    }
+
+    /**
+     * 좌석의 현재 수준 = max(최신값, 최근 평균), 범위 밖이거나 stale-ms 동안 측정값이 없으면 NaN
+     */
+    public double seatLevel(int seatId, long now) {
+        if (seatId < 0 || seatId >= board.size() || now - board.getUpdatedAtMillis(seatId) > staleMillis) {
+            return Double.NaN;
+        }
+        return Math.max(board.getLatest(seatId), board.getAverage(seatId));
+    }
+
+    public NoiseHeatmapDto getSnapshot() {
+        return published.toSnapshot(zoneBySeat);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        // 델타는 좌석/구역의 절대값을 담으므로, 스냅샷과 다음 델타가 겹쳐도 결과는 같다
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(getSnapshot()));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedRateString = "${app.noise.heatmap.tick-ms:1000}")
+    public void tick() {
+        Frame previous = published;
+        Frame current = capture(previous.version + 1);
+        NoiseHeatmapDto delta = current.deltaFrom(previous, zoneBySeat);
+        published = current;
+
+        if (emitters.isEmpty()) {
+            resyncNeeded = false;
+            return;
+        }
+        if (resyncNeeded) {
+            resyncNeeded = !broadcast(SseEmitter.event().name("snapshot").data(current.toSnapshot(zoneBySeat)));
+            ticksSinceSend = 0;
+        } else if (!delta.getSeats().isEmpty() || !delta.getZones().isEmpty()) {
+            resyncNeeded = !broadcast(SseEmitter.event().name("delta").data(delta));
+            ticksSinceSend = 0;
+        } else if (++ticksSinceSend >= HEARTBEAT_TICKS) {
+            // 프록시가 유휴 연결을 끊지 않도록
+            broadcast(SseEmitter.event().comment("ping"));
+            ticksSinceSend = 0;
+        }
+    }
+
+    // 전송 스레드에 넘기고, 밀려서 넘기지 못하면 false
+    private boolean broadcast(SseEmitter.SseEventBuilder event) {
+        try {
+            broadcaster.execute(() -> {
+                for (SseEmitter emitter : emitters) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        emitters.remove(emitter);
+                    }
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Heatmap broadcast backlog full; sending a snapshot on the next tick");
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcaster.shutdownNow();
+    }
+
+    private Frame capture(long version) {
+        long now = System.currentTimeMillis();
+        int[] zones = zoneBySeat;
+        Frame frame = Frame.empty(board.size());
+        frame.version = version;
+        frame.generatedAt = now;
+
+        long[] zoneActive = new long[ZONES.length];
+        double[] zoneAvgSum = new double[ZONES.length];
+        double[] zoneMax = new double[ZONES.length];
+
+        for (int seatId = 0; seatId < board.size(); seatId++) {
+            if (now - board.getUpdatedAtMillis(seatId) > staleMillis) {
+                continue;
+            }
+            double latest = board.getLatest(seatId);
+            double average = board.getAverage(seatId);
+            if (Double.isNaN(latest)) {
+                continue;
+            }
+            frame.seatLatest[seatId] = toTenths(latest);
+            frame.seatAverage[seatId] = toTenths(average);
+
+            int zone = zones[seatId];
+            if (zone >= 0) {
+                zoneAvgSum[zone] += average;
+                zoneMax[zone] = zoneActive[zone] == 0 ? latest : Math.max(zoneMax[zone], latest);
+                zoneActive[zone]++;
+            }
+        }
+        for (int zone = 0; zone < ZONES.length; zone++) {
+            frame.zoneActive[zone] = (int) zoneActive[zone];
+            if (zoneActive[zone] > 0) {
+                frame.zoneAverage[zone] = toTenths(zoneAvgSum[zone] / zoneActive[zone]);
+                frame.zoneMax[zone] = toTenths(zoneMax[zone]);
+            }
+        }
+        return frame;
+    }
+
+    // 좌석의 구역 (매핑이 없으면 null)
+    public String zoneOf(int seatId) {
+        int[] zones = zoneBySeat;
+        if (seatId < 0 || seatId >= zones.length || zones[seatId] < 0) {
+            return null;
+        }
+        return ZONES[zones[seatId]];
+    }
+
+    private static int zoneIndex(String locationCode) {
+        if (locationCode == null) {
+            return -1;
+        }
+        String zone = locationCode.split("-")[0].toUpperCase();
+        for (int i = 0; i < ZONES.length; i++) {
+            if (ZONES[i].equals(zone)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 0.1 dB 단위 정수 (이 이하의 변화는 델타로 보내지 않음)
+    private static int toTenths(double decibel) {
+        return (int) Math.round(decibel * 10.0);
+    }
+
+    private static double fromTenths(int tenths) {
+        return tenths / 10.0;
+    }
+
+    /**
+     * tick 한 번의 히트맵 상태 (0.1 dB 단위 정수, 값 없음은 NO_VALUE)
+     */
+    private static final class Frame {
+
+        private long version;
+        private long generatedAt;
+        private final int[] seatLatest;
+        private final int[] seatAverage;
+        private final int[] zoneActive = new int[ZONES.length];
+        private final int[] zoneAverage = new int[ZONES.length];
+        private final int[] zoneMax = new int[ZONES.length];
+
+        private Frame(int seats) {
+            seatLatest = new int[seats];
+            seatAverage = new int[seats];
+            Arrays.fill(seatLatest, NO_VALUE);
+            Arrays.fill(seatAverage, NO_VALUE);
+            Arrays.fill(zoneAverage, NO_VALUE);
+            Arrays.fill(zoneMax, NO_VALUE);
+        }
+
+        private static Frame empty(int seats) {
+            return new Frame(seats);
+        }
+
+        private NoiseHeatmapDto toSnapshot(int[] zones) {
+            List<HeatmapSeatDto> seats = new ArrayList<>();
+            for (int seatId = 0; seatId < seatLatest.length; seatId++) {
+                if (zones[seatId] >= 0 || seatLatest[seatId] != NO_VALUE) {
+                    seats.add(seatDto(seatId, zones));
+                }
+            }
+            List<HeatmapZoneDto> zoneDtos = new ArrayList<>();
+            for (int zone = 0; zone < ZONES.length; zone++) {
+                zoneDtos.add(zoneDto(zone));
+            }
+            return build(seats, zoneDtos);
+        }
+
+        private NoiseHeatmapDto deltaFrom(Frame previous, int[] zones) {
+            List<HeatmapSeatDto> seats = new ArrayList<>();
+            for (int seatId = 0; seatId < seatLatest.length; seatId++) {
+                if (seatLatest[seatId] != previous.seatLatest[seatId]
+                        || seatAverage[seatId] != previous.seatAverage[seatId]) {
+                    seats.add(seatDto(seatId, zones));
+                }
+            }
+            List<HeatmapZoneDto> zoneDtos = new ArrayList<>();
+            for (int zone = 0; zone < ZONES.length; zone++) {
+                if (zoneActive[zone] != previous.zoneActive[zone]
+                        || zoneAverage[zone] != previous.zoneAverage[zone]
+                        || zoneMax[zone] != previous.zoneMax[zone]) {
+                    zoneDtos.add(zoneDto(zone));
+                }
+            }
+            return build(seats, zoneDtos);
+        }
+
+        private HeatmapSeatDto seatDto(int seatId, int[] zones) {
+            boolean active = seatLatest[seatId] != NO_VALUE;
+            return HeatmapSeatDto.builder()
+                    .seatId(seatId)
+                    .zone(zones[seatId] >= 0 ? ZONES[zones[seatId]] : null)
+                    .active(active)
+                    .latestDecibel(active ? fromTenths(seatLatest[seatId]) : 0.0)
+                    .avgDecibel(active ? fromTenths(seatAverage[seatId]) : 0.0)
+                    .build();
+        }
+
+        private HeatmapZoneDto zoneDto(int zone) {
+            boolean active = zoneActive[zone] > 0;
+            return HeatmapZoneDto.builder()
+                    .zone(ZONES[zone])
+                    .activeSeats(zoneActive[zone])
+                    .avgDecibel(active ? fromTenths(zoneAverage[zone]) : 0.0)
+                    .maxDecibel(active ? fromTenths(zoneMax[zone]) : 0.0)
+                    .build();
+        }
+
+        private NoiseHeatmapDto build(List<HeatmapSeatDto> seats, List<HeatmapZoneDto> zones) {
+            return NoiseHeatmapDto.builder()
+                    .version(version)
+                    .generatedAt(generatedAt)
+                    .seats(seats)
+                    .zones(zones)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.stats.PcmLevelMeter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기기 모델별 dBFS → dB 보정값
+ * 보정 dB = dBFS + 모델 보정값 (모르는 모델은 기본값), 0 dB 미만은 0 으로 맞춘다.
+ * 모델 보정값은 "모델=보정값;모델=보정값" 형식 (iOS 모델명에 쉼표가 있어서 ; 로 구분)
+ */
+@Component
+public class NoisePcmCalibration {
+
+    private final double defaultOffsetDb;
+    private final Map<String, Double> modelOffsets = new HashMap<>();
+
+    public NoisePcmCalibration(@Value("${app.noise.pcm.default-offset-db:120.0}") double defaultOffsetDb,
+                               @Value("${app.noise.pcm.model-offsets-db:}") String modelOffsets) {
+        this.defaultOffsetDb = defaultOffsetDb;
+        for (String entry : modelOffsets.split(";")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            this.modelOffsets.put(entry.substring(0, separator).trim(),
+                    Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+    }
+
+    public double offsetFor(String deviceModel) {
+        if (deviceModel == null) {
+            return defaultOffsetDb;
+        }
+        return modelOffsets.getOrDefault(deviceModel.trim(), defaultOffsetDb);
+    }
+
+    public double calibrate(double dbfs, double offsetDb) {
+        return Math.max(0.0, dbfs + offsetDb);
+    }
+
+    // 프레임 → 보정 dB
+    public double decibel(short[] pcm, int offset, int length, double offsetDb) {
+        return calibrate(PcmLevelMeter.dbfs(pcm, offset, length), offsetDb);
+    }
+}
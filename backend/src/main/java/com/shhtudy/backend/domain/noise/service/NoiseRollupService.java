@@ -0,0 +1,86 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseRollup;
+import com.shhtudy.backend.domain.noise.entity.NoiseRollupWatermark;
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.RollupScope;
+import com.shhtudy.backend.domain.noise.enums.RollupSource;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseRollupWatermarkRepository;
+import com.shhtudy.backend.domain.noise.stats.NoiseBucketStats;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 롤업 테이블 + 아직 롤업되지 않은 원본 행(원천별 워터마크 이후)을 합쳐 정확한 집계를 돌려준다.
+ * 같은 트랜잭션 안에서 읽어야 워터마크와 롤업 행이 같은 스냅샷을 본다. (InnoDB REPEATABLE READ)
+ */
+@Service
+@RequiredArgsConstructor
+public class NoiseRollupService {
+
+    public static final String WATERMARK_NAME = RollupSource.EVENTS.getWatermarkName();
+
+    private final NoiseRollupRepository noiseRollupRepository;
+    private final NoiseRollupJdbcRepository noiseRollupJdbcRepository;
+    private final NoiseRollupWatermarkRepository noiseRollupWatermarkRepository;
+
+    /**
+     * [from, to) 구간 전체 집계. 구간 경계가 허용하는 가장 큰 단위의 롤업을 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public NoiseBucketStats summarize(RollupScope scope, String scopeKey, LocalDateTime from, LocalDateTime to) {
+        NoiseBucketStats total = new NoiseBucketStats(from);
+        for (NoiseBucketStats bucket : readBuckets(scope, scopeKey, RollupResolution.coarsestFor(from, to), from, to)) {
+            total.merge(bucket);
+        }
+        return total;
+    }
+
+    /**
+     * [from, to) 구간을 resolution 단위 버킷으로 나눈 집계 (시간순)
+     */
+    @Transactional(readOnly = true)
+    public List<NoiseBucketStats> history(RollupScope scope, String scopeKey, RollupResolution resolution,
+                                          LocalDateTime from, LocalDateTime to) {
+        return new ArrayList<>(readBuckets(scope, scopeKey, resolution, from, to));
+    }
+
+    private Collection<NoiseBucketStats> readBuckets(RollupScope scope, String scopeKey, RollupResolution resolution,
+                                                   LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, NoiseBucketStats> buckets = new TreeMap<>();
+
+        List<NoiseRollup> rollups = noiseRollupRepository
+                .findByScopeAndScopeKeyAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        scope, scopeKey, resolution, from, to);
+        for (NoiseRollup rollup : rollups) {
+            buckets.put(rollup.getBucketStart(), new NoiseBucketStats(rollup.getBucketStart(),
+                    rollup.getSampleCount(), rollup.getDecibelSum(),
+                    rollup.getMinDecibel(), rollup.getMaxDecibel(), rollup.getOverCount()));
+        }
+
+        // 워터마크 이후 행은 원본(이벤트, 조용한 측정값 묶음)에서 직접 집계
+        for (RollupSource source : RollupSource.values()) {
+            long watermark = noiseRollupWatermarkRepository.findById(source.getWatermarkName())
+                    .map(NoiseRollupWatermark::getLastEventId)
+                    .orElse(0L);
+            List<NoiseBucketStats> tail = noiseRollupJdbcRepository.aggregateTail(source, scope, scopeKey, resolution,
+                    watermark, from, to, NoiseSessionAccumulator.QUIET_THRESHOLD_DB);
+            for (NoiseBucketStats bucket : tail) {
+                buckets.computeIfAbsent(bucket.getBucketStart(), NoiseBucketStats::new).merge(bucket);
+            }
+        }
+
+        return buckets.values();
+    }
+}
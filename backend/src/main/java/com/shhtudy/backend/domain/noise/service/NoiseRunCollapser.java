@@ -0,0 +1,237 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조용한 측정값을 사용자별로 묶어서 noise_sample_runs 에 한 행으로 저장
+ * 기준 초과 측정값만 noise_events 에 한 건씩 저장되고, 기준 초과 측정값이 오거나
+ * 좌석/1분 구간이 바뀌거나 idle-ms 동안 측정값이 없으면 열린 묶음을 닫는다.
+ * 묶음 하나짜리(앞뒤가 모두 기준 초과)는 그대로 이벤트로 저장한다.
+ * write-behind 버퍼가 켜져 있으면 닫힌 묶음도 버퍼로 넘겨 재시도와 함께 비동기로 저장하고,
+ * 세션 종료 직전(flush)과 종료 시(flushAll)만 바로 저장한다. (재계산이 DB 를 읽으므로)
+ * 바로 저장하다 실패한 묶음은 예외를 올리지 않고 다음 주기(flushIdle)에 다시 저장한다.
+ * (측정값 저장이 커밋된 뒤에 호출되므로 여기서 실패를 올리면 클라이언트 재전송으로 두 번 집계된다)
+ * 커밋 후 콜백 안에서는 끝난 트랜잭션의 연결이 아직 묶여 있어, 바로 저장은 새 트랜잭션으로 한다.
+ */
+@Component
+public class NoiseRunCollapser {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoiseRunCollapser.class);
+
+    private static final int MAX_PENDING_RUNS = 100_000;
+
+    private final NoiseSampleRunWriter noiseSampleRunWriter;
+    private final NoiseEventWriteBuffer noiseEventWriteBuffer;
+    private final TransactionTemplate storeTransaction;
+
+    @Value("${app.noise.runs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.noise.runs.max-gap-ms:5000}")
+    private long maxGapMs;
+
+    @Value("${app.noise.runs.idle-ms:5000}")
+    private long idleMs;
+
+    @Value("${app.noise.runs.grace-ms:2000}")
+    private long graceMs;
+
+    // 사용자별 열린 묶음
+    private final Map<String, QuietSampleRun> openRuns = new ConcurrentHashMap<>();
+    // 저장에 실패해 다시 저장할 묶음 (this 락 안에서만 사용)
+    private final List<QuietSampleRun> pendingRuns = new ArrayList<>();
+
+    public NoiseRunCollapser(NoiseSampleRunWriter noiseSampleRunWriter,
+                             NoiseEventWriteBuffer noiseEventWriteBuffer,
+                             PlatformTransactionManager transactionManager) {
+        this.noiseSampleRunWriter = noiseSampleRunWriter;
+        this.noiseEventWriteBuffer = noiseEventWriteBuffer;
+        this.storeTransaction = new TransactionTemplate(transactionManager);
+        this.storeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 묶음으로 저장할 측정값인지 (아니면 호출 측에서 이벤트로 저장)
+    public boolean absorbs(NoiseEvent event) {
+        return enabled && event.getDecibel() <= NoiseSessionAccumulator.QUIET_THRESHOLD_DB;
+    }
+
+    /**
+     * 조용한 측정값이면 묶음에 넣고 true, 기준 초과면 열린 묶음을 닫고 false (호출 측에서 이벤트로 저장)
+     */
+    public boolean offer(NoiseEvent event) {
+        if (!enabled) {
+            return false;
+        }
+        List<QuietSampleRun> closed = new ArrayList<>(1);
+        boolean absorbed = offer(event, closed);
+        storeAsync(closed);
+        return absorbed;
+    }
+
+    /**
+     * 측정 시각 오름차순 배치를 묶고, 묶이지 않은(기준 초과) 이벤트만 돌려준다
+     */
+    public List<NoiseEvent> offerAll(List<NoiseEvent> sortedEvents) {
+        if (!enabled) {
+            return sortedEvents;
+        }
+        List<NoiseEvent> remaining = new ArrayList<>();
+        List<QuietSampleRun> closed = new ArrayList<>();
+        for (NoiseEvent event : sortedEvents) {
+            if (!offer(event, closed)) {
+                remaining.add(event);
+            }
+        }
+        storeAsync(closed);
+        return remaining;
+    }
+
+    private boolean offer(NoiseEvent event, List<QuietSampleRun> closed) {
+        String userId = event.getUser().getFirebaseUid();
+        int seatId = event.getSeat() != null ? event.getSeat().getSeatId() : -1;
+        long measuredAtMillis = event.getMeasuredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        double decibel = event.getDecibel();
+        boolean quiet = decibel <= NoiseSessionAccumulator.QUIET_THRESHOLD_DB;
+
+        openRuns.compute(userId, (key, run) -> {
+            if (quiet && run != null && run.canAppend(seatId, measuredAtMillis, maxGapMs)) {
+                run.append(measuredAtMillis, decibel);
+                return run;
+            }
+            if (run != null) {
+                closed.add(run);
+            }
+            return quiet ? new QuietSampleRun(userId, seatId, measuredAtMillis, decibel) : null;
+        });
+        return quiet;
+    }
+
+    /**
+     * 클라이언트 구간 요약 묶음 저장 (같은 사용자, 측정 시각 오름차순)
+     * 순서가 섞이지 않도록 열린 묶음을 먼저 닫고 함께 저장한다.
+     */
+    public void storeSummaries(String userId, List<QuietSampleRun> summaries) {
+        List<QuietSampleRun> closed = new ArrayList<>(summaries.size() + 1);
+        QuietSampleRun open = openRuns.remove(userId);
+        if (open != null) {
+            closed.add(open);
+        }
+        closed.addAll(summaries);
+        storeAsync(closed);
+    }
+
+    /**
+     * 사용자의 열린 묶음과 저장 실패로 다시 저장할 묶음을 바로 저장 (세션 종료 전 호출)
+     * 버퍼 큐에 있는 묶음은 NoiseEventWriteBuffer.flush(userId) 가 저장한다.
+     * 실패하면 다음 주기(flushIdle)에 다시 저장하도록 남기고 예외를 올린다.
+     */
+    public void flush(String userId) {
+        List<QuietSampleRun> runs = new ArrayList<>();
+        synchronized (this) {
+            pendingRuns.removeIf(run -> userId.equals(run.getUserId()) && runs.add(run));
+        }
+        QuietSampleRun open = openRuns.remove(userId);
+        if (open != null) {
+            runs.add(open);
+        }
+        if (runs.isEmpty()) {
+            return;
+        }
+        try {
+            storeTransaction.executeWithoutResult(status -> noiseSampleRunWriter.store(runs));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingRuns.addAll(runs);
+            }
+            throw e;
+        }
+    }
+
+    // 더 이어 붙을 수 없는 묶음 저장
+    @Scheduled(fixedDelayString = "${app.noise.runs.flush-interval-ms:1000}")
+    public synchronized void flushIdle() {
+        if (openRuns.isEmpty() && pendingRuns.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<QuietSampleRun> closed = new ArrayList<>();
+        for (String userId : openRuns.keySet()) {
+            openRuns.computeIfPresent(userId, (key, run) -> {
+                if (!run.isClosable(now, idleMs, graceMs)) {
+                    return run;
+                }
+                closed.add(run);
+                return null;
+            });
+        }
+        // 버퍼가 켜져 있으면 자리가 없는 것만 아래에서 바로 저장
+        pendingRuns.addAll(noiseEventWriteBuffer.isEnabled() ? noiseEventWriteBuffer.enqueueRuns(closed) : closed);
+        if (pendingRuns.isEmpty()) {
+            return;
+        }
+        try {
+            noiseSampleRunWriter.store(pendingRuns);
+            pendingRuns.clear();
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도, 너무 쌓이면 오래된 것부터 버린다
+            int dropped = Math.max(0, pendingRuns.size() - MAX_PENDING_RUNS);
+            if (dropped > 0) {
+                pendingRuns.subList(0, dropped).clear();
+            }
+            logger.error("조용한 측정값 묶음 저장 실패 - {}건 다음 주기에 재시도, {}건 유실", pendingRuns.size(), dropped, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void flushAll() {
+        List<QuietSampleRun> closed = new ArrayList<>();
+        for (String userId : openRuns.keySet()) {
+            QuietSampleRun run = openRuns.remove(userId);
+            if (run != null) {
+                closed.add(run);
+            }
+        }
+        closed.addAll(0, pendingRuns);
+        pendingRuns.clear();
+        noiseSampleRunWriter.store(closed);
+        logger.info("종료 전 조용한 측정값 묶음 저장: {}건", closed.size());
+    }
+
+    // 버퍼가 켜져 있으면 버퍼로 넘기고, 자리가 없거나 꺼져 있으면 바로 저장
+    private void storeAsync(List<QuietSampleRun> closed) {
+        if (closed.isEmpty()) {
+            return;
+        }
+        List<QuietSampleRun> overflow = noiseEventWriteBuffer.isEnabled()
+                ? noiseEventWriteBuffer.enqueueRuns(closed)
+                : closed;
+        if (overflow.isEmpty()) {
+            return;
+        }
+        try {
+            storeTransaction.executeWithoutResult(status -> noiseSampleRunWriter.store(overflow));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingRuns.addAll(overflow);
+            }
+            logger.warn("조용한 측정값 묶음 저장 실패 - {}건 다음 주기에 재시도", overflow.size(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.repository.NoiseSampleRunJdbcRepository;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 닫힌 조용한 측정값 묶음 저장 (NoiseRunCollapser 동기 저장, NoiseEventWriteBuffer 비동기 저장 공용)
+ * 묶음 하나짜리는 noise_sample_runs 대신 이벤트 한 건으로 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoiseSampleRunWriter {
+
+    private final NoiseSampleRunJdbcRepository noiseSampleRunJdbcRepository;
+    private final NoiseEventStore noiseEventStore;
+
+    public void store(List<QuietSampleRun> closed) {
+        if (closed.isEmpty()) {
+            return;
+        }
+        List<QuietSampleRun> runs = new ArrayList<>(closed.size());
+        List<QuietSampleRun> singles = new ArrayList<>();
+        for (QuietSampleRun run : closed) {
+            (run.getCount() == 1 ? singles : runs).add(run);
+        }
+        noiseSampleRunJdbcRepository.batchInsert(runs);
+
+        if (!singles.isEmpty()) {
+            int count = singles.size();
+            String[] userIds = new String[count];
+            int[] seatIds = new int[count];
+            double[] decibels = new double[count];
+            long[] measuredAtMillis = new long[count];
+            for (int i = 0; i < count; i++) {
+                QuietSampleRun single = singles.get(i);
+                userIds[i] = single.getUserId();
+                seatIds[i] = single.getSeatId();
+                decibels[i] = single.getSum();
+                measuredAtMillis[i] = single.getStartMillis();
+            }
+            noiseEventStore.saveAll(userIds, seatIds, decibels, measuredAtMillis, count);
+        }
+    }
+}
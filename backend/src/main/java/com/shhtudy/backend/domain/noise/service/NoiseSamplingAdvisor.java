@@ -0,0 +1,164 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.dto.NoiseSamplingAdviceDto;
+import com.shhtudy.backend.domain.noise.enums.SamplingMode;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.seat.entity.Seat;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 전송 간격 결정 (수신 부하 제어)
+ * 측정은 항상 1초 간격이고 (세션 통계/급격한 소음 판정이 1초 측정값 개수 기준), 전송 간격만 조절한다.
+ * - 기준 근처/초과 좌석, 상태를 모르는 좌석: 측정값마다 전송 (full-upload-interval-ms)
+ * - 조용한 좌석: quiet-upload-interval-ms 동안 모아서 전송, 서버 부하(pressure)만큼 max-upload-interval-ms 까지 늘림
+ * 부하는 tick 마다 쓰기 버퍼 대기 시간과 DB 커넥션 획득 대기 시간을 목표치로 나눈 값 중 큰 값의 EWMA 다.
+ */
+@Component
+public class NoiseSamplingAdvisor {
+
+    // 스프링 부트가 Hikari 풀마다 등록하는 커넥션 획득 시간 (누적 Timer)
+    private static final String POOL_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final NoiseEventWriteBuffer noiseEventWriteBuffer;
+    private final NoiseHeatmapService noiseHeatmapService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.noise.sampling.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.noise.sampling.sample-interval-ms:1000}")
+    private long sampleIntervalMs;
+
+    @Value("${app.noise.sampling.full-upload-interval-ms:1000}")
+    private long fullUploadIntervalMs;
+
+    @Value("${app.noise.sampling.quiet-upload-interval-ms:10000}")
+    private long quietUploadIntervalMs;
+
+    @Value("${app.noise.sampling.max-upload-interval-ms:20000}")
+    private long maxUploadIntervalMs;
+
+    @Value("${app.noise.sampling.borderline-margin-db:5.0}")
+    private double borderlineMarginDb;
+
+    @Value("${app.noise.sampling.queue-latency-target-ms:500}")
+    private double queueLatencyTargetMs;
+
+    @Value("${app.noise.sampling.pool-wait-target-ms:20}")
+    private double poolWaitTargetMs;
+
+    @Value("${app.noise.sampling.ewma-alpha:0.3}")
+    private double ewmaAlpha;
+
+    private volatile double pressure;       // 0: 여유, 1: 목표치 도달
+    private volatile double queueLatencyMs;
+    private volatile double poolWaitMs;
+
+    // 직전 tick 누적값 (tick 스레드에서만 갱신)
+    private long lastTickNanos;
+    private long lastFlushedCount;
+    private long lastAcquireCount;
+    private double lastAcquireTotalMs;
+
+    public NoiseSamplingAdvisor(NoiseEventWriteBuffer noiseEventWriteBuffer,
+                                NoiseHeatmapService noiseHeatmapService,
+                                MeterRegistry meterRegistry) {
+        this.noiseEventWriteBuffer = noiseEventWriteBuffer;
+        this.noiseHeatmapService = noiseHeatmapService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("noise.sampling.pressure", this, advisor -> advisor.pressure)
+                .description("수신 부하 (1 = 목표 대기 시간 도달)")
+                .register(meterRegistry);
+        Gauge.builder("noise.sampling.queue_latency", this, advisor -> advisor.queueLatencyMs)
+                .description("쓰기 버퍼 추정 대기 시간 (ms)")
+                .register(meterRegistry);
+        Gauge.builder("noise.sampling.pool_wait", this, advisor -> advisor.poolWaitMs)
+                .description("직전 tick 의 DB 커넥션 평균 획득 시간 (ms)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedRateString = "${app.noise.sampling.tick-ms:1000}")
+    public void tick() {
+        long now = System.nanoTime();
+        double elapsedMs = lastTickNanos == 0 ? 0.0 : (now - lastTickNanos) / 1_000_000.0;
+        lastTickNanos = now;
+
+        queueLatencyMs = estimateQueueLatency(elapsedMs);
+        poolWaitMs = measurePoolWait();
+        double current = Math.max(queueLatencyMs / queueLatencyTargetMs, poolWaitMs / poolWaitTargetMs);
+        pressure = pressure + ewmaAlpha * (current - pressure);
+    }
+
+    // 리틀의 법칙: 대기 시간 ≈ 대기 건수 / 직전 tick 처리율
+    private double estimateQueueLatency(double elapsedMs) {
+        if (!noiseEventWriteBuffer.isEnabled()) {
+            return 0.0;
+        }
+        long flushed = noiseEventWriteBuffer.getFlushedCount();
+        long drained = flushed - lastFlushedCount;
+        lastFlushedCount = flushed;
+
+        int depth = noiseEventWriteBuffer.getDepth();
+        if (depth == 0 || elapsedMs <= 0.0) {
+            return 0.0;
+        }
+        if (drained == 0) {
+            // 저장이 멈춰 있으면 대기 시간이 tick 만큼 계속 늘어난다
+            return queueLatencyMs + elapsedMs;
+        }
+        return depth * elapsedMs / drained;
+    }
+
+    private double measurePoolWait() {
+        long count = 0;
+        double totalMs = 0.0;
+        for (Timer timer : meterRegistry.find(POOL_ACQUIRE_TIMER).timers()) {
+            count += timer.count();
+            totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+        long deltaCount = count - lastAcquireCount;
+        double deltaMs = totalMs - lastAcquireTotalMs;
+        lastAcquireCount = count;
+        lastAcquireTotalMs = totalMs;
+        return deltaCount > 0 ? Math.max(0.0, deltaMs / deltaCount) : 0.0;
+    }
+
+    /**
+     * 좌석의 현재 수준과 서버 부하로 전송 간격 결정 (좌석이 없으면 FULL)
+     */
+    public NoiseSamplingAdviceDto advise(Seat seat) {
+        double level = enabled && seat != null
+                ? noiseHeatmapService.seatLevel(seat.getSeatId(), System.currentTimeMillis())
+                : Double.NaN;
+
+        // NaN(측정값 없음/오래됨)도 여기서 걸러진다
+        if (!(level <= NoiseSessionAccumulator.QUIET_THRESHOLD_DB - borderlineMarginDb)) {
+            return build(fullUploadIntervalMs, SamplingMode.FULL);
+        }
+        double scaled = quietUploadIntervalMs * (1.0 + pressure);
+        long interval = Math.min(maxUploadIntervalMs, (long) scaled);
+        // 측정 간격의 배수로 맞춤
+        interval = Math.max(sampleIntervalMs, interval / sampleIntervalMs * sampleIntervalMs);
+        return build(interval, SamplingMode.QUIET);
+    }
+
+    private NoiseSamplingAdviceDto build(long uploadIntervalMs, SamplingMode mode) {
+        return NoiseSamplingAdviceDto.builder()
+                .sampleIntervalMs(sampleIntervalMs)
+                .uploadIntervalMs(uploadIntervalMs)
+                .mode(mode)
+                .build();
+    }
+}
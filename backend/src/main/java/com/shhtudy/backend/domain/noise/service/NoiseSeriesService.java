@@ -0,0 +1,142 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleBuffer;
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.codec.NoiseSeriesCodec;
+import com.shhtudy.backend.domain.noise.entity.NoiseSession;
+import com.shhtudy.backend.domain.noise.repository.NoiseEventJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseSampleRunJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseSessionRepository;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
+import com.shhtudy.backend.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 세션 측정값 시계열 압축/복원
+ * 종료된 세션의 noise_events 를 NoiseSeriesCodec 으로 압축해 noise_sessions.sample_series 에 저장하고,
+ * 원본을 지운 세션은 조회 시 압축본을 풀어 원본 행과 시각 순서대로 합쳐 준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NoiseSeriesService {
+
+    private final NoiseEventStore noiseEventStore;
+    private final NoiseEventJdbcRepository noiseEventJdbcRepository;
+    private final NoiseSessionRepository noiseSessionRepository;
+    private final NoiseSampleRunJdbcRepository noiseSampleRunJdbcRepository;
+
+    /**
+     * 세션 구간의 원본 이벤트를 읽어 압축본 저장 (트랜잭션 안에서 호출)
+     * 최대 이벤트 id 는 읽기 전에 기록한다. (읽는 중에 들어온 행은 id 가 더 커서 삭제 전 검사에 걸린다)
+     */
+    public int compact(NoiseSession session) {
+        Long maxEventId = findMaxEventId(session);
+        NoiseSeriesCodec.Encoder encoder = new NoiseSeriesCodec.Encoder();
+        noiseEventStore.streamSamples(session.getUser().getFirebaseUid(),
+                session.getCheckinTime(), session.getCheckoutTime(), encoder::add);
+
+        session.setSampleSeries(encoder.toBytes());
+        session.setSeriesMaxEventId(maxEventId != null ? maxEventId : 0L);
+        noiseSessionRepository.save(session);
+        return encoder.getCount();
+    }
+
+    // 저장소가 기간 단위 삭제를 지원할 때만 (segment 저장소는 보존 기간으로만 지움)
+    public boolean supportsRawPurge() {
+        return noiseEventStore.supportsRangeDelete();
+    }
+
+    /**
+     * 압축본이 있는 세션의 원본 이벤트 삭제 (트랜잭션 안에서 호출)
+     * 압축 이후 세션 구간에 새 행이 들어왔으면(백필 등) 지우지 않고 압축본을 비워 다시 압축하게 한다.
+     * 삭제한 행 수, 다시 압축할 때는 -1 을 반환한다.
+     */
+    public int purgeRaw(NoiseSession session) {
+        Long maxEventId = findMaxEventId(session);
+        Long compactedMaxEventId = session.getSeriesMaxEventId();
+        if (compactedMaxEventId == null || (maxEventId != null && maxEventId > compactedMaxEventId)) {
+            session.setSampleSeries(null);
+            session.setSeriesMaxEventId(null);
+            noiseSessionRepository.save(session);
+            return -1;
+        }
+        int deleted = noiseEventJdbcRepository.deleteBetween(session.getUser().getFirebaseUid(),
+                session.getCheckinTime(), session.getCheckoutTime(), compactedMaxEventId);
+        session.setRawPurged(true);
+        noiseSessionRepository.save(session);
+        return deleted;
+    }
+
+    public Long findMaxEventId(NoiseSession session) {
+        return noiseEventJdbcRepository.findMaxId(session.getUser().getFirebaseUid(),
+                session.getCheckinTime(), session.getCheckoutTime());
+    }
+
+    /**
+     * [from, to] 측정값을 시각 순서대로 sink 에 전달
+     * 원본을 지운 세션은 압축본에서 읽고, 남아 있는 원본 행과 병합한다. (백필로 들어온 행 등)
+     */
+    public void forEachSample(User user, LocalDateTime from, LocalDateTime to, NoiseSampleCodec.SampleSink sink) {
+        List<NoiseSession> purged = noiseSessionRepository.findPurgedOverlapping(user, from, to);
+        if (purged.isEmpty()) {
+            noiseEventStore.streamSamples(user.getFirebaseUid(), from, to, sink);
+            return;
+        }
+
+        // 세션끼리는 겹치지 않으므로 체크인 순서대로 풀면 시각 순서가 된다
+        long fromMillis = Timestamp.valueOf(from).getTime();
+        long toMillis = Timestamp.valueOf(to).getTime();
+        NoiseSampleBuffer decoded = new NoiseSampleBuffer();
+        for (NoiseSession session : purged) {
+            NoiseSeriesCodec.decode(session.getSampleSeries(), fromMillis, toMillis, decoded);
+        }
+
+        int[] next = {0};
+        noiseEventStore.streamSamples(user.getFirebaseUid(), from, to, (measuredAt, decibel) -> {
+            while (next[0] < decoded.size() && decoded.measuredAtMillis(next[0]) <= measuredAt) {
+                sink.accept(decoded.measuredAtMillis(next[0]), decoded.decibel(next[0]));
+                next[0]++;
+            }
+            sink.accept(measuredAt, decibel);
+        });
+        for (int i = next[0]; i < decoded.size(); i++) {
+            sink.accept(decoded.measuredAtMillis(i), decoded.decibel(i));
+        }
+    }
+
+    /**
+     * 시작 시각이 [from, to) 인 조용한 측정값 묶음을 시작 시각 순서대로 전달
+     */
+    public void forEachRun(User user, LocalDateTime from, LocalDateTime to, Consumer<QuietSampleRun> sink) {
+        noiseSampleRunJdbcRepository.streamRuns(user.getFirebaseUid(), from, to, sink);
+    }
+
+    /**
+     * [from, to] 측정값과 조용한 측정값 묶음을 시각 순서대로 누적기에 반영
+     * 묶음은 하루 최대 1440개(1분 단위)라 먼저 읽어 두고 측정값 사이에 끼워 넣는다.
+     */
+    public void replay(User user, LocalDateTime from, LocalDateTime to, NoiseSessionAccumulator accumulator) {
+        List<QuietSampleRun> runs = new ArrayList<>();
+        forEachRun(user, from, to, runs::add);
+
+        int[] next = {0};
+        forEachSample(user, from, to, (measuredAt, decibel) -> {
+            while (next[0] < runs.size() && runs.get(next[0]).getStartMillis() <= measuredAt) {
+                accumulator.addQuietRun(runs.get(next[0]++));
+            }
+            accumulator.add(measuredAt, decibel);
+        });
+        for (int i = next[0]; i < runs.size(); i++) {
+            accumulator.addQuietRun(runs.get(i));
+        }
+    }
+}
@@ -1,41 +1,101 @@
 package com.shhtudy.backend.domain.noise.service;
 
+import com.shhtudy.backend.domain.noise.codec.NoisePcmCodec;
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleBuffer;
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.codec.NoiseSeriesCodec;
 import com.shhtudy.backend.domain.noise.dto.*;
+import com.shhtudy.backend.domain.noise.entity.NoiseDailyReport;
+import com.shhtudy.backend.domain.noise.entity.NoiseDailyReportId;
+import com.shhtudy.backend.domain.noise.entity.NoiseDailySketch;
 import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
 import com.shhtudy.backend.domain.noise.entity.NoiseSession;
-import com.shhtudy.backend.domain.noise.repository.NoiseEventRepository;
+import com.shhtudy.backend.domain.noise.enums.DistributionPeriod;
+import com.shhtudy.backend.domain.noise.enums.RollupResolution;
+import com.shhtudy.backend.domain.noise.enums.RollupScope;
+import com.shhtudy.backend.domain.noise.repository.NoiseDailyReportRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseDailySketchRepository;
 import com.shhtudy.backend.domain.noise.repository.NoiseSessionRepository;
+import com.shhtudy.backend.domain.noise.stats.DecibelHistogram;
+import com.shhtudy.backend.domain.noise.stats.NoiseBucketStats;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import com.shhtudy.backend.domain.noise.store.NoiseEventRecord;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
 import com.shhtudy.backend.domain.usage.enums.UsageStatus;
 import com.shhtudy.backend.domain.usage.repository.UsageRepository;
+import com.shhtudy.backend.domain.usage.service.UsageSessionRegistry;
 import com.shhtudy.backend.domain.user.entity.User;
 import com.shhtudy.backend.domain.user.repository.UserRepository;
 import com.shhtudy.backend.global.exception.CustomException;
 import com.shhtudy.backend.global.exception.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
 public class NoiseService {
 
-    private final NoiseEventRepository noiseEventRepository;
+    private final NoiseEventStore noiseEventStore;
+    private final NoiseEventWriteBuffer noiseEventWriteBuffer;
+    private final NoiseSessionAccumulatorRegistry noiseSessionAccumulatorRegistry;
+    private final NoiseRollupService noiseRollupService;
+    private final NoiseHeatmapService noiseHeatmapService;
+    private final NoiseSpikeService noiseSpikeService;
+    private final NoiseSeriesService noiseSeriesService;
+    private final NoiseRunCollapser noiseRunCollapser;
+    private final NoisePcmCalibration noisePcmCalibration;
+    private final NoiseSamplingAdvisor noiseSamplingAdvisor;
+    private final NoiseTrendService noiseTrendService;
+    private final NoiseZoneRankService noiseZoneRankService;
     private final NoiseSessionRepository noiseSessionRepository;
+    private final NoiseDailySketchRepository noiseDailySketchRepository;
+    private final NoiseDailyReportRepository noiseDailyReportRepository;
     private final UsageRepository usageRepository;
+    private final UsageSessionRegistry usageSessionRegistry;
     private final UserRepository userRepository;
 
-    private static final double QUIET_THRESHOLD_DB = 45.0;
+    private static final double QUIET_THRESHOLD_DB = NoiseSessionAccumulator.QUIET_THRESHOLD_DB;
+    private static final int MAX_HISTORY_BUCKETS = 1500; // 이력 조회 한 번에 돌려줄 최대 구간 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String CURSOR_VERSION = "v1";
+    private static final Duration MAX_SAMPLE_RANGE = Duration.ofDays(1); // 원본 시계열 조회 최대 기간
+    // 클라이언트 측정 시각이 서버 시각보다 앞설 수 있는 최대 오차
+    @Value("${app.noise.max-clock-skew-ms:60000}")
+    private long maxClockSkewMs;
 
-    // 소음 이벤트 저장
-    public void saveNoiseEvent(String userId, NoiseEventRequestDto dto) {
+    private static final double WINDOW_SUM_TOLERANCE = 0.001; // 구간 요약 합의 반올림 허용 오차 (측정값당 dB)
+    // 구간 요약 요청 하나의 측정값 개수 상한 (1분 구간 최대 개수 x 구간 수)
+    private static final long MAX_WINDOW_BATCH_COUNT = 60L * NoiseWindowBatchRequestDto.MAX_WINDOWS;
+    @Value("${app.noise.sampling.sample-interval-ms:1000}")
+    private long sampleIntervalMs;
+
+    // 소음 이벤트 저장 (이후 전송 간격을 함께 반환)
+    public NoiseSamplingAdviceDto saveNoiseEvent(String userId, NoiseEventRequestDto dto) {
         User user = userRepository.findByFirebaseUid(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
@@ -46,15 +106,340 @@ public class NoiseService {
 
         NoiseEvent event = NoiseEvent.builder()
                 .user(user)
+                .seat(user.getCurrentSeat())
                 .decibel(dto.getDecibel())
                 .measuredAt(LocalDateTime.now())
                 .build();
-        noiseEventRepository.save(event);
+        persist(event);
+        return noiseSamplingAdvisor.advise(user.getCurrentSeat());
+    }
+
+    private void persist(NoiseEvent event) {
+        // 조용한 측정값은 묶음으로만 저장 (아래 afterStored 에서 묶음에 넣음)
+        if (!noiseRunCollapser.absorbs(event)) {
+            // 비동기 모드: 버퍼에 넣고 바로 반환 (flusher 스레드가 배치로 저장, 거절되면 여기서 예외)
+            if (noiseEventWriteBuffer.isEnabled()) {
+                noiseEventWriteBuffer.enqueue(event);
+            } else {
+                noiseEventStore.save(event);
+            }
+        }
+        afterStored(() -> {
+            noiseRunCollapser.offer(event);
+            accumulate(event);
+        });
+    }
+
+    // 소음 이벤트 일괄 저장 (사용자/이용 기록 검증은 배치당 한 번)
+    @Transactional
+    public NoiseSamplingAdviceDto saveNoiseEvents(String userId, NoiseEventBatchRequestDto dto) {
+        User user = getUserWithTodaySession(userId);
+
+        MeasuredAtRange range = acceptedRange();
+        dto.getEvents().forEach(item -> range.check(toEpochMillis(item.getMeasuredAt())));
+
+        List<NoiseEvent> events = dto.getEvents().stream()
+                .map(item -> NoiseEvent.builder()
+                        .user(user)
+                        .seat(user.getCurrentSeat())
+                        .decibel(item.getDecibel())
+                        .measuredAt(item.getMeasuredAt())
+                        .build())
+                .toList();
+        saveSorted(events);
+        return noiseSamplingAdvisor.advise(user.getCurrentSeat());
+    }
+
+    // 바이너리 포맷(NoiseSampleCodec) 소음 측정값 일괄 저장
+    @Transactional
+    public NoiseSamplingAdviceDto saveNoiseSamples(String userId, ByteBuffer payload) {
+        User user = getUserWithTodaySession(userId);
+        saveDecodedSamples(user, payload);
+        return noiseSamplingAdvisor.advise(user.getCurrentSeat());
     }
 
-    // 세션 종료
+    // 원본 진폭 프레임(NoisePcmCodec) 업로드 → 서버에서 기기 모델 보정값으로 dB 계산 후 저장
     @Transactional
-    public void closeSession(String userId, NoiseSessionRequestDto dto) {
+    public NoiseSamplingAdviceDto saveNoisePcmFrames(String userId, ByteBuffer payload, String deviceModel) {
+        User user = getUserWithTodaySession(userId);
+        double offsetDb = noisePcmCalibration.offsetFor(deviceModel);
+
+        ZoneId zone = ZoneId.systemDefault();
+        List<NoiseEvent> events = new ArrayList<>();
+        MeasuredAtRange range = acceptedRange();
+        NoisePcmCodec.decode(payload, NoiseEventBatchRequestDto.MAX_BATCH_SIZE, (measuredAtMillis, samples, offset, length) -> {
+            range.check(measuredAtMillis);
+            events.add(NoiseEvent.builder()
+                    .user(user)
+                    .seat(user.getCurrentSeat())
+                    .decibel(noisePcmCalibration.decibel(samples, offset, length, offsetDb))
+                    .measuredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAtMillis), zone))
+                    .build());
+        });
+        saveSorted(events);
+        return noiseSamplingAdvisor.advise(user.getCurrentSeat());
+    }
+
+    // 조용한 구간 요약 저장: 조용한 측정값 묶음으로 반영하므로 원본 측정값을 받은 것과 세션 통계/점수가 같다
+    @Transactional
+    public NoiseSamplingAdviceDto saveNoiseWindows(String userId, NoiseWindowBatchRequestDto dto) {
+        User user = getUserWithTodaySession(userId);
+        int seatId = user.getCurrentSeat() != null ? user.getCurrentSeat().getSeatId() : -1;
+
+        // 전부 검증한 다음 반영 (일부만 반영되지 않도록)
+        MeasuredAtRange range = acceptedRange();
+        List<QuietSampleRun> runs = new ArrayList<>(dto.getWindows().size());
+        long prevEndMillis = Long.MIN_VALUE;
+        long totalCount = 0;
+        for (NoiseWindowSummaryDto window : dto.getWindows()) {
+            QuietSampleRun run = toQuietRun(userId, seatId, window);
+            range.check(run.getStartMillis());
+            range.check(run.getEndMillis());
+            totalCount += run.getCount();
+            if (run.getStartMillis() <= prevEndMillis || totalCount > MAX_WINDOW_BATCH_COUNT) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            prevEndMillis = run.getEndMillis();
+            runs.add(run);
+        }
+
+        afterStored(() -> {
+            noiseRunCollapser.storeSummaries(userId, runs);
+
+            long now = System.currentTimeMillis();
+            for (QuietSampleRun run : runs) {
+                noiseSessionAccumulatorRegistry.recordQuietRun(run);
+
+                // 히트맵/이상 감지에는 구간 평균 한 번만 반영 (조용한 값이라 경보 대상 아님)
+                if (seatId >= 0) {
+                    double mean = run.getSum() / run.getCount();
+                    noiseHeatmapService.record(seatId, mean, Math.min(run.getEndMillis(), now));
+                    noiseSpikeService.observe(userId, seatId, mean, run.getEndMillis());
+                }
+            }
+        });
+        return noiseSamplingAdvisor.advise(user.getCurrentSeat());
+    }
+
+    // 기준 초과 측정값이 있으면 급격한 소음 판정에 측정 시각이 필요하므로 원본으로 받는다
+    private QuietSampleRun toQuietRun(String userId, int seatId, NoiseWindowSummaryDto window) {
+        if (window.getOverCount() > 0 || window.getLongestLoudRun() > 0 || window.getMax() > QUIET_THRESHOLD_DB) {
+            throw new CustomException(ErrorCode.NOISE_WINDOW_NOT_QUIET);
+        }
+        long startMillis = toEpochMillis(window.getStartAt());
+        long endMillis = toEpochMillis(window.getEndAt());
+        long count = window.getCount();
+        double sum = window.getSum();
+        double min = window.getMin();
+        double max = window.getMax();
+
+        // 측정 간격보다 촘촘할 수 없다 (간격 흔들림은 반 간격까지 반올림으로 허용)
+        long maxCount = (endMillis - startMillis + sampleIntervalMs / 2) / sampleIntervalMs + 1;
+        // 합은 최소 x 개수 ~ 최대 x 개수 범위, 1개면 합 = 최소 = 최대, 2개면 합 = 최소 + 최대
+        double tolerance = WINDOW_SUM_TOLERANCE * count;
+        boolean consistent = endMillis >= startMillis
+                && QuietSampleRun.isSameMinute(startMillis, endMillis)
+                && count <= maxCount
+                && min <= max
+                && sum >= min * count - tolerance
+                && sum <= max * count + tolerance
+                && (count != 1 || (startMillis == endMillis && min == max))
+                && (count != 2 || Math.abs(sum - min - max) <= tolerance);
+        if (!consistent) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+        return QuietSampleRun.ofSummary(userId, seatId, startMillis, endMillis, count, sum, min, max);
+    }
+
+    // 측정값 없이 전송 간격만 조회
+    @Transactional(readOnly = true)
+    public NoiseSamplingAdviceDto getSamplingAdvice(String userId) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return noiseSamplingAdvisor.advise(user.getCurrentSeat());
+    }
+
+    // WebSocket 스트림 연결 시 한 번만 사용자/이용 기록 검증
+    @Transactional(readOnly = true)
+    public User openNoiseStream(String userId) {
+        return getUserWithTodaySession(userId);
+    }
+
+    // WebSocket 스트림 프레임마다 현재 좌석 재확인 (연결 후 좌석 이동/퇴실 감지, 좌석이 없으면 null)
+    @Transactional(readOnly = true)
+    public Integer findCurrentSeatId(String userId) {
+        return userRepository.findCurrentSeatIdByFirebaseUid(userId).orElse(null);
+    }
+
+    // WebSocket 스트림 측정값 저장 (연결 시 검증된 사용자)
+    public void saveStreamedEvent(User user, double decibel, LocalDateTime measuredAt) {
+        NoiseEvent event = NoiseEvent.builder()
+                .user(user)
+                .seat(user.getCurrentSeat())
+                .decibel(decibel)
+                .measuredAt(measuredAt)
+                .build();
+        persist(event);
+    }
+
+    // 좌석 센서 측정값의 주인 = 현재 좌석 이용자 (오늘 이용 기록 검증은 saveNoiseEvent 와 같음)
+    @Transactional(readOnly = true)
+    public Optional<User> findSensorSeatUser(int seatId) {
+        Optional<User> user = userRepository.findByCurrentSeat_SeatId(seatId);
+        if (user.isEmpty()) {
+            return user;
+        }
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        try {
+            validateUserUsageSession(user.get(), startOfToday, startOfToday.plusDays(1));
+            return user;
+        } catch (CustomException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 좌석 센서 측정값 일괄 저장 (게이트웨이가 사용자별로 나눠 호출, 호출마다 트랜잭션 하나)
+    @Transactional
+    public void saveSensorEvents(List<NoiseEvent> events) {
+        saveSorted(events);
+    }
+
+    public void saveStreamedSamples(User user, ByteBuffer payload) {
+        saveDecodedSamples(user, payload);
+    }
+
+    private void saveDecodedSamples(User user, ByteBuffer payload) {
+        int count = Math.min(NoiseSampleCodec.peekCount(payload), NoiseEventBatchRequestDto.MAX_BATCH_SIZE);
+
+        ZoneId zone = ZoneId.systemDefault();
+        List<NoiseEvent> events = new ArrayList<>(count);
+        MeasuredAtRange range = acceptedRange();
+        NoiseSampleCodec.decode(payload, NoiseEventBatchRequestDto.MAX_BATCH_SIZE, (measuredAtMillis, decibel) -> {
+            range.check(measuredAtMillis);
+            events.add(NoiseEvent.builder()
+                    .user(user)
+                    .seat(user.getCurrentSeat())
+                    .decibel(decibel)
+                    .measuredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAtMillis), zone))
+                    .build());
+        });
+        saveSorted(events);
+    }
+
+    /**
+     * 클라이언트가 보낸 측정 시각 허용 범위 [오늘 0시, 현재 + max-clock-skew-ms]
+     * 누적/저장 전에 배치 전체를 검사해서, 과거 롤업 구간이나 미래 날짜에 값이 들어가지 않게 한다.
+     */
+    private MeasuredAtRange acceptedRange() {
+        return new MeasuredAtRange(toEpochMillis(LocalDate.now().atStartOfDay()),
+                System.currentTimeMillis() + maxClockSkewMs);
+    }
+
+    private static final class MeasuredAtRange {
+
+        private final long fromMillis;
+        private final long toMillis;
+
+        private MeasuredAtRange(long fromMillis, long toMillis) {
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+        }
+
+        void check(long measuredAtMillis) {
+            if (measuredAtMillis < fromMillis || measuredAtMillis > toMillis) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_TIMESTAMP);
+            }
+        }
+    }
+
+    // 조용한 측정값 묶음을 뺀 나머지를 저장하고, 저장이 확정되면 측정 시각 순서로 묶음과 누적 통계에 반영 (급격한 소음 판정)
+    private void saveSorted(List<NoiseEvent> events) {
+        List<NoiseEvent> sorted = events.stream()
+                .sorted(Comparator.comparing(NoiseEvent::getMeasuredAt))
+                .toList();
+        noiseEventStore.saveAll(sorted.stream()
+                .filter(event -> !noiseRunCollapser.absorbs(event))
+                .toList());
+        afterStored(() -> {
+            noiseRunCollapser.offerAll(sorted);
+            sorted.forEach(this::accumulate);
+        });
+    }
+
+    /**
+     * 측정값 저장이 확정된 뒤(트랜잭션이면 커밋 후) 실행
+     * 저장이 거절/롤백된 배치를 클라이언트가 다시 보내도 누적 통계/히트맵/이상 감지/묶음에 두 번 들어가지 않는다.
+     * 커밋 후에는 끝난 트랜잭션에 참여하게 되므로 여기서 DB 에 쓰는 곳(묶음 바로 저장)은 새 트랜잭션을 연다.
+     */
+    private static void afterStored(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void accumulate(NoiseEvent event) {
+        long measuredAtMillis = toEpochMillis(event.getMeasuredAt());
+        noiseSessionAccumulatorRegistry.record(
+                event.getUser().getFirebaseUid(), measuredAtMillis, event.getDecibel());
+
+        // 실시간 히트맵 (미래 시각은 현재로 보정) + 좌석별 이상 감지
+        if (event.getSeat() != null) {
+            int seatId = event.getSeat().getSeatId();
+            noiseHeatmapService.record(seatId, event.getDecibel(),
+                    Math.min(measuredAtMillis, System.currentTimeMillis()));
+            noiseSpikeService.observe(event.getUser().getFirebaseUid(), seatId, event.getDecibel(), measuredAtMillis);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private User getUserWithTodaySession(String userId) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        LocalDateTime endOfToday = startOfToday.plusDays(1);
+
+        validateUserUsageSession(user, startOfToday, endOfToday);
+        return user;
+    }
+
+    // 체크인 시 소음 세션 열기 (이미 진행 중인 세션이 있으면 그대로 사용)
+    @Transactional
+    public void openSession(User user, LocalDateTime checkinTime) {
+        if (noiseSessionRepository.findTopByUserAndCheckoutTimeIsNullOrderByCheckinTimeDesc(user).isPresent()) {
+            return;
+        }
+
+        NoiseSession session = NoiseSession.builder()
+                .user(user)
+                .checkinTime(checkinTime)
+                .build();
+        noiseSessionRepository.save(session);
+        noiseSessionAccumulatorRegistry.open(user.getFirebaseUid());
+    }
+
+    /**
+     * 사용자의 쓰기 대기 중인 측정값/묶음을 바로 저장 (closeSession 전에 트랜잭션 밖에서 호출)
+     * 종료 통계 재계산과 리포트 스냅샷은 DB 를 읽으므로, 버퍼에 남은 몫이 커밋된 뒤에 읽어야 빠지지 않는다.
+     */
+    public void flushPendingWrites(String userId) {
+        noiseEventWriteBuffer.flush(userId);
+        noiseRunCollapser.flush(userId);
+    }
+
+    // 세션 종료 (통계는 클라이언트 값이 아니라 서버에서 누적한 값 사용, 먼저 flushPendingWrites 호출)
+    @Transactional
+    public void closeSession(String userId) {
         User user = userRepository.findByFirebaseUid(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
@@ -62,54 +447,149 @@ public class NoiseService {
         NoiseSession session = noiseSessionRepository.findTopByUserAndCheckoutTimeIsNullOrderByCheckinTimeDesc(user)
                 .orElseThrow(() -> new IllegalArgumentException("진행 중인 세션이 없습니다."));
 
-        //로그 조회
-        List<NoiseEvent> events = noiseEventRepository.findTop2ByUserOrderByCreatedAtDesc(user);
+        LocalDateTime now = LocalDateTime.now();
 
-        int abruptCount = countAbruptNoises(events);
-        int sessionScore = calculateSessionScore(dto.getAverageDecibel(), dto.getQuietRatio(), abruptCount);
-        updateUserPointsAndGrade(user, sessionScore);
+        NoiseSessionAccumulator accumulator = noiseSessionAccumulatorRegistry.remove(userId);
+        if (accumulator == null || !accumulator.isComplete()) {
+            // 서버 재시작 등으로 누적값이 없거나 일부만 있으면 이벤트로 다시 계산
+            accumulator = rebuildAccumulator(user, session.getCheckinTime(), now);
+        }
+
+        // 측정값이 하나도 없으면 점수는 반영하지 않음
+        int pointDelta = 0;
+        if (accumulator.getCount() > 0) {
+            int sessionScore = calculateSessionScore(
+                    accumulator.getAverageDecibel(), accumulator.getQuietRatio(), accumulator.getAbruptCount());
+            pointDelta = updateUserPointsAndGrade(user, sessionScore);
+        }
+
+        session.setCheckoutTime(now);
+        session.setAvgDecibel(accumulator.getAverageDecibel());
+        session.setMaxDecibel(accumulator.getMaxDecibel());
+        session.setQuietRatio(accumulator.getQuietRatio());
+        session.setSampleCount(accumulator.getCount());
+        session.setOverCount(accumulator.getOverCount());
+        session.setPointDelta(pointDelta);
+        session.setGradeAfter(user.getGrade());
+        session.setZone(resolveZone(user, session.getCheckinTime(), now));
 
-        session.setCheckoutTime(LocalDateTime.now());
-        session.setAvgDecibel(dto.getAverageDecibel());
-        session.setMaxDecibel(dto.getMaxDecibel());
-        session.setQuietRatio(dto.getQuietRatio());
+        DecibelHistogram histogram = accumulator.getHistogram();
+        session.setDecibelSketch(histogram.toBytes());
         noiseSessionRepository.save(session);
+
+        mergeDailySketch(user, now.toLocalDate(), histogram);
+        if (session.getZone() != null && accumulator.getCount() > 0) {
+            noiseZoneRankService.record(session.getZone(), now.toLocalDate(),
+                    accumulator.getAverageDecibel(), accumulator.getQuietRatio());
+        }
+        noiseSessionRepository.flush();
+        materializeReport(user, now.toLocalDate());
+        noiseTrendService.invalidate(userId);
     }
 
-    private int countAbruptNoises(List<NoiseEvent> events) {
-        List<NoiseEvent> sorted = events.stream()
-                .sorted(Comparator.comparing(NoiseEvent::getMeasuredAt))
-                .toList();
+    /**
+     * 과거 측정값 일괄 적재(백필) 후, [from, to] 와 겹치는 종료된 세션의 통계와 일별 분포를 다시 계산
+     * 포인트/등급은 이미 반영된 것이므로 다시 반영하지 않는다.
+     */
+    @Transactional
+    public int recomputeSessionStats(String userId, LocalDateTime from, LocalDateTime to) {
+        User user = userRepository.findByFirebaseUid(userId).orElse(null);
+        if (user == null) {
+            return 0;
+        }
 
-        int count = 0;
-        long consecutiveSeconds = 0;
-        NoiseEvent prev = null;
-
-        for (NoiseEvent event : sorted) {
-            if (event.getDecibel() > QUIET_THRESHOLD_DB) {
-                if (prev != null) {
-                    long diff = Duration.between(prev.getMeasuredAt(), event.getMeasuredAt()).getSeconds();
-                    if (diff <= 1) {
-                        consecutiveSeconds += diff;
-                    } else {
-                        consecutiveSeconds = 1;
-                    }
-                } else {
-                    consecutiveSeconds = 1;
+        Set<LocalDate> days = new TreeSet<>();
+        int updated = 0;
+        for (NoiseSession session : noiseSessionRepository.findByUser(user)) {
+            if (session.getCheckoutTime() == null
+                    || session.getCheckoutTime().isBefore(from) || session.getCheckinTime().isAfter(to)) {
+                continue;
+            }
+            NoiseSessionAccumulator accumulator = rebuildAccumulator(user, session.getCheckinTime(), session.getCheckoutTime());
+            if (session.getZone() != null) {
+                // 구역 분포에서 이전 값을 새 값으로 옮김 (측정값이 없던 세션은 분포에 없었음)
+                LocalDate day = session.getCheckoutTime().toLocalDate();
+                if (session.getSampleCount() > 0) {
+                    noiseZoneRankService.move(session.getZone(), day, session.getAvgDecibel(), session.getQuietRatio(),
+                            accumulator.getAverageDecibel(), accumulator.getQuietRatio());
+                } else if (accumulator.getCount() > 0) {
+                    noiseZoneRankService.record(session.getZone(), day,
+                            accumulator.getAverageDecibel(), accumulator.getQuietRatio());
                 }
+            }
+            session.setAvgDecibel(accumulator.getAverageDecibel());
+            session.setMaxDecibel(accumulator.getMaxDecibel());
+            session.setQuietRatio(accumulator.getQuietRatio());
+            session.setSampleCount(accumulator.getCount());
+            session.setOverCount(accumulator.getOverCount());
+            session.setDecibelSketch(accumulator.getHistogram().toBytes());
+            days.add(session.getCheckoutTime().toLocalDate());
+            updated++;
+        }
+        noiseSessionRepository.flush();
 
-                if (consecutiveSeconds >= 3) {
-                    count++;
-                    consecutiveSeconds = 0;
-                    prev = null;
-                    continue;
-                }
-            } else {
-                consecutiveSeconds = 0;
+        // 일별 분포는 그날 종료된 세션 분포를 다시 병합
+        for (LocalDate day : days) {
+            DecibelHistogram merged = new DecibelHistogram();
+            noiseSessionRepository.findByUserAndCheckoutTimeGreaterThanEqualAndCheckoutTimeLessThan(
+                            user, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                    .forEach(session -> merged.merge(DecibelHistogram.fromBytes(session.getDecibelSketch())));
+
+            NoiseDailySketch daily = noiseDailySketchRepository.findByUserAndSketchDate(user, day)
+                    .orElseGet(() -> NoiseDailySketch.builder()
+                            .user(user)
+                            .sketchDate(day)
+                            .build());
+            daily.setSampleCount(merged.getTotalCount());
+            daily.setSketch(merged.toBytes());
+            noiseDailySketchRepository.save(daily);
+
+            // 이미 만들어진 리포트만 다시 계산
+            if (noiseDailyReportRepository.existsById(new NoiseDailyReportId(user.getFirebaseUid(), day))) {
+                materializeReport(user, day);
+            }
+        }
+        if (updated > 0) {
+            noiseTrendService.invalidate(userId);
+        }
+        return updated;
+    }
+
+    // 세션 분포를 종료일의 일별 분포에 병합
+    private void mergeDailySketch(User user, LocalDate day, DecibelHistogram sessionHistogram) {
+        if (sessionHistogram.getTotalCount() == 0) {
+            return;
+        }
+        NoiseDailySketch daily = noiseDailySketchRepository.findByUserAndSketchDate(user, day)
+                .orElseGet(() -> NoiseDailySketch.builder()
+                        .user(user)
+                        .sketchDate(day)
+                        .build());
+
+        DecibelHistogram merged = DecibelHistogram.fromBytes(daily.getSketch());
+        merged.merge(sessionHistogram);
+        daily.setSampleCount(merged.getTotalCount());
+        daily.setSketch(merged.toBytes());
+        noiseDailySketchRepository.save(daily);
+    }
+
+    // 현재 좌석 → 없으면 세션 중 마지막으로 측정한 좌석의 구역
+    private String resolveZone(User user, LocalDateTime from, LocalDateTime to) {
+        if (user.getCurrentSeat() != null) {
+            String zone = noiseHeatmapService.zoneOf(user.getCurrentSeat().getSeatId());
+            if (zone != null) {
+                return zone;
             }
-            prev = event;
         }
-        return count;
+        Integer seatId = noiseEventStore.findLatestSeatId(user.getFirebaseUid(), from, to);
+        return seatId != null ? noiseHeatmapService.zoneOf(seatId) : null;
+    }
+
+    private NoiseSessionAccumulator rebuildAccumulator(User user, LocalDateTime from, LocalDateTime to) {
+        // 원본을 지운 세션은 압축본에서, 조용한 측정값은 묶음에서 복원
+        NoiseSessionAccumulator accumulator = new NoiseSessionAccumulator(true);
+        noiseSeriesService.replay(user, from, to, accumulator);
+        return accumulator;
     }
 
     private static final double EXCELLENT_QUIET_RATIO = 0.9;
@@ -138,7 +618,8 @@ public class NoiseService {
         return Math.max(-15, Math.min(15, score));
     }
 
-    private void updateUserPointsAndGrade(User user, int sessionScore) {
+    // 실제로 바뀐 포인트 반환 (0 ~ 300 범위로 잘린 값 기준)
+    private int updateUserPointsAndGrade(User user, int sessionScore) {
         int currentPoints = user.getPoints();
         int newPoints = Math.max(0, Math.min(300, currentPoints + sessionScore));
         user.setPoints(newPoints);
@@ -151,22 +632,75 @@ public class NoiseService {
             user.setGrade(User.Grade.WARNING);
         }
         userRepository.save(user);
+        return newPoints - currentPoints;
     }
     private void validateUserUsageSession(User user, LocalDateTime startOfToday, LocalDateTime endOfToday){
+        LocalDate today = startOfToday.toLocalDate();
+        // 캐시에 확인된 값이 있으면 DB 조회 생략 (모르는 값만 DB 확인)
+        UsageSessionRegistry.TodayState cached = usageSessionRegistry.get(user.getFirebaseUid(), today);
+
         // 오늘 체크인 기록 확인 (Usage)
-        boolean hasCheckin = usageRepository.existsByUserAndCheckInTimeBetween(user, startOfToday, endOfToday);
+        boolean hasCheckin = (cached != null && cached.isCheckedIn())
+                || usageRepository.existsByUserAndCheckInTimeBetween(user, startOfToday, endOfToday);
         if (!hasCheckin) {
             throw new CustomException(ErrorCode.NO_SESSION_TODAY);
         }
 
         // 오늘 체크아웃 완료 기록 확인 (Usage)
-        boolean hasCheckout = usageRepository.existsByUserAndCheckOutTimeBetweenAndUsageStatus(
-                user, startOfToday, endOfToday, UsageStatus.COMPLETED);
+        boolean hasCheckout = (cached != null && cached.isCheckedOut())
+                || usageRepository.existsByUserAndCheckOutTimeBetweenAndUsageStatus(
+                        user, startOfToday, endOfToday, UsageStatus.COMPLETED);
+        usageSessionRegistry.record(user.getFirebaseUid(), today, true, hasCheckout);
         if (!hasCheckout) {
             throw new CustomException(ErrorCode.SESSION_NOT_CHECKED_OUT);
         }
     }
 
+    /**
+     * 오늘 리포트 스냅샷 (이용 기록 확인 후 기본 키 조회 한 번)
+     * 오늘 종료된 세션이 없으면 비어 있다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<NoiseDailyReport> findReportSnapshot(String userId, LocalDate day) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 진행 중 계산(getNoiseReport)과 같은 조건: 오늘 체크인 후 체크아웃까지 마쳐야 조회 가능
+        LocalDateTime startOfDay = day.atStartOfDay();
+        validateUserUsageSession(user, startOfDay, startOfDay.plusDays(1));
+
+        return noiseDailyReportRepository.findById(new NoiseDailyReportId(userId, day));
+    }
+
+    public NoiseReportResponseDto toReportDto(NoiseDailyReport report) {
+        NoiseZoneRankDto zoneRank = noiseZoneRankService.rank(report.getZone(), report.getId().getReportDate(),
+                report.getSessionAvgDecibel(), report.getSessionQuietRatio());
+
+        List<NoiseEventSummaryDto> summaries = new ArrayList<>();
+        if (report.getSummaryEvents() != null) {
+            ZoneId zone = ZoneId.systemDefault();
+            NoiseSeriesCodec.decode(report.getSummaryEvents(), (measuredAt, decibel) -> summaries.add(
+                    NoiseEventSummaryDto.builder()
+                            .decibel(decibel)
+                            .measuredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAt), zone))
+                            .build()));
+        }
+
+        return NoiseReportResponseDto.builder()
+                .grade(report.getGrade())
+                .avgDecibel(report.getAvgDecibel())
+                .maxDecibel(report.getMaxDecibel())
+                .eventCount(report.getEventCount())
+                .userQuietRatio(report.getQuietRatio())
+                .p50Decibel(report.getP50Decibel())
+                .p90Decibel(report.getP90Decibel())
+                .p99Decibel(report.getP99Decibel())
+                .eventSummaries(summaries)
+                .zoneRank(zoneRank)
+                .build();
+    }
+
+    // 스냅샷이 아직 없을 때 (오늘 첫 세션 진행 중) 바로 계산
     @Transactional(readOnly = true)
     public NoiseReportResponseDto getNoiseReport(String userId) {
         User user = userRepository.findByFirebaseUid(userId)
@@ -177,15 +711,59 @@ public class NoiseService {
 
         validateUserUsageSession(user, startOfToday, endOfToday);
 
-        // 오늘 소음 이벤트 2건 조회 (NoiseEvent)
-        List<NoiseEvent> events = noiseEventRepository.findTop2ByUserAndMeasuredAtBetweenOrderByMeasuredAtDesc(
-                user, startOfToday, endOfToday);
+        return buildReport(user, startOfToday.toLocalDate());
+    }
+
+    // 하루 리포트 스냅샷 저장 (세션 종료, 세션 통계 재계산 시)
+    private void materializeReport(User user, LocalDate day) {
+        NoiseReportResponseDto dto = buildReport(user, day);
 
-        int todayOverCount = noiseEventRepository.countTodayOverEvents(user, QUIET_THRESHOLD_DB, startOfToday, endOfToday);
+        NoiseSeriesCodec.Encoder summaries = new NoiseSeriesCodec.Encoder();
+        dto.getEventSummaries().forEach(summary ->
+                summaries.add(toEpochMillis(summary.getMeasuredAt()), summary.getDecibel()));
+
+        // 순위 비교값은 그날 마지막으로 종료된 세션
+        Optional<NoiseSessionRepository.RankView> lastSession = noiseSessionRepository
+                .findTopByUserAndCheckoutTimeGreaterThanEqualAndCheckoutTimeLessThanOrderByCheckoutTimeDesc(
+                        user, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+        noiseDailyReportRepository.save(NoiseDailyReport.builder()
+                .id(new NoiseDailyReportId(user.getFirebaseUid(), day))
+                .grade(dto.getGrade())
+                .avgDecibel(dto.getAvgDecibel())
+                .maxDecibel(dto.getMaxDecibel())
+                .eventCount(dto.getEventCount())
+                .quietRatio(dto.getUserQuietRatio())
+                .p50Decibel(dto.getP50Decibel())
+                .p90Decibel(dto.getP90Decibel())
+                .p99Decibel(dto.getP99Decibel())
+                .zone(lastSession.map(NoiseSessionRepository.RankView::getZone).orElse(null))
+                .sessionAvgDecibel(lastSession.map(NoiseSessionRepository.RankView::getAvgDecibel).orElse(0.0))
+                .sessionQuietRatio(lastSession.map(NoiseSessionRepository.RankView::getQuietRatio).orElse(0.0))
+                .summaryEvents(summaries.toBytes())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private NoiseReportResponseDto buildReport(User user, LocalDate day) {
+        LocalDateTime startOfDay = day.atStartOfDay();
+        LocalDateTime endOfDay = startOfDay.plusDays(1);
+
+        // 그날 소음 이벤트 2건 조회 (NoiseEvent)
+        List<NoiseEventRecord> events = noiseEventStore.findLatest(user, startOfDay, endOfDay, 2);
+
+        // 그날 통계는 롤업 테이블에서 조회
+        NoiseBucketStats stats = summarize(user, startOfDay, endOfDay);
+        int overCount = (int) stats.getOverCount();
+
+        // 그날 분포는 종료된 세션들의 일별 스케치에서 조회
+        DecibelHistogram histogram = noiseDailySketchRepository.findByUserAndSketchDate(user, day)
+                .map(sketch -> DecibelHistogram.fromBytes(sketch.getSketch()))
+                .orElseGet(DecibelHistogram::new);
 
         List<NoiseEventSummaryDto> summaryDto = events.stream()
                 .filter(e -> e.getDecibel() > QUIET_THRESHOLD_DB)
-                .sorted(Comparator.comparing(NoiseEvent::getDecibel).reversed())
+                .sorted(Comparator.comparing(NoiseEventRecord::getDecibel).reversed())
                 .limit(3)
                 .map(NoiseEventSummaryDto::from)
                 .toList();
@@ -193,19 +771,65 @@ public class NoiseService {
         return NoiseReportResponseDto.builder()
                 .grade(user.getGrade().name())
                 .avgDecibel(user.getAverageDecibel())      // User 엔티티의 누적 통계 사용
-                .maxDecibel(0)                             // 최대값이 없으면 0 또는 별도 처리 필요
-                .eventCount(todayOverCount)
-                .userQuietRatio(0.0)                       // User에 없으면 계산 로직 필요
+                .maxDecibel(stats.getMaxDecibel())
+                .eventCount(overCount)
+                .userQuietRatio(stats.getSampleCount() == 0 ? 0.0
+                        : (double) (stats.getSampleCount() - stats.getOverCount()) / stats.getSampleCount())
+                .p50Decibel(histogram.quantile(0.50))
+                .p90Decibel(histogram.quantile(0.90))
+                .p99Decibel(histogram.quantile(0.99))
                 .eventSummaries(summaryDto)
                 .build();
     }
 
+    /**
+     * [from, to) 사용자 집계. 롤업 대상이 아닌 저장소(segment)면 롤업 테이블이 비어 있으므로 측정값에서 직접 계산한다.
+     */
+    private NoiseBucketStats summarize(User user, LocalDateTime from, LocalDateTime to) {
+        if (noiseEventStore.supportsRollup()) {
+            return noiseRollupService.summarize(RollupScope.USER, user.getFirebaseUid(), from, to);
+        }
+        NoiseBucketStats total = new NoiseBucketStats(from);
+        bucketSamples(user, from, to, RollupResolution.coarsestFor(from, to)).forEach(total::merge);
+        return total;
+    }
+
+    // [from, to) 사용자 집계를 resolution 단위 버킷으로 (시간순)
+    private List<NoiseBucketStats> history(User user, RollupResolution resolution, LocalDateTime from, LocalDateTime to) {
+        if (noiseEventStore.supportsRollup()) {
+            return noiseRollupService.history(RollupScope.USER, user.getFirebaseUid(), resolution, from, to);
+        }
+        return bucketSamples(user, from, to, resolution);
+    }
+
+    // [from, to) 측정값과 조용한 측정값 묶음을 롤업과 같은 기준(묶음은 시작 시각의 버킷)으로 집계, 값이 있는 버킷만 시간순
+    private List<NoiseBucketStats> bucketSamples(User user, LocalDateTime from, LocalDateTime to,
+                                                 RollupResolution resolution) {
+        ZoneId zone = ZoneId.systemDefault();
+        long endMillis = toEpochMillis(to);
+        TreeMap<LocalDateTime, NoiseBucketStats> buckets = new TreeMap<>();
+        noiseSeriesService.forEachSample(user, from, to, (measuredAt, decibel) -> {
+            if (measuredAt < endMillis) {
+                LocalDateTime bucket = resolution.truncate(LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAt), zone));
+                buckets.computeIfAbsent(bucket, NoiseBucketStats::new).merge(new NoiseBucketStats(bucket, 1,
+                        decibel, decibel, decibel, decibel > QUIET_THRESHOLD_DB ? 1 : 0));
+            }
+        });
+        noiseSeriesService.forEachRun(user, from, to, run -> {
+            LocalDateTime bucket = resolution.truncate(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(run.getStartMillis()), zone));
+            buckets.computeIfAbsent(bucket, NoiseBucketStats::new).merge(new NoiseBucketStats(bucket, run.getCount(),
+                    run.getSum(), run.getMin(), run.getMax(), run.getMax() > QUIET_THRESHOLD_DB ? run.getCount() : 0));
+        });
+        return new ArrayList<>(buckets.values());
+    }
+
     @Transactional(readOnly = true)
     public NoiseEventListDto getNoiseEventPage(String userId, Pageable pageable) {
         User user = userRepository.findByFirebaseUid(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Page<NoiseEvent> eventPage = noiseEventRepository.findByUser(user, pageable);
+        Page<NoiseEventRecord> eventPage = noiseEventStore.findPage(user, pageable);
 
         List<NoiseEventDto> eventDtos = eventPage.getContent().stream()
                 .map(event -> NoiseEventDto.builder()
@@ -220,6 +844,220 @@ public class NoiseService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public NoiseEventCursorResponseDto getNoiseEventCursorPage(String userId, String cursor, int size, boolean includeTotal) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<NoiseEventRecord> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = noiseEventStore.findPageBefore(user, null, null, pageSize + 1);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = noiseEventStore.findPageBefore(
+                    user, LocalDateTime.parse(position[0]), Long.parseLong(position[1]), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NoiseEventRecord> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<NoiseEventDto> eventDtos = page.stream()
+                .map(event -> NoiseEventDto.builder()
+                        .decibel(event.getDecibel())
+                        .measuredAt(event.getMeasuredAt())
+                        .build())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            NoiseEventRecord last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getMeasuredAt(), last.getId());
+        }
+
+        return NoiseEventCursorResponseDto.builder()
+                .events(eventDtos)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(includeTotal ? noiseEventStore.countByUser(user) : null)
+                .build();
+    }
+
+    // 커서: base64url("v1|measuredAt|id")
+    private static String encodeCursor(LocalDateTime measuredAt, Long id) {
+        String raw = CURSOR_VERSION + "|" + measuredAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !CURSOR_VERSION.equals(parts[0])) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_CURSOR);
+            }
+            // 형식 검증
+            LocalDateTime.parse(parts[1]);
+            Long.parseLong(parts[2]);
+            return new String[]{parts[1], parts[2]};
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_CURSOR);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public NoiseHistoryResponseDto getNoiseHistory(String userId, LocalDateTime from, LocalDateTime to,
+                                                   RollupResolution resolution) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 기간 미지정 시 오늘 하루
+        LocalDateTime start = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime end = to != null ? to : start.plusDays(1);
+        if (!start.isBefore(end)) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_HISTORY_RANGE);
+        }
+
+        RollupResolution bucketResolution = resolution != null ? resolution : defaultHistoryResolution(start, end);
+        start = bucketResolution.truncate(start);
+        long bucketCount = Duration.between(start, end).dividedBy(bucketResolution.getBucketSize());
+        if (bucketCount > MAX_HISTORY_BUCKETS) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_HISTORY_RANGE);
+        }
+
+        List<NoiseHistoryBucketDto> buckets = history(user, bucketResolution, start, end).stream()
+                .map(NoiseHistoryBucketDto::from)
+                .toList();
+
+        return NoiseHistoryResponseDto.builder()
+                .resolution(bucketResolution.name())
+                .buckets(buckets)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public NoiseSampleSeriesResponseDto getNoiseSampleSeries(String userId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime end = to != null ? to : start.plusDays(1);
+        User user = getUserForSampleRange(userId, start, end);
+        NoiseSampleBuffer samples = collectSamples(user, start, end);
+
+        ZoneId zone = ZoneId.systemDefault();
+        List<NoiseEventDto> dtos = new ArrayList<>(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            dtos.add(NoiseEventDto.builder()
+                    .decibel(samples.decibel(i))
+                    .measuredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(samples.measuredAtMillis(i)), zone))
+                    .build());
+        }
+
+        long[] sampleCount = {samples.size()};
+        List<NoiseSampleRunDto> runs = new ArrayList<>();
+        noiseSeriesService.forEachRun(user, start, end, run -> {
+            sampleCount[0] += run.getCount();
+            runs.add(NoiseSampleRunDto.builder()
+                    .startAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(run.getStartMillis()), zone))
+                    .endAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(run.getEndMillis()), zone))
+                    .sampleCount(run.getCount())
+                    .avgDecibel(run.getSum() / run.getCount())
+                    .minDecibel(run.getMin())
+                    .maxDecibel(run.getMax())
+                    .build());
+        });
+
+        return NoiseSampleSeriesResponseDto.builder()
+                .from(start)
+                .to(end)
+                .sampleCount(sampleCount[0])
+                .samples(dtos)
+                .runs(runs)
+                .build();
+    }
+
+    // 업로드와 같은 바이너리 포맷 (0.1 dB 단위, 개별 측정값만)
+    @Transactional(readOnly = true)
+    public byte[] getNoiseSampleBinary(String userId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime end = to != null ? to : start.plusDays(1);
+        NoiseSampleBuffer samples = collectSamples(getUserForSampleRange(userId, start, end), start, end);
+        return NoiseSampleCodec.encode(samples.measuredAtArray(), samples.decibelArray(), samples.size());
+    }
+
+    private User getUserForSampleRange(String userId, LocalDateTime from, LocalDateTime to) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_SAMPLE_RANGE) > 0) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_HISTORY_RANGE);
+        }
+        return user;
+    }
+
+    // [from, to) 측정값 (압축 보관된 세션 포함)
+    private NoiseSampleBuffer collectSamples(User user, LocalDateTime from, LocalDateTime to) {
+        long endMillis = toEpochMillis(to);
+        NoiseSampleBuffer samples = new NoiseSampleBuffer();
+        noiseSeriesService.forEachSample(user, from, to, (measuredAt, decibel) -> {
+            if (measuredAt < endMillis) {
+                samples.accept(measuredAt, decibel);
+            }
+        });
+        return samples;
+    }
+
+    // 하루 이내는 분, 한 달 이내는 시간, 그 이상은 일 단위
+    private RollupResolution defaultHistoryResolution(LocalDateTime from, LocalDateTime to) {
+        Duration span = Duration.between(from, to);
+        if (span.compareTo(Duration.ofDays(1)) <= 0) {
+            return RollupResolution.MINUTE;
+        }
+        if (span.compareTo(Duration.ofDays(31)) <= 0) {
+            return RollupResolution.HOUR;
+        }
+        return RollupResolution.DAY;
+    }
+
+    @Transactional(readOnly = true)
+    public NoiseDistributionResponseDto getNoiseDistribution(String userId, DistributionPeriod period) {
+        User user = userRepository.findByFirebaseUid(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(period.getDays() - 1L);
+
+        // 일별 스케치 병합
+        DecibelHistogram histogram = new DecibelHistogram();
+        noiseDailySketchRepository.findByUserAndSketchDateBetween(user, from, to)
+                .forEach(daily -> histogram.merge(DecibelHistogram.fromBytes(daily.getSketch())));
+
+        List<NoiseDistributionBinDto> bins = new ArrayList<>();
+        if (histogram.getTotalCount() > 0) {
+            int lowest = (int) Math.floor(histogram.getMin());
+            int highest = (int) Math.ceil(histogram.getMax());
+            for (int db = Math.max(lowest, 0); db <= highest; db++) {
+                long count = db == 0 ? histogram.countAtOrBelow(0) : histogram.countBetween(db - 1, db);
+                if (count > 0) {
+                    bins.add(NoiseDistributionBinDto.builder().decibel(db).count(count).build());
+                }
+            }
+        }
+
+        long total = histogram.getTotalCount();
+        return NoiseDistributionResponseDto.builder()
+                .period(period.name())
+                .from(from)
+                .to(to)
+                .sampleCount(total)
+                .p50Decibel(histogram.quantile(0.50))
+                .p90Decibel(histogram.quantile(0.90))
+                .p99Decibel(histogram.quantile(0.99))
+                .maxDecibel(histogram.getMax())
+                .quietRatio(total == 0 ? 0.0 : (double) histogram.countAtOrBelow(QUIET_THRESHOLD_DB) / total)
+                .bins(bins)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public MannerScoreResponseDto getMannerScore(String userId) {
         User user = userRepository.findByFirebaseUid(userId)
@@ -231,20 +1069,26 @@ public class NoiseService {
         validateUserUsageSession(user, startOfToday, endOfToday);
 
 
-        List<NoiseSession> sessions = noiseSessionRepository.findByUser(user);
+        // 세션 행 전체(압축본 BLOB 포함)를 읽지 않고 DB 에서 평균
+        Double averageAvgDecibel = noiseSessionRepository.averageAvgDecibel(user);
+        double averageDb = averageAvgDecibel != null ? averageAvgDecibel : 0.0;
 
-        double averageDb = sessions.stream()
-                .mapToDouble(NoiseSession::getAvgDecibel)
-                .average()
-                .orElse(0.0);
+        int todayOverCount = (int) summarize(user, startOfToday, endOfToday).getOverCount();
 
-        int todayOverCount = noiseEventRepository.countTodayOverEvents(user, QUIET_THRESHOLD_DB, startOfToday, endOfToday);
+        // 오늘 마지막으로 종료된 세션의 구역 내 순위
+        NoiseZoneRankDto zoneRank = noiseSessionRepository
+                .findTopByUserAndCheckoutTimeGreaterThanEqualAndCheckoutTimeLessThanOrderByCheckoutTimeDesc(
+                        user, startOfToday, endOfToday)
+                .map(last -> noiseZoneRankService.rank(last.getZone(), startOfToday.toLocalDate(),
+                        last.getAvgDecibel(), last.getQuietRatio()))
+                .orElse(null);
 
         return MannerScoreResponseDto.builder()
                 .point(user.getPoints())
                 .grade(user.getGrade().name())
                 .avgDecibel(averageDb)
                 .eventCount(todayOverCount)
+                .zoneRank(zoneRank)
                 .build();
     }
 
@@ -0,0 +1,39 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 진행 중인 소음 세션 누적 통계 저장소 (메모리)
+ * 서버 재시작으로 사라진 경우 세션 종료 시 noise_events 로 다시 만든다.
+ */
+@Component
+public class NoiseSessionAccumulatorRegistry {
+
+    private final Map<String, NoiseSessionAccumulator> accumulators = new ConcurrentHashMap<>();
+
+    // 체크인 시 새 세션용 누적기 생성
+    public void open(String userId) {
+        accumulators.put(userId, new NoiseSessionAccumulator(true));
+    }
+
+    public void record(String userId, long measuredAtMillis, double decibel) {
+        accumulators.computeIfAbsent(userId, key -> new NoiseSessionAccumulator(false))
+                .add(measuredAtMillis, decibel);
+    }
+
+    // 조용한 측정값 묶음(구간 요약) 반영
+    public void recordQuietRun(QuietSampleRun run) {
+        accumulators.computeIfAbsent(run.getUserId(), key -> new NoiseSessionAccumulator(false))
+                .addQuietRun(run);
+    }
+
+    // 세션 종료 시 꺼내면서 제거
+    public NoiseSessionAccumulator remove(String userId) {
+        return accumulators.remove(userId);
+    }
+}
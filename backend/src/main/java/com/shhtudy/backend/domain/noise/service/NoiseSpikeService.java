@@ -0,0 +1,56 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.enums.SpikeType;
+import com.shhtudy.backend.domain.noise.event.NoiseSpikeEvent;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.noise.stats.SeatSpikeDetector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * 수집 경로에서 좌석별 소음 이상을 감지하고 NoiseSpikeEvent 를 발행
+ */
+@Service
+public class NoiseSpikeService {
+
+    private final SeatSpikeDetector detector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Counter suddenCounter;
+    private final Counter sustainedCounter;
+
+    public NoiseSpikeService(ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.noise.spike.enabled:true}") boolean enabled,
+                             @Value("${app.noise.heatmap.max-seat-id:1023}") int maxSeatId,
+                             @Value("${app.noise.spike.ewma-alpha:0.05}") double alpha,
+                             @Value("${app.noise.spike.warmup-samples:30}") int warmupSamples,
+                             @Value("${app.noise.spike.min-sigma-db:1.5}") double minSigma,
+                             @Value("${app.noise.spike.sudden-sigmas:4.0}") double suddenSigmas,
+                             @Value("${app.noise.spike.sudden-min-jump-db:10.0}") double suddenMinJump,
+                             @Value("${app.noise.spike.cusum-slack:0.5}") double cusumSlack,
+                             @Value("${app.noise.spike.cusum-limit:5.0}") double cusumLimit) {
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.detector = new SeatSpikeDetector(maxSeatId, alpha, warmupSamples, minSigma,
+                suddenSigmas, suddenMinJump, cusumSlack, cusumLimit, NoiseSessionAccumulator.QUIET_THRESHOLD_DB);
+        this.suddenCounter = Counter.builder("noise.spike.detected").tag("type", "sudden").register(meterRegistry);
+        this.sustainedCounter = Counter.builder("noise.spike.detected").tag("type", "sustained").register(meterRegistry);
+    }
+
+    public void observe(String userId, int seatId, double decibel, long measuredAtMillis) {
+        if (!enabled) {
+            return;
+        }
+        SpikeType type = detector.observe(seatId, decibel);
+        if (type == null) {
+            return;
+        }
+        (type == SpikeType.SUDDEN ? suddenCounter : sustainedCounter).increment();
+        eventPublisher.publishEvent(new NoiseSpikeEvent(
+                userId, seatId, type, decibel, detector.getBaseline(seatId), measuredAtMillis));
+    }
+}
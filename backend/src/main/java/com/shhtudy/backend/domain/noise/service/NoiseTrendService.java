@@ -0,0 +1,184 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.dto.NoiseTrendDayDto;
+import com.shhtudy.backend.domain.noise.dto.NoiseTrendResponseDto;
+import com.shhtudy.backend.domain.noise.enums.TrendRange;
+import com.shhtudy.backend.domain.noise.repository.NoiseSessionJdbcRepository;
+import com.shhtudy.backend.domain.noise.stats.NoiseTrendAggregator;
+import com.shhtudy.backend.domain.user.entity.User;
+import com.shhtudy.backend.domain.user.repository.UserRepository;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일별 소음 추이 (주/월/년)
+ * 사용자별로 최근 1년치 일별 추이를 한 번 만들어 메모리에 두고, 주/월/년 조회는 그 안에서 잘라서 돌려준다.
+ * 세션이 종료되거나 통계가 다시 계산되면(커밋 후) 해당 사용자 캐시를 버린다.
+ */
+@Service
+public class NoiseTrendService {
+
+    private static final User.Grade[] GRADES = User.Grade.values();
+
+    private final NoiseSessionJdbcRepository noiseSessionJdbcRepository;
+    private final UserRepository userRepository;
+    private final int maxCachedUsers;
+
+    // 접근 순서 LRU
+    private final LinkedHashMap<String, CachedTrend> cache = new LinkedHashMap<>(16, 0.75f, true);
+    // 만드는 도중 무효화가 있었으면 캐시에 넣지 않기 위한 카운터
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public NoiseTrendService(NoiseSessionJdbcRepository noiseSessionJdbcRepository,
+                             UserRepository userRepository,
+                             @Value("${app.noise.trend.max-cached-users:10000}") int maxCachedUsers) {
+        this.noiseSessionJdbcRepository = noiseSessionJdbcRepository;
+        this.userRepository = userRepository;
+        this.maxCachedUsers = Math.max(maxCachedUsers, 1);
+    }
+
+    public NoiseTrendResponseDto getTrend(String userId, TrendRange range) {
+        LocalDate today = LocalDate.now();
+        CachedTrend trend = getCached(userId, today);
+        if (trend == null) {
+            long version = invalidations.get();
+            trend = build(userId, today);
+            putCached(userId, trend, version);
+        }
+
+        LocalDate from = today.minusDays(range.getDays() - 1L);
+        List<NoiseTrendDayDto> days = trend.days.subList(firstIndexOnOrAfter(trend.days, from), trend.days.size());
+
+        int pointDelta = 0;
+        long overCount = 0;
+        for (NoiseTrendDayDto day : days) {
+            pointDelta += day.getPointDelta();
+            overCount += day.getOverCount();
+        }
+
+        return NoiseTrendResponseDto.builder()
+                .range(range.name())
+                .from(from)
+                .to(today)
+                .pointDelta(pointDelta)
+                .overCount(overCount)
+                .days(days)
+                .build();
+    }
+
+    // 트랜잭션 커밋 후 캐시 삭제 (커밋 전 값으로 다시 채워지지 않도록)
+    public void invalidate(String userId) {
+        Runnable action = () -> {
+            invalidations.incrementAndGet();
+            synchronized (cache) {
+                cache.remove(userId);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private CachedTrend build(String userId, LocalDate today) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        int dayCount = TrendRange.YEAR.getDays();
+        LocalDate first = today.minusDays(dayCount - 1L);
+
+        NoiseTrendAggregator.Sessions sessions = new NoiseTrendAggregator.Sessions();
+        noiseSessionJdbcRepository.loadClosedSessions(userId, first.atStartOfDay(), today.plusDays(1).atStartOfDay(), sessions);
+        NoiseTrendAggregator.Days totals = NoiseTrendAggregator.aggregate(sessions, first.toEpochDay(), dayCount);
+
+        // 등급 변화는 기간 이전 마지막 등급부터 이어서 판단
+        User.Grade previous = noiseSessionJdbcRepository.findLastGradeBefore(userId, first.atStartOfDay());
+        List<NoiseTrendDayDto> days = new ArrayList<>();
+        for (int d = 0; d < totals.length(); d++) {
+            if (totals.getSessionCount(d) == 0) {
+                continue;
+            }
+            int lastGrade = totals.getLastGrade(d);
+            User.Grade grade = lastGrade >= 0 ? GRADES[lastGrade] : null;
+            boolean changed = grade != null && previous != null && grade != previous;
+            days.add(NoiseTrendDayDto.builder()
+                    .date(first.plusDays(d))
+                    .sessionCount(totals.getSessionCount(d))
+                    .avgDecibel(totals.getAverageDecibel(d))
+                    .maxDecibel(totals.getMaxDecibel(d))
+                    .overCount(totals.getOverCount(d))
+                    .pointDelta(totals.getPointDelta(d))
+                    .grade(grade != null ? grade.name() : null)
+                    .previousGrade(changed ? previous.name() : null)
+                    .build());
+            if (grade != null) {
+                previous = grade;
+            }
+        }
+        return new CachedTrend(today, List.copyOf(days));
+    }
+
+    private CachedTrend getCached(String userId, LocalDate today) {
+        synchronized (cache) {
+            CachedTrend trend = cache.get(userId);
+            // 날짜가 바뀌면 기간이 밀리므로 다시 만든다
+            return trend != null && trend.builtFor.equals(today) ? trend : null;
+        }
+    }
+
+    private void putCached(String userId, CachedTrend trend, long version) {
+        synchronized (cache) {
+            if (invalidations.get() != version) {
+                return;
+            }
+            cache.put(userId, trend);
+            if (cache.size() > maxCachedUsers) {
+                Iterator<CachedTrend> eldest = cache.values().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static int firstIndexOnOrAfter(List<NoiseTrendDayDto> days, LocalDate from) {
+        int low = 0;
+        int high = days.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days.get(mid).getDate().isBefore(from)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class CachedTrend {
+        private final LocalDate builtFor;
+        private final List<NoiseTrendDayDto> days;
+
+        CachedTrend(LocalDate builtFor, List<NoiseTrendDayDto> days) {
+            this.builtFor = builtFor;
+            this.days = days;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.dto.NoiseZoneRankDto;
+import com.shhtudy.backend.domain.noise.enums.ZoneHistogramMetric;
+import com.shhtudy.backend.domain.noise.repository.NoiseZoneHistogramJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 구역별 하루 세션 분포로 사용자 세션의 구역 내 순위 계산
+ * 세션 행 전체를 읽지 않고 고정 구간 히스토그램만 읽으므로 구간 수에 비례하는 비용이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NoiseZoneRankService {
+
+    private final NoiseZoneHistogramJdbcRepository noiseZoneHistogramJdbcRepository;
+
+    // 세션 종료 시 분포에 추가
+    public void record(String zone, LocalDate day, double avgDecibel, double quietRatio) {
+        add(zone, day, avgDecibel, quietRatio, 1);
+    }
+
+    // 세션 통계가 다시 계산되면 이전 구간에서 빼고 새 구간에 더한다
+    public void move(String zone, LocalDate day, double oldAvgDecibel, double oldQuietRatio,
+                     double newAvgDecibel, double newQuietRatio) {
+        add(zone, day, oldAvgDecibel, oldQuietRatio, -1);
+        add(zone, day, newAvgDecibel, newQuietRatio, 1);
+    }
+
+    /**
+     * 구역 내 순위 (구역을 모르면 null)
+     * 내 세션도 분포에 들어 있으므로 비교 대상에서 한 건 뺀다. 같은 구간은 절반으로 센다.
+     */
+    public NoiseZoneRankDto rank(String zone, LocalDate day, double avgDecibel, double quietRatio) {
+        if (zone == null) {
+            return null;
+        }
+        long[][] counts = noiseZoneHistogramJdbcRepository.findBuckets(zone, day);
+
+        long[] avg = counts[ZoneHistogramMetric.AVG_DECIBEL.ordinal()];
+        int avgBucket = ZoneHistogramMetric.AVG_DECIBEL.bucketOf(avgDecibel);
+        long total = 0;
+        long louder = 0;
+        for (int b = 0; b < avg.length; b++) {
+            total += avg[b];
+            if (b > avgBucket) {
+                louder += avg[b];
+            }
+        }
+
+        long[] quiet = counts[ZoneHistogramMetric.QUIET_RATIO.ordinal()];
+        int quietBucket = ZoneHistogramMetric.QUIET_RATIO.bucketOf(quietRatio);
+        long lessQuiet = 0;
+        for (int b = 0; b < quietBucket; b++) {
+            lessQuiet += quiet[b];
+        }
+
+        return NoiseZoneRankDto.builder()
+                .zone(zone)
+                .sessionCount(total)
+                .quieterThanPercent(percentile(louder, avg[avgBucket], total))
+                .quietRatioPercentile(percentile(lessQuiet, quiet[quietBucket], total))
+                .build();
+    }
+
+    private static Double percentile(long below, long sameBucket, long total) {
+        long self = sameBucket > 0 ? 1 : 0;
+        long others = total - self;
+        if (others <= 0) {
+            return null;
+        }
+        double rank = (below + (sameBucket - self) / 2.0) / others * 100.0;
+        return Math.round(rank * 10.0) / 10.0;
+    }
+
+    private void add(String zone, LocalDate day, double avgDecibel, double quietRatio, long delta) {
+        noiseZoneHistogramJdbcRepository.add(zone, day, ZoneHistogramMetric.AVG_DECIBEL,
+                ZoneHistogramMetric.AVG_DECIBEL.bucketOf(avgDecibel), delta);
+        noiseZoneHistogramJdbcRepository.add(zone, day, ZoneHistogramMetric.QUIET_RATIO,
+                ZoneHistogramMetric.QUIET_RATIO.bucketOf(quietRatio), delta);
+    }
+}
@@ -0,0 +1,201 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 0.0 ~ 150.0 dB 고정 범위를 0.1 dB 단위로 나눈 히스토그램 (병합 가능한 분위수 스케치)
+ * 버킷 i 는 ((i-1)/10, i/10] dB 구간이라 45.0 dB 이하(조용함) 판정이 정확히 버킷 경계와 맞는다.
+ * 분위수 오차는 최대 0.1 dB, 최소/최대값은 정확히 보관한다.
+ */
+public class DecibelHistogram {
+
+    private static final byte VERSION = 1;
+    private static final double SCALE = 10.0;
+    private static final int BUCKETS = 1501; // 0.0 ~ 150.0 dB
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private double min;
+    private double max;
+
+    public void add(double decibel) {
+        counts[bucketIndex(decibel)]++;
+        if (totalCount == 0 || decibel < min) {
+            min = decibel;
+        }
+        if (totalCount == 0 || decibel > max) {
+            max = decibel;
+        }
+        totalCount++;
+    }
+
+    // 같은 값 times 개 반영
+    public void add(double decibel, long times) {
+        if (times <= 0) {
+            return;
+        }
+        counts[bucketIndex(decibel)] += times;
+        if (totalCount == 0 || decibel < min) {
+            min = decibel;
+        }
+        if (totalCount == 0 || decibel > max) {
+            max = decibel;
+        }
+        totalCount += times;
+    }
+
+    public void merge(DecibelHistogram other) {
+        if (other.totalCount == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        min = totalCount == 0 ? other.min : Math.min(min, other.min);
+        max = totalCount == 0 ? other.max : Math.max(max, other.max);
+        totalCount += other.totalCount;
+    }
+
+    public DecibelHistogram copy() {
+        DecibelHistogram copy = new DecibelHistogram();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * q 분위수 (0.0 ~ 1.0), 해당 버킷의 상한값을 돌려준다. 측정값이 없으면 0
+     */
+    public double quantile(double q) {
+        if (totalCount == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(q * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(Math.max(i / SCALE, min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * threshold 이하 측정값 수 (threshold 는 0.1 dB 단위여야 정확)
+     */
+    public long countAtOrBelow(double threshold) {
+        int last = bucketIndex(threshold);
+        long sum = 0;
+        for (int i = 0; i <= last; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    /**
+     * (fromExclusive, toInclusive] dB 구간 측정값 수 (1 dB 단위 막대그래프 등에 사용)
+     */
+    public long countBetween(double fromExclusive, double toInclusive) {
+        int first = bucketIndex(fromExclusive) + 1;
+        int last = bucketIndex(toInclusive);
+        long sum = 0;
+        for (int i = first; i <= last; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    // ((i-1)/10, i/10] → i
+    private static int bucketIndex(double decibel) {
+        double scaled = Math.ceil(decibel * SCALE);
+        if (!(scaled > 0)) {
+            return 0;
+        }
+        return (int) Math.min(scaled, BUCKETS - 1);
+    }
+
+    /**
+     * [version][비어있지 않은 버킷 수 varint]([인덱스 차이 varint][개수 varint])*[min double][max double]
+     * 세션 하나는 보통 수백 바이트 이내
+     */
+    public byte[] toBytes() {
+        int nonEmpty = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                nonEmpty++;
+            }
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(1 + 5 + nonEmpty * (3 + 10) + 16);
+        out.put(VERSION);
+        NoiseSampleCodec.writeVarLong(out, nonEmpty);
+        int prevIndex = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] > 0) {
+                NoiseSampleCodec.writeVarLong(out, i - prevIndex);
+                NoiseSampleCodec.writeVarLong(out, counts[i]);
+                prevIndex = i;
+            }
+        }
+        if (totalCount > 0) {
+            out.putDouble(min);
+            out.putDouble(max);
+        }
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    public static DecibelHistogram fromBytes(byte[] bytes) {
+        DecibelHistogram histogram = new DecibelHistogram();
+        if (bytes == null || bytes.length == 0) {
+            return histogram;
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            if (in.get() != VERSION) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            long nonEmpty = NoiseSampleCodec.readVarLong(in);
+            if (nonEmpty < 0 || nonEmpty > BUCKETS) {
+                throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+            }
+            int index = 0;
+            for (long n = 0; n < nonEmpty; n++) {
+                index += (int) NoiseSampleCodec.readVarLong(in);
+                if (index < 0 || index >= BUCKETS) {
+                    throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+                }
+                long count = NoiseSampleCodec.readVarLong(in);
+                if (count <= 0) {
+                    throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+                }
+                histogram.counts[index] += count;
+                histogram.totalCount += count;
+            }
+            if (histogram.totalCount > 0) {
+                histogram.min = in.getDouble();
+                histogram.max = in.getDouble();
+            }
+            return histogram;
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_NOISE_PAYLOAD);
+        }
+    }
+}
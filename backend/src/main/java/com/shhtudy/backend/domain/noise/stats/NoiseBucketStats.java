@@ -0,0 +1,53 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 구간(버킷)의 소음 집계값 (롤업 행 + 아직 롤업되지 않은 원본 이벤트를 합칠 때 사용)
+ */
+@Getter
+public class NoiseBucketStats {
+
+    private final LocalDateTime bucketStart;
+    private long sampleCount;
+    private double decibelSum;
+    private double minDecibel;
+    private double maxDecibel;
+    private long overCount;
+
+    public NoiseBucketStats(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public NoiseBucketStats(LocalDateTime bucketStart, long sampleCount, double decibelSum,
+                            double minDecibel, double maxDecibel, long overCount) {
+        this.bucketStart = bucketStart;
+        this.sampleCount = sampleCount;
+        this.decibelSum = decibelSum;
+        this.minDecibel = minDecibel;
+        this.maxDecibel = maxDecibel;
+        this.overCount = overCount;
+    }
+
+    public void merge(NoiseBucketStats other) {
+        if (other.sampleCount == 0) {
+            return;
+        }
+        if (sampleCount == 0) {
+            minDecibel = other.minDecibel;
+            maxDecibel = other.maxDecibel;
+        } else {
+            minDecibel = Math.min(minDecibel, other.minDecibel);
+            maxDecibel = Math.max(maxDecibel, other.maxDecibel);
+        }
+        sampleCount += other.sampleCount;
+        decibelSum += other.decibelSum;
+        overCount += other.overCount;
+    }
+
+    public double getAverageDecibel() {
+        return sampleCount == 0 ? 0.0 : decibelSum / sampleCount;
+    }
+}
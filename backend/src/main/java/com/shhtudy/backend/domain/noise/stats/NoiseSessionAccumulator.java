@@ -0,0 +1,152 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+/**
+ * 진행 중인 소음 세션의 통계를 측정값이 들어올 때마다 누적하는 객체
+ * (count / sum / max / 조용한 측정값 수 / 급격한 소음 횟수 / 데시벨 분포)
+ * 세션 종료 시 이벤트를 다시 조회하지 않고 O(1)로 통계를 읽는다.
+ */
+public class NoiseSessionAccumulator {
+
+    public static final double QUIET_THRESHOLD_DB = 45.0;
+    public static final double MAX_DECIBEL = 200.0; // 입력 데시벨 상한 (이보다 크면 잘못된 값으로 거절)
+    private static final int ABRUPT_SECONDS = 3;
+
+    // 체크인 시점부터 순서대로 누적했는지 여부
+    // (재시작 후 중간부터 만들었거나 측정 시각이 뒤바뀐 값이 들어오면 false → 종료 시 재구성)
+    private boolean complete;
+
+    private long count;
+    private double sum;
+    private double max;
+    private long quietCount;
+    private final DecibelHistogram histogram = new DecibelHistogram();
+
+    // 급격한 소음 판정 상태 (기준 초과가 1초 간격으로 3초 이상 이어지면 1회)
+    private int abruptCount;
+    private long consecutiveSeconds;
+    private boolean hasPrev;
+    private long prevMillis;
+
+    // 지금까지 받은 가장 늦은 측정 시각 (순서 역전 감지용)
+    private boolean hasLatest;
+    private long latestMillis;
+
+    public NoiseSessionAccumulator(boolean complete) {
+        this.complete = complete;
+    }
+
+    /**
+     * 측정값 하나 반영 (측정 시각 오름차순으로 넣어야 함)
+     * 요청 간 순서가 뒤바뀐 값이 들어오면 급격한 소음 판정이 틀어지므로 미완성으로 표시하고,
+     * 판정 상태는 건드리지 않는다. (종료 시 저장된 이벤트를 시각순으로 다시 계산)
+     */
+    public synchronized void add(long measuredAtMillis, double decibel) {
+        count++;
+        sum += decibel;
+        if (count == 1 || decibel > max) {
+            max = decibel;
+        }
+        histogram.add(decibel);
+
+        if (!advance(measuredAtMillis, measuredAtMillis)) {
+            if (decibel <= QUIET_THRESHOLD_DB) {
+                quietCount++;
+            }
+            return;
+        }
+
+        if (decibel > QUIET_THRESHOLD_DB) {
+            if (hasPrev) {
+                long diff = Math.floorDiv(measuredAtMillis - prevMillis, 1000L);
+                if (diff <= 1) {
+                    consecutiveSeconds += diff;
+                } else {
+                    consecutiveSeconds = 1;
+                }
+            } else {
+                consecutiveSeconds = 1;
+            }
+
+            // 3초 이상 연속이면 1회로 세고 상태 초기화
+            if (consecutiveSeconds >= ABRUPT_SECONDS) {
+                abruptCount++;
+                consecutiveSeconds = 0;
+                hasPrev = false;
+                return;
+            }
+        } else {
+            quietCount++;
+            consecutiveSeconds = 0;
+        }
+        hasPrev = true;
+        prevMillis = measuredAtMillis;
+    }
+
+    /**
+     * 조용한 측정값 묶음 반영 (측정값을 하나씩 넣은 것과 같은 결과)
+     */
+    public synchronized void addQuietRun(QuietSampleRun run) {
+        if (run.getCount() <= 0) {
+            return;
+        }
+        count += run.getCount();
+        sum += run.getSum();
+        if (count == run.getCount() || run.getMax() > max) {
+            max = run.getMax();
+        }
+        histogram.merge(run.getHistogram());
+        quietCount += run.getCount();
+        if (!advance(run.getStartMillis(), run.getEndMillis())) {
+            return;
+        }
+
+        // 조용한 측정값은 연속 카운트를 끊으므로 마지막 측정 시각만 남는다
+        consecutiveSeconds = 0;
+        hasPrev = true;
+        prevMillis = run.getEndMillis();
+    }
+
+    // [startMillis, endMillis] 구간이 지금까지 받은 측정 시각 이후인지 확인 (아니면 미완성 표시)
+    private boolean advance(long startMillis, long endMillis) {
+        if (hasLatest && startMillis < latestMillis) {
+            complete = false;
+            return false;
+        }
+        hasLatest = true;
+        latestMillis = endMillis;
+        return true;
+    }
+
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getAverageDecibel() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public synchronized double getMaxDecibel() {
+        return max;
+    }
+
+    public synchronized double getQuietRatio() {
+        return count == 0 ? 0.0 : (double) quietCount / count;
+    }
+
+    // 기준(QUIET_THRESHOLD_DB) 초과 측정값 수
+    public synchronized long getOverCount() {
+        return count - quietCount;
+    }
+
+    public synchronized int getAbruptCount() {
+        return abruptCount;
+    }
+
+    public synchronized DecibelHistogram getHistogram() {
+        return histogram.copy();
+    }
+}
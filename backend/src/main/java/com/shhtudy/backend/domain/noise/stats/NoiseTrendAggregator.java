@@ -0,0 +1,139 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import java.util.Arrays;
+
+/**
+ * 종료된 세션들을 일별로 합산 (세션 열 배열 → 일별 열 배열)
+ * 사용자 한 명의 1년치 세션은 많아야 수백~천여 건이라 한 스레드에서 한 번에 합산한다.
+ */
+public final class NoiseTrendAggregator {
+
+    private NoiseTrendAggregator() {
+    }
+
+    public static Days aggregate(Sessions sessions, long firstEpochDay, int dayCount) {
+        Days days = new Days(dayCount);
+        for (int i = 0; i < sessions.size; i++) {
+            long offset = sessions.epochDay[i] - firstEpochDay;
+            if (offset < 0 || offset >= dayCount) {
+                continue;
+            }
+            int d = (int) offset;
+            days.sessionCount[d]++;
+            // 예전 세션은 측정값 수가 없으므로 평균만 1건으로 반영
+            long weight = sessions.sampleCount[i] > 0 ? sessions.sampleCount[i] : (sessions.avgDecibel[i] > 0 ? 1 : 0);
+            days.weight[d] += weight;
+            days.weightedSum[d] += sessions.avgDecibel[i] * weight;
+            days.maxDecibel[d] = Math.max(days.maxDecibel[d], sessions.maxDecibel[i]);
+            days.overCount[d] += sessions.overCount[i];
+            days.pointDelta[d] += sessions.pointDelta[i];
+            if (sessions.grade[i] >= 0 && sessions.checkoutMillis[i] >= days.lastCheckoutMillis[d]) {
+                days.lastCheckoutMillis[d] = sessions.checkoutMillis[i];
+                days.lastGrade[d] = sessions.grade[i];
+            }
+        }
+        return days;
+    }
+
+    /**
+     * 세션 열 배열 (grade 는 등급 ordinal, 없으면 -1)
+     */
+    public static final class Sessions {
+
+        private int size;
+        private long[] epochDay = new long[64];
+        private long[] checkoutMillis = new long[64];
+        private long[] sampleCount = new long[64];
+        private double[] avgDecibel = new double[64];
+        private double[] maxDecibel = new double[64];
+        private long[] overCount = new long[64];
+        private int[] pointDelta = new int[64];
+        private byte[] grade = new byte[64];
+
+        public void add(long epochDay, long checkoutMillis, long sampleCount, double avgDecibel, double maxDecibel,
+                        long overCount, int pointDelta, int grade) {
+            if (size == this.epochDay.length) {
+                int capacity = size * 2;
+                this.epochDay = Arrays.copyOf(this.epochDay, capacity);
+                this.checkoutMillis = Arrays.copyOf(this.checkoutMillis, capacity);
+                this.sampleCount = Arrays.copyOf(this.sampleCount, capacity);
+                this.avgDecibel = Arrays.copyOf(this.avgDecibel, capacity);
+                this.maxDecibel = Arrays.copyOf(this.maxDecibel, capacity);
+                this.overCount = Arrays.copyOf(this.overCount, capacity);
+                this.pointDelta = Arrays.copyOf(this.pointDelta, capacity);
+                this.grade = Arrays.copyOf(this.grade, capacity);
+            }
+            this.epochDay[size] = epochDay;
+            this.checkoutMillis[size] = checkoutMillis;
+            this.sampleCount[size] = sampleCount;
+            this.avgDecibel[size] = avgDecibel;
+            this.maxDecibel[size] = maxDecibel;
+            this.overCount[size] = overCount;
+            this.pointDelta[size] = pointDelta;
+            this.grade[size] = (byte) grade;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 일별 합계 열 배열 (인덱스 0 = 첫날)
+     */
+    public static final class Days {
+
+        private final int[] sessionCount;
+        private final long[] weight;
+        private final double[] weightedSum;
+        private final double[] maxDecibel;
+        private final long[] overCount;
+        private final int[] pointDelta;
+        private final long[] lastCheckoutMillis;
+        private final byte[] lastGrade;
+
+        Days(int dayCount) {
+            sessionCount = new int[dayCount];
+            weight = new long[dayCount];
+            weightedSum = new double[dayCount];
+            maxDecibel = new double[dayCount];
+            overCount = new long[dayCount];
+            pointDelta = new int[dayCount];
+            lastCheckoutMillis = new long[dayCount];
+            Arrays.fill(lastCheckoutMillis, Long.MIN_VALUE);
+            lastGrade = new byte[dayCount];
+            Arrays.fill(lastGrade, (byte) -1);
+        }
+
+
+        public int length() {
+            return sessionCount.length;
+        }
+
+        public int getSessionCount(int day) {
+            return sessionCount[day];
+        }
+
+        public double getAverageDecibel(int day) {
+            return weight[day] == 0 ? 0.0 : weightedSum[day] / weight[day];
+        }
+
+        public double getMaxDecibel(int day) {
+            return maxDecibel[day];
+        }
+
+        public long getOverCount(int day) {
+            return overCount[day];
+        }
+
+        public int getPointDelta(int day) {
+            return pointDelta[day];
+        }
+
+        // 그날 마지막 세션 이후 등급 ordinal (없으면 -1)
+        public int getLastGrade(int day) {
+            return lastGrade[day];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 16bit PCM 프레임 → RMS / dBFS / 보정 dB
+ * 기동 시 jdk.incubator.vector 모듈이 있으면(--add-modules) 벡터 커널, 없으면 스칼라 커널을 쓴다.
+ * -Dshhtudy.pcm.scalar=true 로 스칼라 커널을 강제할 수 있다. (비교/장애 대응용)
+ *
+ * RMS 는 직류 성분(마이크 바이어스)을 뺀 값이고, 0 dBFS = RMS 32768 (풀스케일 정현파는 약 -3 dBFS) 기준이다.
+ */
+public final class PcmLevelMeter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PcmLevelMeter.class);
+
+    public static final double FULL_SCALE = 32768.0;
+    public static final double MIN_DBFS = -120.0; // 무음 프레임 하한
+
+    private static final double FULL_SCALE_POWER_DB = 20.0 * Math.log10(FULL_SCALE);
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private PcmLevelMeter() {
+    }
+
+    private static boolean detectVectorSupport() {
+        if (Boolean.getBoolean("shhtudy.pcm.scalar")
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            logger.info("PCM 데시벨 계산: 스칼라 커널");
+            return false;
+        }
+        try {
+            logger.info("PCM 데시벨 계산: 벡터 커널 ({} lanes)", PcmVectorKernel.laneCount());
+            return true;
+        } catch (LinkageError e) {
+            logger.warn("PCM 벡터 커널 초기화 실패, 스칼라 커널 사용", e);
+            return false;
+        }
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * 직류 성분을 뺀 평균 제곱 (진폭 단위 제곱)
+     */
+    public static double acPower(short[] pcm, int offset, int length) {
+        return VECTORIZED
+                ? PcmVectorKernel.acPower(pcm, offset, length)
+                : PcmScalarKernel.acPower(pcm, offset, length);
+    }
+
+    // 0.0 ~ 1.0 (풀스케일 대비)
+    public static double rms(short[] pcm, int offset, int length) {
+        return Math.sqrt(acPower(pcm, offset, length)) / FULL_SCALE;
+    }
+
+    public static double dbfs(short[] pcm, int offset, int length) {
+        return powerToDbfs(acPower(pcm, offset, length));
+    }
+
+    static double powerToDbfs(double power) {
+        if (power <= 0.0) {
+            return MIN_DBFS;
+        }
+        return Math.max(MIN_DBFS, 10.0 * Math.log10(power) - FULL_SCALE_POWER_DB);
+    }
+}
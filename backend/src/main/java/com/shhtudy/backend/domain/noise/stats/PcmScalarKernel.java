@@ -0,0 +1,26 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+/**
+ * PCM 프레임 교류 전력 계산 (스칼라, Vector API 를 쓸 수 없을 때)
+ * 16bit 샘플이면 합/제곱합이 long 범위 안이라 정수로 정확히 계산한다.
+ */
+final class PcmScalarKernel {
+
+    private PcmScalarKernel() {
+    }
+
+    /**
+     * 직류 성분(평균)을 뺀 평균 제곱 (진폭 단위 제곱)
+     */
+    static double acPower(short[] pcm, int offset, int length) {
+        long sum = 0;
+        long sumSquares = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int x = pcm[i];
+            sum += x;
+            sumSquares += x * x;
+        }
+        // (N x 제곱합 - 합²) / N², 프레임 16384 샘플까지 long 범위 안
+        return (double) (length * sumSquares - sum * sum) / ((double) length * length);
+    }
+}
@@ -0,0 +1,67 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * PCM 프레임 교류 전력 계산 (jdk.incubator.vector)
+ * 레인 수를 float 기본 벡터에 맞추고, 같은 레인 수의 short 벡터를 읽어 int/float 로 넓힌다.
+ * 1차: 평균 (int 누적이라 정확), 2차: 평균을 뺀 값의 제곱합 (float FMA, 레인별 누적).
+ * 평균을 먼저 빼므로 직류 성분이 커도 자릿수 손실이 없고, 스칼라 결과와의 차이는 0.001 dB 이하다. (PcmVectorKernelTest)
+ * 모듈이 없으면 이 클래스는 로드되지 않는다. (PcmLevelMeter 참고)
+ */
+final class PcmVectorKernel {
+
+    private static final VectorSpecies<Float> FLOAT = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT = VectorSpecies.of(int.class, FLOAT.vectorShape());
+    private static final VectorSpecies<Short> SHORT =
+            VectorSpecies.of(short.class, VectorShape.forBitSize(FLOAT.vectorBitSize() / 2));
+
+    private PcmVectorKernel() {
+    }
+
+    static int laneCount() {
+        return FLOAT.length();
+    }
+
+    /**
+     * 직류 성분(평균)을 뺀 평균 제곱 (진폭 단위 제곱)
+     */
+    static double acPower(short[] pcm, int offset, int length) {
+        int bound = SHORT.loopBound(length);
+        int step = SHORT.length();
+
+        IntVector sumVector = IntVector.zero(INT);
+        int i = 0;
+        for (; i < bound; i += step) {
+            sumVector = sumVector.add(ShortVector.fromArray(SHORT, pcm, offset + i).castShape(INT, 0));
+        }
+        long sum = sumVector.reduceLanesToLong(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += pcm[offset + i];
+        }
+        float mean = (float) ((double) sum / length);
+
+        FloatVector meanVector = FloatVector.broadcast(FLOAT, mean);
+        FloatVector squares = FloatVector.zero(FLOAT);
+        i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = ((FloatVector) ShortVector.fromArray(SHORT, pcm, offset + i).castShape(FLOAT, 0))
+                    .sub(meanVector);
+            squares = x.fma(x, squares);
+        }
+        double sumSquares = squares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double x = pcm[offset + i] - mean;
+            sumSquares += x * x;
+        }
+
+        // 반올림한 평균 기준의 제곱합이라 평균 오차 제곱만큼 보정
+        double meanError = (double) sum / length - mean;
+        return Math.max(0.0, sumSquares / length - meanError * meanError);
+    }
+}
@@ -0,0 +1,132 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+/**
+ * 연속된 조용한 측정값(QUIET_THRESHOLD_DB 이하) 묶음
+ * 개수/합/최소/최대와 분포(DecibelHistogram)를 가지므로 평균, 조용한 비율, 분포는 그대로 복원되고,
+ * 급격한 소음 판정은 마지막 측정 시각(end)만 있으면 같은 결과가 나온다. (조용한 측정값은 연속 카운트를 0으로 되돌림)
+ * 롤업을 정확히 유지하기 위해 한 묶음은 1분 구간과 좌석을 넘지 않는다.
+ */
+public class QuietSampleRun {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final String userId;
+    private final int seatId; // 음수: 좌석 없음
+    private final long startMillis;
+    private long endMillis;
+    private long count;
+    private double sum;
+    private double min;
+    private double max;
+    private final DecibelHistogram histogram;
+
+    public QuietSampleRun(String userId, int seatId, long measuredAtMillis, double decibel) {
+        this.userId = userId;
+        this.seatId = seatId;
+        this.startMillis = measuredAtMillis;
+        this.endMillis = measuredAtMillis;
+        this.count = 1;
+        this.sum = decibel;
+        this.min = decibel;
+        this.max = decibel;
+        this.histogram = new DecibelHistogram();
+        this.histogram.add(decibel);
+    }
+
+    // 저장된 묶음 복원
+    public QuietSampleRun(String userId, int seatId, long startMillis, long endMillis, long count,
+                          double sum, double min, double max, DecibelHistogram histogram) {
+        this.userId = userId;
+        this.seatId = seatId;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.histogram = histogram;
+    }
+
+    /**
+     * 클라이언트가 집계해 보낸 구간 요약으로 만든 묶음
+     * 개수/합/최소/최대는 그대로이고, 분포는 최소/최대 한 개씩 + 나머지는 평균이 유지되는 중심값에 둔다. (분위수만 근사)
+     */
+    public static QuietSampleRun ofSummary(String userId, int seatId, long startMillis, long endMillis,
+                                           long count, double sum, double min, double max) {
+        DecibelHistogram histogram = new DecibelHistogram();
+        histogram.add(min);
+        if (count >= 2) {
+            histogram.add(max);
+        }
+        if (count > 2) {
+            double centroid = (sum - min - max) / (count - 2);
+            histogram.add(Math.min(max, Math.max(min, centroid)), count - 2);
+        }
+        return new QuietSampleRun(userId, seatId, startMillis, endMillis, count, sum, min, max, histogram);
+    }
+
+    public static boolean isSameMinute(long startMillis, long endMillis) {
+        return Math.floorDiv(startMillis, MINUTE_MILLIS) == Math.floorDiv(endMillis, MINUTE_MILLIS);
+    }
+
+    /**
+     * 같은 좌석, 같은 1분 구간이고 시각이 뒤로 가지 않으며 간격이 maxGapMillis 이내면 이어 붙일 수 있다
+     */
+    public boolean canAppend(int seatId, long measuredAtMillis, long maxGapMillis) {
+        return this.seatId == seatId
+                && measuredAtMillis >= endMillis
+                && measuredAtMillis - endMillis <= maxGapMillis
+                && Math.floorDiv(measuredAtMillis, MINUTE_MILLIS) == Math.floorDiv(startMillis, MINUTE_MILLIS);
+    }
+
+    public void append(long measuredAtMillis, double decibel) {
+        endMillis = measuredAtMillis;
+        count++;
+        sum += decibel;
+        min = Math.min(min, decibel);
+        max = Math.max(max, decibel);
+        histogram.add(decibel);
+    }
+
+    // 더 이어 붙을 수 없는 상태 (마지막 측정 후 idleMillis 경과, 또는 1분 구간이 끝나고 graceMillis 경과)
+    public boolean isClosable(long nowMillis, long idleMillis, long graceMillis) {
+        return nowMillis - endMillis > idleMillis
+                || Math.floorDiv(nowMillis - graceMillis, MINUTE_MILLIS) > Math.floorDiv(startMillis, MINUTE_MILLIS);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public int getSeatId() {
+        return seatId;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public DecibelHistogram getHistogram() {
+        return histogram;
+    }
+}
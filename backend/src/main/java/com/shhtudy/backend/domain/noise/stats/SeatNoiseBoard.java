@@ -0,0 +1,69 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 좌석별 최신 데시벨 / 최근 평균(EWMA) / 갱신 시각을 seatId 로 인덱싱한 원시 배열에 보관 (락 없음)
+ * double 은 비트로 바꿔 AtomicLongArray 에 저장하고, 평균은 CAS 로 갱신한다.
+ */
+public class SeatNoiseBoard {
+
+    private static final long EMPTY = Double.doubleToRawLongBits(Double.NaN);
+
+    private final int size;
+    private final double alpha;
+    private final AtomicLongArray latest;
+    private final AtomicLongArray average;
+    private final AtomicLongArray updatedAtMillis;
+
+    public SeatNoiseBoard(int maxSeatId, double alpha) {
+        this.size = maxSeatId + 1;
+        this.alpha = alpha;
+        this.latest = new AtomicLongArray(size);
+        this.average = new AtomicLongArray(size);
+        this.updatedAtMillis = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            latest.set(i, EMPTY);
+            average.set(i, EMPTY);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 측정값 반영 (범위 밖 좌석은 무시)
+     */
+    public boolean record(int seatId, double decibel, long measuredAtMillis) {
+        if (seatId < 0 || seatId >= size) {
+            return false;
+        }
+        latest.set(seatId, Double.doubleToRawLongBits(decibel));
+
+        long prevBits;
+        long nextBits;
+        do {
+            prevBits = average.get(seatId);
+            double prev = Double.longBitsToDouble(prevBits);
+            double next = Double.isNaN(prev) ? decibel : prev + alpha * (decibel - prev);
+            nextBits = Double.doubleToRawLongBits(next);
+        } while (!average.compareAndSet(seatId, prevBits, nextBits));
+
+        updatedAtMillis.accumulateAndGet(seatId, measuredAtMillis, Math::max);
+        return true;
+    }
+
+    // 측정값이 없으면 NaN
+    public double getLatest(int seatId) {
+        return Double.longBitsToDouble(latest.get(seatId));
+    }
+
+    public double getAverage(int seatId) {
+        return Double.longBitsToDouble(average.get(seatId));
+    }
+
+    public long getUpdatedAtMillis(int seatId) {
+        return updatedAtMillis.get(seatId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import com.shhtudy.backend.domain.noise.enums.SpikeType;
+
+/**
+ * 좌석별 실시간 소음 이상 감지 (EWMA 기준선 + CUSUM)
+ * 상태는 seatId 로 인덱싱한 원시 배열에 두고, 측정값 하나당 객체를 만들지 않는다.
+ * 같은 좌석의 갱신은 미리 만든 스트라이프 락으로 직렬화한다.
+ */
+public class SeatSpikeDetector {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final int size;
+    private final double alpha;          // 기준선 EWMA 가중치
+    private final int warmupSamples;     // 이 수만큼 모일 때까지는 기준선만 학습
+    private final double minSigma;       // 조용한 좌석의 작은 흔들림에 반응하지 않도록 하는 표준편차 하한 (dB)
+    private final double suddenSigmas;   // 급격한 소음: 기준선 + suddenSigmas * sigma 초과
+    private final double suddenMinJump;  // 급격한 소음: 기준선보다 최소 이만큼(dB) 높아야 함
+    private final double cusumSlack;     // CUSUM 허용 편차 (sigma 단위)
+    private final double cusumLimit;     // CUSUM 경보 임계값 (sigma 단위)
+    private final double floorDecibel;   // 이 값 이하는 경보 대상이 아님 (조용함 기준)
+
+    private final double[] mean;
+    private final double[] variance;
+    private final double[] cusum;
+    private final int[] samples;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public SeatSpikeDetector(int maxSeatId, double alpha, int warmupSamples, double minSigma,
+                             double suddenSigmas, double suddenMinJump,
+                             double cusumSlack, double cusumLimit, double floorDecibel) {
+        this.size = maxSeatId + 1;
+        this.alpha = alpha;
+        this.warmupSamples = warmupSamples;
+        this.minSigma = minSigma;
+        this.suddenSigmas = suddenSigmas;
+        this.suddenMinJump = suddenMinJump;
+        this.cusumSlack = cusumSlack;
+        this.cusumLimit = cusumLimit;
+        this.floorDecibel = floorDecibel;
+        this.mean = new double[size];
+        this.variance = new double[size];
+        this.cusum = new double[size];
+        this.samples = new int[size];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 측정값 하나 반영 후 감지 결과 반환 (없으면 null)
+     */
+    public SpikeType observe(int seatId, double decibel) {
+        if (seatId < 0 || seatId >= size) {
+            return null;
+        }
+        synchronized (locks[seatId % LOCK_STRIPES]) {
+            if (samples[seatId] == 0) {
+                mean[seatId] = decibel;
+                variance[seatId] = 0.0;
+                samples[seatId] = 1;
+                return null;
+            }
+
+            double deviation = decibel - mean[seatId];
+            double sigma = Math.max(Math.sqrt(variance[seatId]), minSigma);
+            SpikeType detected = null;
+
+            if (samples[seatId] >= warmupSamples && decibel > floorDecibel) {
+                cusum[seatId] = Math.max(0.0, cusum[seatId] + deviation / sigma - cusumSlack);
+                if (deviation > suddenSigmas * sigma && deviation >= suddenMinJump) {
+                    detected = SpikeType.SUDDEN;
+                    cusum[seatId] = 0.0;
+                } else if (cusum[seatId] > cusumLimit) {
+                    detected = SpikeType.SUSTAINED;
+                    cusum[seatId] = 0.0;
+                }
+            } else {
+                cusum[seatId] = 0.0;
+            }
+
+            // 이상값은 기준선에 천천히 반영 (계속되면 결국 새 기준선이 됨)
+            double weight = detected == null ? alpha : alpha / 4;
+            mean[seatId] += weight * deviation;
+            variance[seatId] = (1 - weight) * (variance[seatId] + weight * deviation * deviation);
+            if (samples[seatId] < warmupSamples) {
+                samples[seatId]++;
+            }
+            return detected;
+        }
+    }
+
+    public double getBaseline(int seatId) {
+        synchronized (locks[seatId % LOCK_STRIPES]) {
+            return mean[seatId];
+        }
+    }
+}
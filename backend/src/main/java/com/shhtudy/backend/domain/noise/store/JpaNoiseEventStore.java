@@ -0,0 +1,90 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.repository.NoiseEventJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseEventRepository;
+import com.shhtudy.backend.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MySQL noise_events 저장소 (단건은 JPA, 대량은 JDBC 배치)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.noise.store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaNoiseEventStore implements NoiseEventStore {
+
+    private final NoiseEventRepository noiseEventRepository;
+    private final NoiseEventJdbcRepository noiseEventJdbcRepository;
+
+    @Override
+    public void save(NoiseEvent event) {
+        noiseEventRepository.save(event);
+    }
+
+    @Override
+    public void saveAll(List<NoiseEvent> events) {
+        noiseEventJdbcRepository.batchInsert(events);
+    }
+
+    @Override
+    public void saveAll(String[] userIds, int[] seatIds, double[] decibels, long[] measuredAtMillis, int count) {
+        noiseEventJdbcRepository.batchInsert(userIds, seatIds, decibels, measuredAtMillis, count);
+    }
+
+    @Override
+    public void streamSamples(String userId, LocalDateTime from, LocalDateTime to, NoiseSampleCodec.SampleSink sink) {
+        noiseEventJdbcRepository.streamSamples(userId, from, to, sink);
+    }
+
+    @Override
+    public Integer findLatestSeatId(String userId, LocalDateTime from, LocalDateTime to) {
+        return noiseEventJdbcRepository.findLatestSeatId(userId, from, to);
+    }
+
+    @Override
+    public List<NoiseEventRecord> findLatest(User user, LocalDateTime from, LocalDateTime to, int limit) {
+        return noiseEventRepository.findByUserAndMeasuredAtGreaterThanEqualAndMeasuredAtLessThanOrderByMeasuredAtDesc(
+                        user, from, to, PageRequest.of(0, limit)).stream()
+                .map(NoiseEventRecord::from)
+                .toList();
+    }
+
+    @Override
+    public Page<NoiseEventRecord> findPage(User user, Pageable pageable) {
+        return noiseEventRepository.findByUser(user, pageable).map(NoiseEventRecord::from);
+    }
+
+    @Override
+    public List<NoiseEventRecord> findPageBefore(User user, LocalDateTime measuredAt, Long id, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        List<NoiseEvent> rows = measuredAt == null
+                ? noiseEventRepository.findByUserOrderByMeasuredAtDescIdDesc(user, page)
+                : noiseEventRepository.findPageAfter(user, measuredAt, id, page);
+        return rows.stream().map(NoiseEventRecord::from).toList();
+    }
+
+    @Override
+    public long countByUser(User user) {
+        return noiseEventRepository.countByUser(user);
+    }
+
+    @Override
+    public boolean supportsRangeDelete() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsRollup() {
+        return true;
+    }
+}
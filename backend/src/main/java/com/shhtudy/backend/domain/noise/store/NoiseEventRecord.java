@@ -0,0 +1,26 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에서 읽은 측정값 한 건 (저장소 구현과 무관한 읽기 모델)
+ */
+@Getter
+@AllArgsConstructor
+public class NoiseEventRecord {
+
+    private final Long id;
+    private final Integer seatId; // 좌석 없음: null
+    private final double decibel;
+    private final LocalDateTime measuredAt;
+
+    public static NoiseEventRecord from(NoiseEvent event) {
+        return new NoiseEventRecord(event.getId(),
+                event.getSeat() != null ? event.getSeat().getSeatId() : null,
+                event.getDecibel(), event.getMeasuredAt());
+    }
+}
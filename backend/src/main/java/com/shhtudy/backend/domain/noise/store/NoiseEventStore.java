@@ -0,0 +1,55 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 소음 측정값 원본 저장소
+ * app.noise.store.type 으로 구현을 고른다.
+ * - jpa    : MySQL noise_events (기본, 롤업/파티션/원본 삭제 지원)
+ * - segment: 로컬 일 단위 메모리 맵 세그먼트 파일 (추가 전용, 롤업/파티션/백필과 함께 쓸 수 없음)
+ */
+public interface NoiseEventStore {
+
+    void save(NoiseEvent event);
+
+    void saveAll(List<NoiseEvent> events);
+
+    /**
+     * 열 단위 배열로 일괄 저장
+     * seatIds 의 음수는 좌석 없음, measuredAtMillis 는 시스템 시간대 기준 epoch millis
+     */
+    void saveAll(String[] userIds, int[] seatIds, double[] decibels, long[] measuredAtMillis, int count);
+
+    /**
+     * [from, to] 측정값을 (측정 시각, id) 순서대로 전달
+     */
+    void streamSamples(String userId, LocalDateTime from, LocalDateTime to, NoiseSampleCodec.SampleSink sink);
+
+    // [from, to] 중 마지막으로 좌석이 기록된 측정값의 좌석 (없으면 null)
+    Integer findLatestSeatId(String userId, LocalDateTime from, LocalDateTime to);
+
+    // [from, to) 최신순 limit 건
+    List<NoiseEventRecord> findLatest(User user, LocalDateTime from, LocalDateTime to, int limit);
+
+    Page<NoiseEventRecord> findPage(User user, Pageable pageable);
+
+    /**
+     * (measured_at, id) 내림차순 limit 건. 커서가 null 이면 처음부터, 있으면 커서 다음부터
+     */
+    List<NoiseEventRecord> findPageBefore(User user, LocalDateTime measuredAt, Long id, int limit);
+
+    long countByUser(User user);
+
+    // 기간 단위 원본 삭제 가능 여부 (압축 후 원본 삭제에 사용)
+    boolean supportsRangeDelete();
+
+    // 롤업(noise_rollups) 이 이 저장소의 측정값을 집계하는지 여부 (아니면 통계를 원본에서 직접 계산)
+    boolean supportsRollup();
+}
@@ -0,0 +1,236 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하루치 측정값을 담는 추가 전용 세그먼트 파일 (메모리 맵)
+ *
+ * <pre>
+ * [64 byte 헤더] magic(4) version(4) recordSize(4) capacity(4) epochDay(8) count(4) 예약
+ * [레코드 24 byte 고정폭] measuredAtMillis(8) decibel(8) userNo(4) seatId(4, 음수: 좌석 없음)
+ * </pre>
+ *
+ * 사용자별 희소 인덱스(레코드가 있는 블록 번호 목록 + 최소/최대 시각)는 메모리에만 두고 열 때 다시 만든다.
+ * 범위 조회는 해당 사용자 블록만 순차로 읽는다.
+ * 쓰기는 저장소의 락 안에서 한 스레드만, 읽기는 count 스냅샷 이전 레코드만 읽으므로 락 없이 한다.
+ */
+class NoiseSegment {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 24;
+    static final int BLOCK_SHIFT = 10; // 인덱스 블록 = 레코드 1024개 (24KB)
+    static final int MAX_CAPACITY = 1 << 22; // id 에 레코드 번호 22bit
+    static final int MAX_SEQUENCE = (1 << 10) - 1; // id 에 세그먼트 번호 10bit
+
+    private static final int MAGIC = 0x4E534547; // "NSEG"
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 24;
+
+    private final Path path;
+    private final long epochDay;
+    private final int sequence;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Map<Integer, UserBlocks> index = new HashMap<>();
+
+    private volatile int count;
+    private volatile boolean dirty;
+
+    private NoiseSegment(Path path, long epochDay, int sequence, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.epochDay = epochDay;
+        this.sequence = sequence;
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static NoiseSegment create(Path path, long epochDay, int sequence, int capacity) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) capacity * RECORD_SIZE);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, RECORD_SIZE);
+            buffer.putInt(12, capacity);
+            buffer.putLong(16, epochDay);
+            buffer.putInt(COUNT_OFFSET, 0);
+            return new NoiseSegment(path, epochDay, sequence, capacity, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static NoiseSegment open(Path path, int sequence) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE) {
+                channel.close();
+                throw new IllegalStateException("noise segment header mismatch: " + path);
+            }
+            // 잘린 파일은 남은 레코드까지만 쓰고 가득 찬 것으로 본다 (매핑 밖에 이어 쓰지 않도록)
+            int whole = (int) Math.max(0, (channel.size() - HEADER_SIZE) / RECORD_SIZE);
+            int capacity = Math.min(buffer.getInt(12), whole);
+            NoiseSegment segment = new NoiseSegment(path, buffer.getLong(16), sequence, capacity, channel, buffer);
+
+            // 파일 길이를 넘는 count 는 잘린 파일이므로 온전한 레코드까지만 사용
+            int count = Math.min(buffer.getInt(COUNT_OFFSET), capacity);
+            for (int i = 0; i < count; i++) {
+                segment.indexRecord(i, segment.userNo(i), segment.measuredAtMillis(i));
+            }
+            segment.count = count;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    /**
+     * 레코드 추가 후 번호 반환 (저장소 쓰기 락 안에서 호출)
+     */
+    int append(long measuredAtMillis, double decibel, int userNo, int seatId) {
+        int i = count;
+        int offset = HEADER_SIZE + i * RECORD_SIZE;
+        buffer.putLong(offset, measuredAtMillis);
+        buffer.putDouble(offset + 8, decibel);
+        buffer.putInt(offset + 16, userNo);
+        buffer.putInt(offset + 20, seatId);
+        indexRecord(i, userNo, measuredAtMillis);
+
+        // 레코드를 쓴 다음 count 를 올려야 읽는 쪽이 덜 쓴 레코드를 보지 않는다
+        buffer.putInt(COUNT_OFFSET, i + 1);
+        count = i + 1;
+        dirty = true;
+        return i;
+    }
+
+    private synchronized void indexRecord(int i, int userNo, long measuredAtMillis) {
+        index.computeIfAbsent(userNo, key -> new UserBlocks()).add(i >>> BLOCK_SHIFT, measuredAtMillis);
+    }
+
+    /**
+     * 사용자 인덱스 스냅샷 (없으면 null)
+     */
+    synchronized UserBlocks snapshot(int userNo) {
+        UserBlocks blocks = index.get(userNo);
+        return blocks != null ? blocks.copy() : null;
+    }
+
+    synchronized long countOf(int userNo) {
+        UserBlocks blocks = index.get(userNo);
+        return blocks != null ? blocks.count : 0;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long measuredAtMillis(int i) {
+        return buffer.getLong(HEADER_SIZE + i * RECORD_SIZE);
+    }
+
+    double decibel(int i) {
+        return buffer.getDouble(HEADER_SIZE + i * RECORD_SIZE + 8);
+    }
+
+    int userNo(int i) {
+        return buffer.getInt(HEADER_SIZE + i * RECORD_SIZE + 16);
+    }
+
+    int seatId(int i) {
+        return buffer.getInt(HEADER_SIZE + i * RECORD_SIZE + 20);
+    }
+
+    // 세그먼트를 넘어 유일한 id: epochDay(상위 32bit) + 세그먼트 번호(10bit) + 레코드 번호(22bit)
+    long idOf(int i) {
+        return (epochDay << 32) | ((long) sequence << 22) | i;
+    }
+
+    void force() {
+        if (dirty) {
+            dirty = false;
+            buffer.force();
+        }
+    }
+
+    void close() {
+        try {
+            force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void delete() {
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 사용자 레코드가 있는 블록 번호(오름차순)와 시각 범위
+     */
+    static final class UserBlocks {
+
+        private int[] blocks = new int[4];
+        private int blockCount;
+        private long count;
+        private long minMillis = Long.MAX_VALUE;
+        private long maxMillis = Long.MIN_VALUE;
+
+        void add(int block, long measuredAtMillis) {
+            if (blockCount == 0 || blocks[blockCount - 1] != block) {
+                if (blockCount == blocks.length) {
+                    blocks = Arrays.copyOf(blocks, blockCount * 2);
+                }
+                blocks[blockCount++] = block;
+            }
+            count++;
+            minMillis = Math.min(minMillis, measuredAtMillis);
+            maxMillis = Math.max(maxMillis, measuredAtMillis);
+        }
+
+        UserBlocks copy() {
+            UserBlocks copy = new UserBlocks();
+            copy.blocks = Arrays.copyOf(blocks, blockCount);
+            copy.blockCount = blockCount;
+            copy.count = count;
+            copy.minMillis = minMillis;
+            copy.maxMillis = maxMillis;
+            return copy;
+        }
+
+        boolean overlaps(long fromMillis, long toMillis) {
+            return count > 0 && minMillis <= toMillis && maxMillis >= fromMillis;
+        }
+
+        int getBlockCount() {
+            return blockCount;
+        }
+
+        int block(int i) {
+            return blocks[i];
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세그먼트 레코드를 고정폭으로 두기 위한 사용자 uid ↔ 번호 사전
+ * 한 줄에 uid 하나씩 추가만 하는 파일이고, 줄 번호가 사용자 번호다.
+ */
+class NoiseUserDictionary {
+
+    private final Path path;
+    private final Map<String, Integer> numbers = new ConcurrentHashMap<>();
+    private int size;
+
+    NoiseUserDictionary(Path path) {
+        this.path = path;
+        try {
+            if (Files.exists(path)) {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    if (!line.isEmpty()) {
+                        numbers.put(line, size++);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 조회용 (없으면 null)
+    Integer find(String uid) {
+        return numbers.get(uid);
+    }
+
+    /**
+     * 번호 조회, 없으면 파일에 추가 (저장소 쓰기 락 안에서 호출)
+     */
+    int numberOf(String uid) {
+        Integer number = numbers.get(uid);
+        if (number != null) {
+            return number;
+        }
+        try {
+            Files.writeString(path, uid + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        numbers.put(uid, size);
+        return size++;
+    }
+}
@@ -0,0 +1,575 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.user.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 추가 전용 세그먼트 저장소 (app.noise.store.type=segment)
+ * {dir}/{yyyyMMdd}/{seq}.seg 에 측정 날짜별로 고정폭 레코드를 이어 쓰고, 세그먼트가 차면 다음 번호로 넘어간다.
+ * 보존 기간이 지난 날짜는 디렉터리째 지운다. (행 단위 삭제 없음)
+ * 날짜마다 세그먼트 파일(약 48MB)을 만들기 때문에 [오늘 - 보존 기간, 내일] 밖의 측정값은 저장하지 않는다.
+ *
+ * 파일 쓰기는 트랜잭션에 참여하지 못하므로, 호출 측 트랜잭션이 있으면 커밋된 뒤에 쓴다.
+ * (롤백된 배치가 세그먼트에만 남아 함께 롤백된 MySQL 묶음과 어긋나지 않도록. 커밋 후 쓰기 실패는 로그만 남는다)
+ *
+ * 롤업/파티션/백필은 MySQL noise_events 를 직접 읽고 쓰므로 함께 켜면 기동 시 실패한다.
+ * 압축 후 원본 삭제는 supportsRangeDelete() 로 건너뛴다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.noise.store.type", havingValue = "segment")
+public class SegmentNoiseEventStore implements NoiseEventStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentNoiseEventStore.class);
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final int retentionDays;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // 측정 날짜(epoch day) → 세그먼트 (번호 순, 마지막이 쓰는 중)
+    private final NavigableMap<Long, List<NoiseSegment>> days = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private NoiseUserDictionary dictionary;
+
+    // 마지막으로 쓴 날짜 범위 (쓰기 락 안에서만 사용, 시간대 계산 생략용)
+    private long cachedDay = Long.MIN_VALUE;
+    private long cachedDayStart;
+    private long cachedDayEnd;
+
+    // 저장할 수 있는 날짜 범위 (쓰기 락 안에서 쓰기마다 갱신)
+    private long firstWritableDay;
+    private long lastWritableDay;
+    private long skipped;
+
+    public SegmentNoiseEventStore(@Value("${app.noise.store.segment.dir:./data/noise-segments}") String directory,
+                                  @Value("${app.noise.store.segment.segment-records:2097152}") int segmentRecords,
+                                  @Value("${app.noise.store.segment.retention-days:90}") int retentionDays,
+                                  @Value("${app.noise.rollup.enabled:true}") boolean rollupEnabled,
+                                  @Value("${app.noise.partitioning.enabled:false}") boolean partitioningEnabled,
+                                  @Value("${app.noise.partitioning.migrate:false}") boolean partitioningMigrate,
+                                  @Value("${app.noise.backfill.file:}") String backfillFile) {
+        // MySQL noise_events 를 직접 다루는 기능은 이 저장소의 측정값을 보지 못하므로 조용히 어긋나지 않게 막는다
+        List<String> conflicts = new ArrayList<>();
+        if (rollupEnabled) {
+            conflicts.add("app.noise.rollup.enabled");
+        }
+        if (partitioningEnabled || partitioningMigrate) {
+            conflicts.add("app.noise.partitioning");
+        }
+        if (!backfillFile.isBlank()) {
+            conflicts.add("app.noise.backfill.file");
+        }
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException("app.noise.store.type=segment cannot be combined with " + conflicts
+                    + " (they read and write MySQL noise_events directly); disable them or use store.type=jpa");
+        }
+        this.directory = Path.of(directory);
+        this.segmentRecords = Math.min(Math.max(segmentRecords, 1 << NoiseSegment.BLOCK_SHIFT), NoiseSegment.MAX_CAPACITY);
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void open() {
+        try {
+            Files.createDirectories(directory);
+            dictionary = new NoiseUserDictionary(directory.resolve("users.dict"));
+
+            try (Stream<Path> dayDirs = Files.list(directory)) {
+                for (Path dayDir : dayDirs.filter(Files::isDirectory).toList()) {
+                    Long epochDay = parseDay(dayDir);
+                    if (epochDay != null) {
+                        days.put(epochDay, openSegments(dayDir));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("소음 세그먼트 저장소 열기: {} ({}일)", directory.toAbsolutePath(), days.size());
+    }
+
+    private List<NoiseSegment> openSegments(Path dayDir) throws IOException {
+        List<NoiseSegment> segments = new CopyOnWriteArrayList<>();
+        try (Stream<Path> files = Files.list(dayDir)) {
+            List<Path> paths = files
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+            for (Path path : paths) {
+                segments.add(NoiseSegment.open(path, segments.size()));
+            }
+        }
+        return segments;
+    }
+
+    private static Long parseDay(Path dayDir) {
+        try {
+            return LocalDate.parse(dayDir.getFileName().toString(), DAY_FORMAT).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void save(NoiseEvent event) {
+        saveAll(List.of(event));
+    }
+
+    @Override
+    public void saveAll(List<NoiseEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<NoiseEvent> copy = List.copyOf(events);
+        if (!deferUntilCommit(() -> appendEvents(copy))) {
+            appendEvents(copy);
+        }
+    }
+
+    private void appendEvents(List<NoiseEvent> events) {
+        appendLock.lock();
+        try {
+            refreshWritableDays();
+            for (NoiseEvent event : events) {
+                append(event);
+            }
+            logSkipped();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(String[] userIds, int[] seatIds, double[] decibels, long[] measuredAtMillis, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 호출 측이 배열을 다시 쓰므로 복사해 둔다
+            String[] userIdCopy = Arrays.copyOf(userIds, count);
+            int[] seatIdCopy = Arrays.copyOf(seatIds, count);
+            double[] decibelCopy = Arrays.copyOf(decibels, count);
+            long[] measuredAtCopy = Arrays.copyOf(measuredAtMillis, count);
+            deferUntilCommit(() -> appendArrays(userIdCopy, seatIdCopy, decibelCopy, measuredAtCopy, count));
+            return;
+        }
+        appendArrays(userIds, seatIds, decibels, measuredAtMillis, count);
+    }
+
+    private void appendArrays(String[] userIds, int[] seatIds, double[] decibels, long[] measuredAtMillis, int count) {
+        appendLock.lock();
+        try {
+            refreshWritableDays();
+            for (int i = 0; i < count; i++) {
+                append(userIds[i], seatIds[i], decibels[i], measuredAtMillis[i]);
+            }
+            logSkipped();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행하도록 등록하고 true
+    private static boolean deferUntilCommit(Runnable write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    logger.error("커밋 후 소음 세그먼트 쓰기 실패", e);
+                }
+            }
+        });
+        return true;
+    }
+
+    private void append(NoiseEvent event) {
+        append(event.getUser().getFirebaseUid(),
+                event.getSeat() != null ? event.getSeat().getSeatId() : -1,
+                event.getDecibel(),
+                toMillis(event.getMeasuredAt()));
+    }
+
+    private void append(String userId, int seatId, double decibel, long measuredAtMillis) {
+        long epochDay = epochDayOf(measuredAtMillis);
+        if (epochDay < firstWritableDay || epochDay > lastWritableDay) {
+            skipped++;
+            return;
+        }
+        int userNo = dictionary.numberOf(userId);
+        activeSegment(epochDay).append(measuredAtMillis, decibel, userNo, Math.max(seatId, -1));
+    }
+
+    // 내일까지는 시계 오차로 자정을 넘긴 측정값 몫
+    private void refreshWritableDays() {
+        long today = LocalDate.now(zone).toEpochDay();
+        firstWritableDay = retentionDays > 0 ? today - retentionDays : Long.MIN_VALUE;
+        lastWritableDay = today + 1;
+    }
+
+    private void logSkipped() {
+        if (skipped > 0) {
+            logger.warn("보존 기간 밖 측정값 저장 안 함: {}건", skipped);
+            skipped = 0;
+        }
+    }
+
+    private long epochDayOf(long millis) {
+        if (millis < cachedDayStart || millis >= cachedDayEnd || cachedDay == Long.MIN_VALUE) {
+            LocalDate day = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+            cachedDay = day.toEpochDay();
+            cachedDayStart = day.atStartOfDay(zone).toInstant().toEpochMilli();
+            cachedDayEnd = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        return cachedDay;
+    }
+
+    // 날짜의 쓰는 중인 세그먼트 (없거나 가득 차면 새로 만든다)
+    private NoiseSegment activeSegment(long epochDay) {
+        List<NoiseSegment> segments = days.get(epochDay);
+        if (segments != null && !segments.isEmpty() && !segments.get(segments.size() - 1).isFull()) {
+            return segments.get(segments.size() - 1);
+        }
+        try {
+            Path dayDir = directory.resolve(LocalDate.ofEpochDay(epochDay).format(DAY_FORMAT));
+            Files.createDirectories(dayDir);
+            if (segments == null) {
+                segments = new CopyOnWriteArrayList<>();
+                days.put(epochDay, segments);
+            }
+            int sequence = segments.size();
+            if (sequence > NoiseSegment.MAX_SEQUENCE) {
+                throw new IllegalStateException("too many noise segments for day " + LocalDate.ofEpochDay(epochDay));
+            }
+            NoiseSegment segment = NoiseSegment.create(dayDir.resolve(String.format("%04d%s", sequence, SEGMENT_SUFFIX)),
+                    epochDay, sequence, segmentRecords);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void streamSamples(String userId, LocalDateTime from, LocalDateTime to, NoiseSampleCodec.SampleSink sink) {
+        Integer userNo = dictionary.find(userId);
+        if (userNo == null) {
+            return;
+        }
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        for (List<NoiseSegment> segments : daysBetween(fromMillis, toMillis).values()) {
+            DayRecords records = collect(segments, userNo, fromMillis, toMillis);
+            for (int k = 0; k < records.size; k++) {
+                int i = records.order(k);
+                sink.accept(records.measuredAt[i], records.decibel[i]);
+            }
+        }
+    }
+
+    @Override
+    public Integer findLatestSeatId(String userId, LocalDateTime from, LocalDateTime to) {
+        Integer userNo = dictionary.find(userId);
+        if (userNo == null) {
+            return null;
+        }
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        for (List<NoiseSegment> segments : daysBetween(fromMillis, toMillis).descendingMap().values()) {
+            DayRecords records = collect(segments, userNo, fromMillis, toMillis);
+            for (int k = records.size - 1; k >= 0; k--) {
+                int i = records.order(k);
+                if (records.seatId[i] >= 0) {
+                    return records.seatId[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<NoiseEventRecord> findLatest(User user, LocalDateTime from, LocalDateTime to, int limit) {
+        Integer userNo = dictionary.find(user.getFirebaseUid());
+        List<NoiseEventRecord> result = new ArrayList<>();
+        if (userNo == null) {
+            return result;
+        }
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to) - 1; // [from, to)
+        for (List<NoiseSegment> segments : daysBetween(fromMillis, toMillis).descendingMap().values()) {
+            DayRecords records = collect(segments, userNo, fromMillis, toMillis);
+            for (int k = records.size - 1; k >= 0 && result.size() < limit; k--) {
+                result.add(records.toRecord(records.order(k), zone));
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 측정 시각 내림차순 고정 (정렬 조건은 무시), 앞 페이지를 건너뛰며 읽는다
+     */
+    @Override
+    public Page<NoiseEventRecord> findPage(User user, Pageable pageable) {
+        long offset = pageable.getOffset();
+        List<NoiseEventRecord> rows = findPageBefore(user, null, null, (int) offset + pageable.getPageSize());
+        List<NoiseEventRecord> content = offset >= rows.size() ? List.of() : rows.subList((int) offset, rows.size());
+        return new PageImpl<>(content, pageable, countByUser(user));
+    }
+
+    @Override
+    public List<NoiseEventRecord> findPageBefore(User user, LocalDateTime measuredAt, Long id, int limit) {
+        Integer userNo = dictionary.find(user.getFirebaseUid());
+        List<NoiseEventRecord> result = new ArrayList<>();
+        if (userNo == null) {
+            return result;
+        }
+        long cursorMillis = measuredAt != null ? toMillis(measuredAt) : Long.MAX_VALUE;
+        long cursorId = id != null ? id : Long.MAX_VALUE;
+
+        NavigableMap<Long, List<NoiseSegment>> candidates = measuredAt != null
+                ? days.headMap(epochDayOfReading(cursorMillis), true)
+                : days;
+        for (List<NoiseSegment> segments : candidates.descendingMap().values()) {
+            DayRecords records = collect(segments, userNo, Long.MIN_VALUE, cursorMillis);
+            for (int k = records.size - 1; k >= 0 && result.size() < limit; k--) {
+                int i = records.order(k);
+                long t = records.measuredAt[i];
+                if (t < cursorMillis || (t == cursorMillis && records.id[i] < cursorId)) {
+                    result.add(records.toRecord(i, zone));
+                }
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long countByUser(User user) {
+        Integer userNo = dictionary.find(user.getFirebaseUid());
+        if (userNo == null) {
+            return 0;
+        }
+        long count = 0;
+        for (List<NoiseSegment> segments : days.values()) {
+            for (NoiseSegment segment : segments) {
+                count += segment.countOf(userNo);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean supportsRangeDelete() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsRollup() {
+        return false;
+    }
+
+    // 쓰기 전용 캐시를 건드리지 않는 날짜 계산 (읽기 스레드용)
+    private long epochDayOfReading(long millis) {
+        return Instant.ofEpochMilli(millis).atZone(zone).toLocalDate().toEpochDay();
+    }
+
+    private NavigableMap<Long, List<NoiseSegment>> daysBetween(long fromMillis, long toMillis) {
+        if (fromMillis > toMillis) {
+            return new ConcurrentSkipListMap<>();
+        }
+        return days.subMap(epochDayOfReading(fromMillis), true, epochDayOfReading(toMillis), true);
+    }
+
+    /**
+     * 하루치 세그먼트에서 사용자 레코드 중 [fromMillis, toMillis] 만 모은다
+     * 인덱스에 있는 블록만 순차로 읽고, 늦게 들어온 측정값이 있으면 (측정 시각, id) 순서로 정렬한다.
+     */
+    private static DayRecords collect(List<NoiseSegment> segments, int userNo, long fromMillis, long toMillis) {
+        DayRecords records = new DayRecords();
+        for (NoiseSegment segment : segments) {
+            int count = segment.getCount(); // 스냅샷 이후 추가분은 보지 않음
+            NoiseSegment.UserBlocks blocks = segment.snapshot(userNo);
+            if (blocks == null || !blocks.overlaps(fromMillis, toMillis)) {
+                continue;
+            }
+            for (int b = 0; b < blocks.getBlockCount(); b++) {
+                int start = blocks.block(b) << NoiseSegment.BLOCK_SHIFT;
+                int end = Math.min(start + (1 << NoiseSegment.BLOCK_SHIFT), count);
+                for (int i = start; i < end; i++) {
+                    if (segment.userNo(i) != userNo) {
+                        continue;
+                    }
+                    long measuredAt = segment.measuredAtMillis(i);
+                    if (measuredAt >= fromMillis && measuredAt <= toMillis) {
+                        records.add(measuredAt, segment.idOf(i), segment.decibel(i), segment.seatId(i));
+                    }
+                }
+            }
+        }
+        records.sortIfNeeded();
+        return records;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    // 쓰는 중인 세그먼트를 디스크에 반영
+    @Scheduled(fixedDelayString = "${app.noise.store.segment.force-interval-ms:1000}")
+    public void force() {
+        for (List<NoiseSegment> segments : days.values()) {
+            if (!segments.isEmpty()) {
+                segments.get(segments.size() - 1).force();
+            }
+        }
+    }
+
+    // 보존 기간이 지난 날짜 삭제
+    @Scheduled(cron = "${app.noise.store.segment.retention-cron:0 40 0 * * *}")
+    public void deleteExpiredDays() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        long cutoff = LocalDate.now().minusDays(retentionDays).toEpochDay();
+        for (Long epochDay : new ArrayList<>(days.headMap(cutoff, false).keySet())) {
+            List<NoiseSegment> segments;
+            appendLock.lock();
+            try {
+                segments = days.remove(epochDay);
+            } finally {
+                appendLock.unlock();
+            }
+            if (segments == null) {
+                continue;
+            }
+            for (NoiseSegment segment : segments) {
+                segment.delete();
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(LocalDate.ofEpochDay(epochDay).format(DAY_FORMAT)));
+            } catch (IOException e) {
+                logger.warn("소음 세그먼트 디렉터리 삭제 실패: {}", epochDay, e);
+            }
+            logger.info("보존 기간 지난 소음 세그먼트 삭제: {} ({}개)", LocalDate.ofEpochDay(epochDay), segments.size());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        appendLock.lock();
+        try {
+            for (Map.Entry<Long, List<NoiseSegment>> entry : days.entrySet()) {
+                for (NoiseSegment segment : entry.getValue()) {
+                    segment.close();
+                }
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 한 날짜에서 모은 사용자 레코드 (열 단위 배열)
+     */
+    private static final class DayRecords {
+
+        private long[] measuredAt = new long[256];
+        private long[] id = new long[256];
+        private double[] decibel = new double[256];
+        private int[] seatId = new int[256];
+        private int size;
+        private boolean sorted = true;
+        private int[] order; // 정렬이 필요할 때만 만든다
+
+        void add(long measuredAtMillis, long recordId, double value, int seat) {
+            if (size == measuredAt.length) {
+                int capacity = size * 2;
+                measuredAt = Arrays.copyOf(measuredAt, capacity);
+                id = Arrays.copyOf(id, capacity);
+                decibel = Arrays.copyOf(decibel, capacity);
+                seatId = Arrays.copyOf(seatId, capacity);
+            }
+            // 세그먼트/레코드 번호 순서로 모으므로 id 는 항상 오름차순
+            if (size > 0 && measuredAtMillis < measuredAt[size - 1]) {
+                sorted = false;
+            }
+            measuredAt[size] = measuredAtMillis;
+            id[size] = recordId;
+            decibel[size] = value;
+            seatId[size] = seat;
+            size++;
+        }
+
+        void sortIfNeeded() {
+            if (sorted) {
+                return;
+            }
+            // id 가 이미 오름차순이라 측정 시각으로 안정 정렬하면 (측정 시각, id) 순서가 된다
+            Integer[] boxed = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, Comparator.comparingLong(i -> measuredAt[i]));
+            order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = boxed[i];
+            }
+        }
+
+        int order(int k) {
+            return order != null ? order[k] : k;
+        }
+
+        NoiseEventRecord toRecord(int i, ZoneId zone) {
+            return new NoiseEventRecord(id[i], seatId[i] >= 0 ? seatId[i] : null, decibel[i],
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAt[i]), zone));
+        }
+    }
+}
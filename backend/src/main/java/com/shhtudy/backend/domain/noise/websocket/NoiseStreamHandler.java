@@ -0,0 +1,164 @@
+package com.shhtudy.backend.domain.noise.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shhtudy.backend.domain.noise.dto.NoiseSamplingAdviceDto;
+import com.shhtudy.backend.domain.noise.service.NoiseSamplingAdvisor;
+import com.shhtudy.backend.domain.noise.service.NoiseService;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.user.entity.User;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import com.shhtudy.backend.global.ratelimit.RateLimiter;
+import com.shhtudy.backend.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 체크인한 사용자가 연결 하나로 소음 측정값을 계속 보내는 WebSocket 핸들러
+ * - 텍스트 프레임: 데시벨 값 하나 (예: "55.3"), 측정 시각은 서버 수신 시각
+ * - 바이너리 프레임: NoiseSampleCodec 포맷의 측정값 묶음
+ * - 서버 → 클라이언트: 전송 간격이 바뀔 때마다 {"success":true,"message":"sampling","data":{...}} 제어 프레임
+ * 인증/이용 기록 검증은 NoiseStreamHandshakeInterceptor 에서 연결 시 한 번만 한다.
+ * 좌석은 seat-check-interval-ms 마다 다시 확인해서, 연결 후 좌석을 옮기거나 퇴실하면 연결을 닫는다. (클라이언트는 다시 연결)
+ * 토큰을 서브프로토콜로 보낸 클라이언트에는 SUBPROTOCOL 을 선택해 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoiseStreamHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoiseStreamHandler.class);
+
+    public static final String SUBPROTOCOL = "shhtudy.noise.v1";
+
+    private static final CloseStatus SEAT_CHANGED = CloseStatus.POLICY_VIOLATION.withReason("좌석이 바뀌었습니다. 다시 연결해 주세요.");
+
+    private static final String SAMPLING_ATTRIBUTE = "noiseSamplingAdvice";
+    private static final String SAMPLING_MESSAGE = "sampling";
+    private static final String SEAT_CHECKED_AT_ATTRIBUTE = "noiseSeatCheckedAt";
+
+    private final NoiseService noiseService;
+    private final NoiseSamplingAdvisor noiseSamplingAdvisor;
+    private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+
+    @Value("${app.noise.stream.seat-check-interval-ms:10000}")
+    private long seatCheckIntervalMs;
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(SUBPROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        // 핸드셰이크에서 조회한 좌석이므로 다음 확인은 한 주기 뒤
+        session.getAttributes().put(SEAT_CHECKED_AT_ATTRIBUTE, System.currentTimeMillis());
+        sendSamplingAdvice(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        double decibel;
+        try {
+            decibel = Double.parseDouble(message.getPayload().trim());
+        } catch (NumberFormatException e) {
+            session.close(CloseStatus.BAD_DATA.withReason("데시벨 값이 아닙니다."));
+            return;
+        }
+        // NaN/Infinity 도 여기서 걸린다
+        if (!(decibel >= 0.0 && decibel <= NoiseSessionAccumulator.MAX_DECIBEL)) {
+            session.close(CloseStatus.BAD_DATA.withReason("데시벨 값은 0 이상 200 이하여야 합니다."));
+            return;
+        }
+
+        try {
+            User user = acquire(session);
+            if (user == null) {
+                return;
+            }
+            noiseService.saveStreamedEvent(user, decibel, LocalDateTime.now());
+            sendSamplingAdvice(session);
+        } catch (CustomException e) {
+            sendError(session, e);
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        try {
+            User user = acquire(session);
+            if (user == null) {
+                return;
+            }
+            noiseService.saveStreamedSamples(user, message.getPayload());
+            sendSamplingAdvice(session);
+        } catch (CustomException e) {
+            sendError(session, e);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        logger.warn("소음 스트림 전송 오류 - session: {}, {}", session.getId(), exception.getMessage());
+    }
+
+    private User getUser(WebSocketSession session) {
+        return (User) session.getAttributes().get(NoiseStreamHandshakeInterceptor.USER_ATTRIBUTE);
+    }
+
+    // HTTP 와 같은 요청 수 제한을 프레임 단위로 적용 (초과 프레임은 버리고 오류 응답)
+    // 주기마다 연결 시 캐시한 User 의 좌석을 지금 좌석과 비교해서, 다르면 연결을 닫고 null 반환
+    private User acquire(WebSocketSession session) throws IOException {
+        User user = getUser(session);
+        if (rateLimiter.tryAcquire(user.getFirebaseUid().hashCode()) != RateLimiter.ALLOWED) {
+            throw new CustomException(ErrorCode.RATE_LIMITED);
+        }
+        long now = System.currentTimeMillis();
+        Object checkedAt = session.getAttributes().get(SEAT_CHECKED_AT_ATTRIBUTE);
+        if (checkedAt instanceof Long last && now - last < seatCheckIntervalMs) {
+            return user;
+        }
+        Integer connectedSeatId = user.getCurrentSeat() != null ? user.getCurrentSeat().getSeatId() : null;
+        if (!Objects.equals(connectedSeatId, noiseService.findCurrentSeatId(user.getFirebaseUid()))) {
+            session.close(SEAT_CHANGED);
+            return null;
+        }
+        session.getAttributes().put(SEAT_CHECKED_AT_ATTRIBUTE, now);
+        return user;
+    }
+
+    // 전송 간격/모드가 직전에 보낸 값과 다를 때만 제어 프레임 전송
+    private void sendSamplingAdvice(WebSocketSession session) throws IOException {
+        NoiseSamplingAdviceDto advice = noiseSamplingAdvisor.advise(getUser(session).getCurrentSeat());
+        Object previous = session.getAttributes().get(SAMPLING_ATTRIBUTE);
+        if (previous instanceof NoiseSamplingAdviceDto sent
+                && sent.getUploadIntervalMs() == advice.getUploadIntervalMs()
+                && sent.getSampleIntervalMs() == advice.getSampleIntervalMs()
+                && sent.getMode() == advice.getMode()) {
+            return;
+        }
+        session.getAttributes().put(SAMPLING_ATTRIBUTE, advice);
+        String payload = objectMapper.writeValueAsString(ApiResponse.success(advice, SAMPLING_MESSAGE));
+        session.sendMessage(new TextMessage(payload));
+    }
+
+    // 일시적인 오류(버퍼 포화 등)는 연결을 끊지 않고 HTTP 와 같은 형식의 오류 응답만 보낸다
+    private void sendError(WebSocketSession session, CustomException e) throws IOException {
+        String payload = objectMapper.writeValueAsString(ApiResponse.fail(e.getErrorCode().getMessage()));
+        session.sendMessage(new TextMessage(payload));
+    }
+}
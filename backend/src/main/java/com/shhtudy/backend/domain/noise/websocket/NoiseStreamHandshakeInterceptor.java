@@ -0,0 +1,76 @@
+package com.shhtudy.backend.domain.noise.websocket;
+
+import com.shhtudy.backend.domain.noise.service.NoiseService;
+import com.shhtudy.backend.domain.user.entity.User;
+import com.shhtudy.backend.global.auth.FirebaseAuthService;
+import com.shhtudy.backend.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * 소음 스트리밍 WebSocket 연결 시 한 번만 인증 + 이용 기록 검증을 하는 인터셉터
+ * 토큰은 Authorization 헤더 또는 Sec-WebSocket-Protocol 의 "bearer.{토큰}" 항목으로 받는다.
+ * (브라우저처럼 헤더를 못 붙이는 클라이언트용, URL 쿼리는 접근 로그에 남으므로 받지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class NoiseStreamHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ATTRIBUTE = "noiseStreamUser";
+    public static final String TOKEN_SUBPROTOCOL_PREFIX = "bearer.";
+
+    private static final Logger logger = LoggerFactory.getLogger(NoiseStreamHandshakeInterceptor.class);
+
+    private final FirebaseAuthService firebaseAuthService;
+    private final NoiseService noiseService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String idToken = extractToken(request);
+        if (idToken == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        try {
+            String userId = firebaseAuthService.verifyIdToken(idToken);
+            User user = noiseService.openNoiseStream(userId);
+            attributes.put(USER_ATTRIBUTE, user);
+            return true;
+        } catch (CustomException e) {
+            logger.warn("소음 스트림 연결 거부: {}", e.getMessage());
+            response.setStatusCode(e.getErrorCode().getHttpStatus());
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring(7);
+        }
+        for (String protocol : new WebSocketHttpHeaders(request.getHeaders()).getSecWebSocketProtocol()) {
+            if (protocol.startsWith(TOKEN_SUBPROTOCOL_PREFIX)) {
+                return protocol.substring(TOKEN_SUBPROTOCOL_PREFIX.length());
+            }
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package com.shhtudy.backend.domain.usage.scheduler;
 import com.shhtudy.backend.domain.usage.entity.Usage;
 import com.shhtudy.backend.domain.usage.enums.UsageStatus;
 import com.shhtudy.backend.domain.usage.repository.UsageRepository;
+import com.shhtudy.backend.domain.usage.service.UsageSessionRegistry;
 import com.shhtudy.backend.domain.user.repository.UserRepository;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -17,10 +18,13 @@ public class UsageSessionSplitScheduler {
 
     private final UsageRepository usageRepository;
     private final UserRepository userRepository;
+    private final UsageSessionRegistry usageSessionRegistry;
 
-    public UsageSessionSplitScheduler(UsageRepository usageRepository, UserRepository userRepository) {
+    public UsageSessionSplitScheduler(UsageRepository usageRepository, UserRepository userRepository,
+                                      UsageSessionRegistry usageSessionRegistry) {
         this.usageRepository = usageRepository;
         this.userRepository = userRepository;
+        this.usageSessionRegistry = usageSessionRegistry;
     }
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 00:00:00 실행
@@ -45,6 +49,14 @@ public class UsageSessionSplitScheduler {
             newUsage.setUsageStatus(UsageStatus.IN_PROGRESS);
 
             usageRepository.save(newUsage);
+
+            // 3) 새 날짜 기준으로 자정 체크아웃 + 자정 체크인이 모두 생김
+            String userId = usage.getUser().getFirebaseUid();
+            usageSessionRegistry.recordCheckOut(userId, midnight.toLocalDate());
+            usageSessionRegistry.recordCheckIn(userId, midnight.toLocalDate());
         }
+
+        // 지난 날짜 상태 정리
+        usageSessionRegistry.evictBefore(midnight.toLocalDate());
     }
 }
@@ -1,5 +1,6 @@
 package com.shhtudy.backend.domain.usage.service;
 
+import com.shhtudy.backend.domain.noise.service.NoiseService;
 import com.shhtudy.backend.domain.usage.entity.Usage;
 import com.shhtudy.backend.domain.usage.enums.UsageStatus;
 import com.shhtudy.backend.domain.usage.repository.UsageRepository;
@@ -17,6 +18,8 @@ public class UsageService {
 
     private final UsageRepository usageRepository;
     private final UserRepository userRepository;
+    private final NoiseService noiseService;
+    private final UsageSessionRegistry usageSessionRegistry;
 
     @Transactional
     public void checkIn(String userId) {
@@ -25,6 +28,8 @@ public class UsageService {
 
         Usage usage = Usage.checkIn(user);
         usageRepository.save(usage);
+        noiseService.openSession(user, usage.getCheckInTime());
+        usageSessionRegistry.recordCheckIn(userId, usage.getCheckInTime().toLocalDate());
         //TODO: 남은 시간 반환 고민중
     }
 
@@ -38,6 +43,7 @@ public class UsageService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USAGE_NOT_FOUND));
 
         usage.checkOut();
+        usageSessionRegistry.recordCheckOut(userId, usage.getCheckOutTime().toLocalDate());
     }
 
     @Transactional
@@ -50,5 +56,6 @@ public class UsageService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USAGE_NOT_FOUND));
 
         usage.expire();
+        // 만료는 오늘 체크인/체크아웃 완료 여부를 바꾸지 않으므로 UsageSessionRegistry 갱신 없음
     }
 }
@@ -0,0 +1,78 @@
+package com.shhtudy.backend.domain.usage.service;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 "오늘" 이용 상태 캐시 (체크인 여부, 체크아웃 완료 여부)
+ * 하루 안에서는 두 값 모두 false → true 로만 바뀌므로 true 인 값만 믿고, 모르는 값은 DB 로 확인한다.
+ * 그래서 다른 인스턴스에서 체크인/체크아웃이 일어나도 잘못된 결과를 돌려주지 않는다.
+ */
+@Component
+public class UsageSessionRegistry {
+
+    private final ConcurrentHashMap<String, TodayState> states = new ConcurrentHashMap<>();
+
+    public TodayState get(String userId, LocalDate today) {
+        TodayState state = states.get(userId);
+        return state != null && state.getDay().equals(today) ? state : null;
+    }
+
+    public void record(String userId, LocalDate day, boolean checkedIn, boolean checkedOut) {
+        states.merge(userId, new TodayState(day, checkedIn, checkedOut), TodayState::merge);
+    }
+
+    // 트랜잭션 커밋 이후에 반영 (롤백된 체크인이 캐시에 남지 않도록)
+    public void recordCheckIn(String userId, LocalDate day) {
+        afterCommit(() -> record(userId, day, true, false));
+    }
+
+    public void recordCheckOut(String userId, LocalDate day) {
+        afterCommit(() -> record(userId, day, false, true));
+    }
+
+    public void evictBefore(LocalDate day) {
+        states.values().removeIf(state -> state.getDay().isBefore(day));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Getter
+    public static final class TodayState {
+
+        private final LocalDate day;
+        private final boolean checkedIn;
+        private final boolean checkedOut;
+
+        private TodayState(LocalDate day, boolean checkedIn, boolean checkedOut) {
+            this.day = day;
+            this.checkedIn = checkedIn;
+            this.checkedOut = checkedOut;
+        }
+
+        private static TodayState merge(TodayState current, TodayState update) {
+            if (!current.day.equals(update.day)) {
+                return current.day.isAfter(update.day) ? current : update;
+            }
+            return new TodayState(current.day,
+                    current.checkedIn || update.checkedIn,
+                    current.checkedOut || update.checkedOut);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.shhtudy.backend.domain.user.repository;
 
 import com.shhtudy.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,12 @@ public interface UserRepository extends JpaRepository<User, String> {
     
     // 좌석을 사용 중인 사용자들 조회 (시간 감소 스케줄러용)
     List<User> findAllByCurrentSeatIsNotNull();
+
+    // 전체 사용자 UID (백필 시 존재하는 사용자 확인용)
+    @Query("SELECT u.firebaseUid FROM User u")
+    List<String> findAllFirebaseUids();
+
+    // 현재 좌석 번호만 조회 (좌석이 없으면 empty, 소음 스트림 좌석 변경 감지용)
+    @Query("SELECT u.currentSeat.seatId FROM User u WHERE u.firebaseUid = :firebaseUid")
+    Optional<Integer> findCurrentSeatIdByFirebaseUid(@Param("firebaseUid") String firebaseUid);
 }
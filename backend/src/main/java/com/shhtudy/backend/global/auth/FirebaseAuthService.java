@@ -5,16 +5,35 @@ import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
 import com.shhtudy.backend.global.exception.CustomException;
 import com.shhtudy.backend.global.exception.code.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 public class FirebaseAuthService {
 
+    // 같은 요청 안에서 이미 검증한 토큰 (RateLimitFilter 가 기록 → 컨트롤러에서 다시 검증하지 않음)
+    private static final String VERIFIED_TOKEN_ATTRIBUTE = FirebaseAuthService.class.getName() + ".verifiedToken";
+    private static final String VERIFIED_UID_ATTRIBUTE = FirebaseAuthService.class.getName() + ".verifiedUid";
+
     @Value("${app.firebase.enabled:false}")
     private boolean firebaseEnabled;
 
+    // 필터에서 토큰을 검증하고 결과를 요청에 기록
+    public String verifyIdToken(HttpServletRequest request, String idToken) {
+        String uid = verifyIdToken(idToken);
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, idToken);
+        request.setAttribute(VERIFIED_UID_ATTRIBUTE, uid);
+        return uid;
+    }
+
     public String verifyIdToken(String idToken) {
+        String verifiedUid = verifiedInCurrentRequest(idToken);
+        if (verifiedUid != null) {
+            return verifiedUid;
+        }
         try {
             // 개발 모드에서는 Firebase 검증을 우회
             if (!firebaseEnabled) {
@@ -64,4 +83,15 @@ public class FirebaseAuthService {
             throw new CustomException(ErrorCode.INVALID_FIREBASE_TOKEN);
         }
     }
+
+    private String verifiedInCurrentRequest(String idToken) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || idToken == null) {
+            return null;
+        }
+        Object token = attributes.getAttribute(VERIFIED_TOKEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return idToken.equals(token)
+                ? (String) attributes.getAttribute(VERIFIED_UID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
 }
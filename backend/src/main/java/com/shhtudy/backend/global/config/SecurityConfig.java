@@ -35,7 +35,8 @@ public class SecurityConfig {
                     "/swagger-ui.html",
                     "/api-docs/**",
                     "/v3/api-docs/**",
-                    "/actuator/**"
+                    "/actuator/**", // management 포트(루프백)에서만 열림
+                    "/ws/**" // WebSocket 은 핸드셰이크 인터셉터에서 Firebase 토큰을 검증
                 ).permitAll()
                 .anyRequest().authenticated()
             );
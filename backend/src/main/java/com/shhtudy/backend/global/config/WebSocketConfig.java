@@ -0,0 +1,36 @@
+package com.shhtudy.backend.global.config;
+
+import com.shhtudy.backend.domain.noise.websocket.NoiseStreamHandler;
+import com.shhtudy.backend.domain.noise.websocket.NoiseStreamHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final NoiseStreamHandler noiseStreamHandler;
+    private final NoiseStreamHandshakeInterceptor noiseStreamHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(noiseStreamHandler, "/ws/noise")
+                .addInterceptors(noiseStreamHandshakeInterceptor);
+    }
+
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        // 바이너리 프레임 최대 크기: 측정값 1000개 묶음 기준 여유 있게 64KB
+        container.setMaxBinaryMessageBufferSize(64 * 1024);
+        container.setMaxTextMessageBufferSize(1024);
+        container.setMaxSessionIdleTimeout(10 * 60 * 1000L);
+        return container;
+    }
+}
@@ -8,6 +8,12 @@ public enum ErrorCode {
 
     // 공통 오류 (-1 ~ -999)
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "-100", "잘못된 요청입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "-101", "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "-102", "같은 요청을 처리하는 중입니다. 잠시 후 다시 시도해 주세요."),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "-103", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "-104", "요청 본문이 너무 큽니다."),
+    INVALID_CONTENT_ENCODING(HttpStatus.BAD_REQUEST, "-105", "압축된 요청 본문을 풀 수 없습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "-106", "같은 Idempotency-Key 로 다른 요청 본문을 보냈습니다."),
 
     // 사용자/계정 관련 오류 (-1000 ~ -1999)
     DUPLICATE_USER(HttpStatus.CONFLICT, "-1001", "이미 가입된 사용자입니다."),
@@ -40,6 +46,12 @@ public enum ErrorCode {
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "-5004", "Seat not found"),
     NO_SESSION_TODAY(HttpStatus.BAD_REQUEST, "-5005", "오늘 이용 기록이 없습니다."),
     SESSION_NOT_CHECKED_OUT(HttpStatus.BAD_REQUEST, "-5006", "체크아웃 후 확인할 수 있습니다."),
+    NOISE_BUFFER_FULL(HttpStatus.SERVICE_UNAVAILABLE, "-5007", "소음 데이터 처리량이 많습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_NOISE_PAYLOAD(HttpStatus.BAD_REQUEST, "-5008", "소음 측정값 형식이 올바르지 않습니다."),
+    INVALID_NOISE_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "-5009", "조회 기간이 올바르지 않습니다."),
+    INVALID_NOISE_CURSOR(HttpStatus.BAD_REQUEST, "-5010", "잘못된 페이지 커서입니다."),
+    NOISE_WINDOW_NOT_QUIET(HttpStatus.BAD_REQUEST, "-5011", "기준 초과 측정값이 있는 구간은 원본 측정값으로 보내야 합니다."),
+    INVALID_NOISE_TIMESTAMP(HttpStatus.BAD_REQUEST, "-5012", "측정 시각이 허용 범위(오늘 0시 ~ 현재)를 벗어났습니다."),
 
     // 시스템 오류 (-9000 이상)
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "-9001", "서버 내부 오류입니다."),
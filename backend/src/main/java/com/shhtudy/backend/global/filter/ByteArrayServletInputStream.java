@@ -0,0 +1,52 @@
+package com.shhtudy.backend.global.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 메모리에 올려 둔 요청 본문용 ServletInputStream (GzipRequestFilter, IdempotencyFilter 에서 사용)
+ * 항상 읽을 수 있으므로 비동기 읽기도 바로 끝까지 알린다.
+ */
+class ByteArrayServletInputStream extends ServletInputStream {
+
+    private final ByteArrayInputStream delegate;
+
+    ByteArrayServletInputStream(byte[] body) {
+        this.delegate = new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public int read() {
+        return delegate.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        return delegate.read(b, off, len);
+    }
+
+    @Override
+    public boolean isFinished() {
+        return delegate.available() == 0;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        try {
+            if (!isFinished()) {
+                readListener.onDataAvailable();
+            }
+            readListener.onAllDataRead();
+        } catch (IOException e) {
+            readListener.onError(e);
+        }
+    }
+}
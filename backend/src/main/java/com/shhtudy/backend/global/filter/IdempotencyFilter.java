@@ -0,0 +1,235 @@
+package com.shhtudy.backend.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import com.shhtudy.backend.global.idempotency.IdempotencyStore;
+import com.shhtudy.backend.global.response.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Idempotency-Key 헤더가 있는 변경 요청(POST/PUT/PATCH/DELETE)의 응답을 보관했다가,
+ * 같은 키로 재시도하면 서비스를 다시 호출하지 않고 보관한 응답을 돌려준다.
+ * 키는 (메서드, 경로, Authorization) 범위로 구분하고, 5xx 응답은 보관하지 않아 재시도할 수 있다.
+ * 요청 본문 지문(SHA-256)도 같이 보관해서, 같은 키로 다른 본문을 보내면 보관한 응답 대신 422 로 거절한다.
+ * (지문을 구하려고 본문을 max-request-bytes 까지 미리 읽어 두고, 폼/멀티파트 요청은 지문 없이 처리)
+ * 이 필터 안쪽에서 붙은 응답 헤더(전송 간격 안내 X-Noise-* 등)도 함께 보관해서 재응답에 그대로 붙인다.
+ * 바깥 필터가 먼저 붙인 헤더(레이트 리밋 등)와 전송 단위 헤더는 재응답 시점 값이 맞으므로 보관하지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION, HttpHeaders.DATE, HttpHeaders.SET_COOKIE, "Keep-Alive");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+    private final int maxRequestBytes;
+    private final Counter replayedCounter;
+    private final Counter conflictCounter;
+    private final Counter mismatchCounter;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.idempotency.max-body-bytes:16384}") int maxBodyBytes,
+                             @Value("${app.idempotency.max-request-bytes:8388608}") int maxRequestBytes) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxRequestBytes = maxRequestBytes;
+        this.replayedCounter = meterRegistry.counter("idempotency.replayed");
+        this.conflictCounter = meterRegistry.counter("idempotency.in_flight_conflict");
+        this.mismatchCounter = meterRegistry.counter("idempotency.body_mismatch");
+        meterRegistry.gauge("idempotency.keys", idempotencyStore, IdempotencyStore::size);
+        meterRegistry.gauge("idempotency.bytes", idempotencyStore, IdempotencyStore::totalBytes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        String storeKey = request.getMethod() + " " + request.getRequestURI() + "|" + idempotencyKey
+                + "|" + callerHash(request.getHeader(HttpHeaders.AUTHORIZATION));
+
+        String fingerprint = "-";
+        if (!isFormRequest(request)) {
+            byte[] requestBody = readBody(request);
+            if (requestBody == null) {
+                writeError(response, ErrorCode.PAYLOAD_TOO_LARGE);
+                return;
+            }
+            fingerprint = sha256Prefix(requestBody);
+            request = new BufferedBodyRequestWrapper(request, requestBody);
+        }
+
+        IdempotencyStore.Entry existing = idempotencyStore.begin(storeKey, fingerprint);
+        if (existing != null) {
+            if (!existing.getFingerprint().equals(fingerprint)) {
+                mismatchCounter.increment();
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            } else if (existing.isCompleted()) {
+                replayedCounter.increment();
+                replay(response, existing);
+            } else {
+                conflictCounter.increment();
+                writeError(response, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            return;
+        }
+
+        Set<String> outerHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        outerHeaders.addAll(response.getHeaderNames());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            int status = wrapper.getStatus();
+            byte[] body = wrapper.getContentAsByteArray();
+            if (status < 500 && body.length <= maxBodyBytes) {
+                idempotencyStore.complete(storeKey, status, wrapper.getContentType(),
+                        responseHeaders(wrapper, outerHeaders), body);
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(storeKey);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.Entry entry) throws IOException {
+        response.setStatus(entry.getStatus());
+        if (entry.getContentType() != null) {
+            response.setContentType(entry.getContentType());
+        }
+        entry.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(entry.getBody().length);
+        response.getOutputStream().write(entry.getBody());
+    }
+
+    // 이 필터 안쪽에서 붙은 헤더만 (이름 → 값 목록)
+    private static Map<String, List<String>> responseHeaders(HttpServletResponse response, Set<String> outerHeaders) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : new LinkedHashSet<>(response.getHeaderNames())) {
+            if (outerHeaders.contains(name) || UNSTORED_HEADERS.stream().anyMatch(name::equalsIgnoreCase)) {
+                continue;
+            }
+            headers.put(name, List.copyOf(response.getHeaders(name)));
+        }
+        return headers;
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode code) throws IOException {
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(code.getMessage()));
+    }
+
+    private static boolean isFormRequest(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && (contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                || contentType.startsWith("multipart/"));
+    }
+
+    // 한도를 넘으면 null
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        return body.length > maxRequestBytes ? null : body;
+    }
+
+    // 토큰 원문 대신 해시만 키에 보관
+    private static String callerHash(String authorization) {
+        if (authorization == null) {
+            return "-";
+        }
+        return sha256Prefix(authorization.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256Prefix(byte[] value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 지문을 구하려고 미리 읽은 본문을 컨트롤러가 다시 읽을 수 있게 돌려준다
+    private static class BufferedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequestWrapper(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ByteArrayServletInputStream(body);
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+    }
+}
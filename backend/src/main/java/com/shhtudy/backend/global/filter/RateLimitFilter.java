@@ -0,0 +1,91 @@
+package com.shhtudy.backend.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shhtudy.backend.global.auth.FirebaseAuthService;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import com.shhtudy.backend.global.ratelimit.RateLimiter;
+import com.shhtudy.backend.global.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소음/쪽지 API 요청 수 제한 (사용자별 + 전체), 초과 시 429 + Retry-After
+ * 사용자는 검증한 Firebase UID 로 구분한다. (헤더 원문으로 구분하면 토큰을 바꿔 가며 새 버킷을 받을 수 있음)
+ * 토큰이 없거나 검증에 실패한 요청은 클라이언트 IP 버킷만 쓰고 전체 한도는 차감하지 않으며, 검증 실패는 401 로 끝낸다.
+ * 검증 결과는 요청에 기록해서 컨트롤러에서 다시 검증하지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimiter rateLimiter;
+    private final FirebaseAuthService firebaseAuthService;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, FirebaseAuthService firebaseAuthService, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.firebaseAuthService = firebaseAuthService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !(uri.startsWith("/api/noise") || uri.startsWith("/api/messages")
+                || (uri.startsWith("/api/seats/") && uri.endsWith("/message")));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String uid = null;
+        ErrorCode authError = null;
+        if (authorization != null) {
+            try {
+                String idToken = authorization.startsWith(BEARER_PREFIX)
+                        ? authorization.substring(BEARER_PREFIX.length()) : authorization;
+                uid = firebaseAuthService.verifyIdToken(request, idToken);
+            } catch (CustomException e) {
+                authError = e.getErrorCode();
+            }
+        }
+
+        long waitNanos = uid != null
+                ? rateLimiter.tryAcquire(uid.hashCode(), true)
+                : rateLimiter.tryAcquire(request.getRemoteAddr().hashCode(), false);
+        if (waitNanos != RateLimiter.ALLOWED) {
+            long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            writeError(response, ErrorCode.RATE_LIMITED);
+            return;
+        }
+        if (authError != null) {
+            writeError(response, authError);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode code) throws IOException {
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(code.getMessage()));
+    }
+}
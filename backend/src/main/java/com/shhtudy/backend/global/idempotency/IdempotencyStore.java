@@ -0,0 +1,166 @@
+package com.shhtudy.backend.global.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 Idempotency-Key 와 그 응답을 보관하는 저장소 (메모리, 삽입 순서 + TTL)
+ * 오래된 키는 앞에서부터 만료시키고, 최대 개수나 전체 바이트 예산(max-total-bytes)을 넘으면 가장 오래된 것부터 버린다.
+ * 키마다 요청 본문 지문을 같이 보관해서, 같은 키로 다른 본문을 보낸 요청을 구분할 수 있게 한다.
+ * 응답은 상태/Content-Type/본문과 함께 컨트롤러가 붙인 헤더(전송 간격 안내 등)도 보관한다.
+ */
+@Component
+public class IdempotencyStore {
+
+    // 응답 본문 외에 키 문자열/필드/맵 노드가 차지하는 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long maxTotalBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private long totalBytes;
+
+    public IdempotencyStore(@Value("${app.idempotency.ttl-ms:3600000}") long ttlMillis,
+                            @Value("${app.idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${app.idempotency.max-total-bytes:67108864}") long maxTotalBytes) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    /**
+     * 키 선점 시도. 처음 보는 키면 처리 중으로 등록하고 null 을 반환,
+     * 이미 있으면 기존 항목(처리 중 또는 완료된 응답)을 반환한다. (지문 비교는 호출하는 쪽에서)
+     */
+    public synchronized Entry begin(String key, String fingerprint) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Entry entry = new Entry(now, fingerprint, ENTRY_OVERHEAD_BYTES + key.length() * 2L);
+        entries.put(key, entry);
+        totalBytes += entry.bytes;
+        evictOverBudget();
+        return null;
+    }
+
+    public synchronized void complete(String key, int status, String contentType,
+                                      Map<String, List<String>> headers, byte[] body) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.complete(status, contentType, Map.copyOf(headers), body);
+            long added = body.length + headerBytes(headers);
+            entry.bytes += added;
+            totalBytes += added;
+            evictOverBudget();
+        }
+    }
+
+    private static long headerBytes(Map<String, List<String>> headers) {
+        long bytes = 0;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                bytes += (header.getKey().length() + value.length()) * 2L;
+            }
+        }
+        return bytes;
+    }
+
+    // 재시도할 수 있도록 키 해제 (서버 오류 등)
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isCompleted()) {
+            entries.remove(key);
+            totalBytes -= entry.bytes;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (now - entry.createdAt < ttlMillis) {
+                break; // 삽입 순서라 이후 항목은 모두 더 최근
+            }
+            iterator.remove();
+            totalBytes -= entry.bytes;
+        }
+    }
+
+    // 개수/바이트 한도를 넘으면 가장 오래된 항목부터 버린다 (마지막 하나는 남김)
+    private void evictOverBudget() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > 1 && (entries.size() > maxEntries || totalBytes > maxTotalBytes)) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.bytes;
+        }
+    }
+
+    public static final class Entry {
+
+        private final long createdAt;
+        private final String fingerprint;
+        private long bytes; // 예산 계산용 대략적인 크기 (저장소 락 안에서만 변경)
+        private volatile boolean completed; // 마지막에 기록 → true 를 보면 나머지 필드도 보인다
+        private int status;
+        private String contentType;
+        private Map<String, List<String>> headers;
+        private byte[] body;
+
+        private Entry(long createdAt, String fingerprint, long bytes) {
+            this.createdAt = createdAt;
+            this.fingerprint = fingerprint;
+            this.bytes = bytes;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        private void complete(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+            this.completed = true;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
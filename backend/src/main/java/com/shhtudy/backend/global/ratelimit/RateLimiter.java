@@ -0,0 +1,120 @@
+package com.shhtudy.backend.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 + 전체 토큰 버킷 (GCRA 방식: 버킷 하나를 "다음 허용 예정 시각" long 하나로 표현)
+ * - 사용자 버킷은 키 해시로 고른 AtomicLongArray 슬롯 (해시가 겹치는 사용자는 버킷을 공유)
+ * - 확인은 CAS 만 사용하며 객체를 만들거나 전역 락을 잡지 않는다.
+ */
+@Component
+public class RateLimiter {
+
+    public static final long ALLOWED = 0L;
+
+    private final boolean enabled;
+    private final AtomicLongArray userBuckets;
+    private final int slotMask;
+    private final long userIntervalNanos;
+    private final long userBurstNanos;
+    private final AtomicLong globalBucket = new AtomicLong();
+    private final long globalIntervalNanos;
+    private final long globalBurstNanos;
+    private final long origin = System.nanoTime();
+    private final Counter userRejected;
+    private final Counter globalRejected;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.slots:65536}") int slots,
+                       @Value("${app.rate-limit.user-rate-per-second:20}") double userRate,
+                       @Value("${app.rate-limit.user-burst:40}") int userBurst,
+                       @Value("${app.rate-limit.global-rate-per-second:2000}") double globalRate,
+                       @Value("${app.rate-limit.global-burst:4000}") int globalBurst) {
+        this.enabled = enabled;
+        int size = Integer.highestOneBit(Math.max(slots, 2) - 1) << 1; // 2의 거듭제곱으로 올림
+        this.userBuckets = new AtomicLongArray(size);
+        this.slotMask = size - 1;
+        this.userIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / userRate);
+        this.userBurstNanos = userIntervalNanos * userBurst;
+        this.globalIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / globalRate);
+        this.globalBurstNanos = globalIntervalNanos * globalBurst;
+        this.userRejected = Counter.builder("rate_limit.rejected").tag("scope", "user").register(meterRegistry);
+        this.globalRejected = Counter.builder("rate_limit.rejected").tag("scope", "global").register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나 허용 여부. 허용이면 ALLOWED(0), 아니면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(int keyHash) {
+        return tryAcquire(keyHash, true);
+    }
+
+    /**
+     * chargeGlobal=false 면 사용자 버킷만 확인한다. (인증되지 않은 요청이 전체 한도를 소진하지 못하도록)
+     */
+    public long tryAcquire(int keyHash, boolean chargeGlobal) {
+        if (!enabled) {
+            return ALLOWED;
+        }
+        long now = System.nanoTime() - origin;
+        int slot = spread(keyHash) & slotMask;
+
+        long wait = acquireSlot(slot, now);
+        if (wait != ALLOWED) {
+            userRejected.increment();
+            return wait;
+        }
+        if (!chargeGlobal) {
+            return ALLOWED;
+        }
+        wait = acquireGlobal(now);
+        if (wait != ALLOWED) {
+            // 전체 한도 초과로 거절된 요청은 사용자 몫을 돌려준다
+            userBuckets.addAndGet(slot, -userIntervalNanos);
+            globalRejected.increment();
+        }
+        return wait;
+    }
+
+    private long acquireSlot(int slot, long now) {
+        while (true) {
+            long tat = userBuckets.get(slot);
+            long next = Math.max(tat, now) + userIntervalNanos;
+            long excess = next - now - userBurstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (userBuckets.compareAndSet(slot, tat, next)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    private long acquireGlobal(long now) {
+        while (true) {
+            long tat = globalBucket.get();
+            long next = Math.max(tat, now) + globalIntervalNanos;
+            long excess = next - now - globalBurstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (globalBucket.compareAndSet(tat, next)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    // 해시 하위 비트 편중 완화
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,119 @@
+package com.shhtudy.backend.domain.noise.codec;
+
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NoiseSampleCodecTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void roundTripRestoresTimestampsAndDecibels() {
+        // 지터, 순서 뒤바뀐 측정값(음수 차이), 0 dB 와 상한 200 dB 포함
+        Random random = new Random(42);
+        int count = 1000;
+        long[] measuredAt = new long[count];
+        double[] decibels = new double[count];
+        long timestamp = START;
+        for (int i = 0; i < count; i++) {
+            timestamp += i % 50 == 0 ? -1500 : 1000 + random.nextInt(41) - 20;
+            measuredAt[i] = timestamp;
+            decibels[i] = Math.round(random.nextDouble() * 2000) / 10.0;
+        }
+        decibels[0] = 0.0;
+        decibels[1] = 200.0;
+
+        byte[] payload = NoiseSampleCodec.encode(measuredAt, decibels, count);
+
+        NoiseSampleBuffer decoded = new NoiseSampleBuffer();
+        int emitted = NoiseSampleCodec.decode(ByteBuffer.wrap(payload), count, decoded);
+
+        assertThat(emitted).isEqualTo(count);
+        assertThat(NoiseSampleCodec.peekCount(ByteBuffer.wrap(payload))).isEqualTo(count);
+        assertThat(Arrays.copyOf(decoded.measuredAtArray(), decoded.size())).containsExactly(measuredAt);
+        for (int i = 0; i < count; i++) {
+            assertThat(decoded.decibel(i)).as("decibel at %d", i).isEqualTo(decibels[i]);
+        }
+    }
+
+    @Test
+    void emptyPayloadRoundTrip() {
+        byte[] payload = NoiseSampleCodec.encode(new long[0], new double[0], 0);
+
+        assertThat(NoiseSampleCodec.decode(ByteBuffer.wrap(payload), 10, (t, db) -> {
+            throw new AssertionError("no samples expected");
+        })).isZero();
+    }
+
+    @Test
+    void rejectsDecibelAboveLimit() {
+        byte[] payload = NoiseSampleCodec.encode(new long[]{START, START + 1000}, new double[]{50.0, 200.1}, 2);
+
+        assertInvalid(payload, 10);
+    }
+
+    @Test
+    void rejectsQuantizedDecibelThatOverflowsToNegative() {
+        ByteBuffer out = ByteBuffer.allocate(32);
+        out.put(NoiseSampleCodec.VERSION);
+        NoiseSampleCodec.writeVarLong(out, 1);
+        NoiseSampleCodec.writeVarLong(out, START);
+        NoiseSampleCodec.writeVarLong(out, 0);
+        NoiseSampleCodec.writeVarLong(out, Long.MIN_VALUE); // 부호 없는 varint 로 2^63
+
+        assertInvalid(Arrays.copyOf(out.array(), out.position()), 10);
+    }
+
+    @Test
+    void rejectsMalformedPayloads() {
+        byte[] valid = NoiseSampleCodec.encode(new long[]{START, START + 1000}, new double[]{40.0, 41.0}, 2);
+
+        // 버전 불일치
+        byte[] wrongVersion = valid.clone();
+        wrongVersion[0] = 2;
+        assertInvalid(wrongVersion, 10);
+
+        // 잘린 본문
+        assertInvalid(Arrays.copyOf(valid, valid.length - 1), 10);
+
+        // 남는 바이트
+        assertInvalid(Arrays.copyOf(valid, valid.length + 1), 10);
+
+        // 최대 개수 초과
+        assertInvalid(valid, 1);
+
+        // 끝나지 않는 varint (10바이트 모두 continuation)
+        byte[] endless = new byte[12];
+        endless[0] = NoiseSampleCodec.VERSION;
+        Arrays.fill(endless, 1, endless.length, (byte) 0x80);
+        assertInvalid(endless, 10);
+
+        // 빈 본문
+        assertInvalid(new byte[0], 10);
+    }
+
+    @Test
+    void peekCountDoesNotMoveBufferPosition() {
+        byte[] payload = NoiseSampleCodec.encode(new long[]{START}, new double[]{45.0}, 1);
+        ByteBuffer in = ByteBuffer.wrap(payload);
+
+        assertThat(NoiseSampleCodec.peekCount(in)).isEqualTo(1);
+        assertThat(in.position()).isZero();
+    }
+
+    private static void assertInvalid(byte[] payload, int maxCount) {
+        assertThatThrownBy(() -> NoiseSampleCodec.decode(ByteBuffer.wrap(payload), maxCount, (t, db) -> {
+        }))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_NOISE_PAYLOAD);
+    }
+}
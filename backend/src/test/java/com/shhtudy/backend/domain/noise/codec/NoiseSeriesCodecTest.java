@@ -0,0 +1,84 @@
+package com.shhtudy.backend.domain.noise.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoiseSeriesCodecTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void roundTripRestoresEveryTimestampAndValue() {
+        // 1초 간격 + 지터, 긴 공백, 같은 값 반복, 큰 값 변화가 섞인 시계열
+        Random random = new Random(42);
+        int count = 5000;
+        long[] measuredAt = new long[count];
+        double[] decibels = new double[count];
+        long timestamp = START;
+        double decibel = 38.0;
+        for (int i = 0; i < count; i++) {
+            if (i % 997 == 0) {
+                timestamp += 3_600_000L + random.nextInt(10_000);
+            } else {
+                timestamp += 1000 + random.nextInt(41) - 20;
+            }
+            if (i % 7 != 0) {
+                decibel = Math.round((30.0 + random.nextDouble() * 60.0) * 10.0) / 10.0;
+            }
+            measuredAt[i] = timestamp;
+            decibels[i] = decibel;
+        }
+
+        NoiseSeriesCodec.Encoder encoder = new NoiseSeriesCodec.Encoder();
+        for (int i = 0; i < count; i++) {
+            encoder.add(measuredAt[i], decibels[i]);
+        }
+        byte[] series = encoder.toBytes();
+
+        NoiseSampleBuffer decoded = new NoiseSampleBuffer();
+        int emitted = NoiseSeriesCodec.decode(series, decoded);
+
+        assertThat(emitted).isEqualTo(count);
+        assertThat(NoiseSeriesCodec.peekCount(series)).isEqualTo(count);
+        assertThat(Arrays.copyOf(decoded.measuredAtArray(), decoded.size())).containsExactly(measuredAt);
+        for (int i = 0; i < count; i++) {
+            assertThat(Double.doubleToRawLongBits(decoded.decibel(i)))
+                    .as("decibel at %d", i)
+                    .isEqualTo(Double.doubleToRawLongBits(decibels[i]));
+        }
+    }
+
+    @Test
+    void decodeRangeEmitsOnlySamplesInsideBounds() {
+        NoiseSeriesCodec.Encoder encoder = new NoiseSeriesCodec.Encoder();
+        for (int i = 0; i < 100; i++) {
+            encoder.add(START + i * 1000L, 40.0 + i % 5);
+        }
+
+        NoiseSampleBuffer decoded = new NoiseSampleBuffer();
+        int emitted = NoiseSeriesCodec.decode(encoder.toBytes(), START + 10_000L, START + 19_000L, decoded);
+
+        assertThat(emitted).isEqualTo(10);
+        assertThat(decoded.measuredAtMillis(0)).isEqualTo(START + 10_000L);
+        assertThat(decoded.measuredAtMillis(9)).isEqualTo(START + 19_000L);
+        assertThat(decoded.decibel(0)).isEqualTo(40.0);
+    }
+
+    @Test
+    void singleAndEmptySeriesRoundTrip() {
+        NoiseSeriesCodec.Encoder single = new NoiseSeriesCodec.Encoder();
+        single.add(START, 55.5);
+        NoiseSampleBuffer decoded = new NoiseSampleBuffer();
+        assertThat(NoiseSeriesCodec.decode(single.toBytes(), decoded)).isEqualTo(1);
+        assertThat(decoded.measuredAtMillis(0)).isEqualTo(START);
+        assertThat(decoded.decibel(0)).isEqualTo(55.5);
+
+        NoiseSampleBuffer empty = new NoiseSampleBuffer();
+        assertThat(NoiseSeriesCodec.decode(new NoiseSeriesCodec.Encoder().toBytes(), empty)).isZero();
+        assertThat(empty.size()).isZero();
+    }
+}
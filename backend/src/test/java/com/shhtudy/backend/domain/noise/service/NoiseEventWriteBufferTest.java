@@ -0,0 +1,240 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.enums.BufferOverflowPolicy;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
+import com.shhtudy.backend.domain.user.entity.User;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * write-behind 버퍼: 가득 찼을 때 정책, 저장 실패 재시도, 사용자 몫 바로 저장
+ */
+class NoiseEventWriteBufferTest {
+
+    private final NoiseEventStore noiseEventStore = mock(NoiseEventStore.class);
+    private final NoiseSampleRunWriter noiseSampleRunWriter = mock(NoiseSampleRunWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 저장된 측정값/묶음 (flusher 스레드에서도 기록)
+    private final List<NoiseEvent> savedEvents = new CopyOnWriteArrayList<>();
+    private final List<QuietSampleRun> savedRuns = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch saving = new CountDownLatch(1);
+
+    private NoiseEventWriteBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void rejectPolicyThrowsWhenFull() throws Exception {
+        CountDownLatch release = blockFirstSave();
+        buffer = start(2, 10, BufferOverflowPolicy.REJECT, 0);
+        User a = user("a");
+        fillWhileFlusherIsBusy(a);
+
+        assertThatThrownBy(() -> buffer.enqueue(event(a, 4.0)))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOISE_BUFFER_FULL);
+        assertThat(meterRegistry.counter("noise.write_buffer.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        awaitSaved(3);
+        assertThat(savedEvents).extracting(NoiseEvent::getDecibel).containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void dropOldestPolicyKeepsNewestReadings() throws Exception {
+        CountDownLatch release = blockFirstSave();
+        buffer = start(2, 10, BufferOverflowPolicy.DROP_OLDEST, 0);
+        User a = user("a");
+        fillWhileFlusherIsBusy(a);
+
+        buffer.enqueue(event(a, 4.0));
+        assertThat(meterRegistry.counter("noise.write_buffer.dropped").count()).isEqualTo(1.0);
+
+        release.countDown();
+        awaitSaved(3);
+        assertThat(savedEvents).extracting(NoiseEvent::getDecibel).containsExactly(1.0, 3.0, 4.0);
+    }
+
+    @Test
+    void blockPolicyWaitsThenRejects() throws Exception {
+        CountDownLatch release = blockFirstSave();
+        buffer = start(2, 10, BufferOverflowPolicy.BLOCK, 0);
+        User a = user("a");
+        fillWhileFlusherIsBusy(a);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> buffer.enqueue(event(a, 4.0))).isInstanceOf(CustomException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(40);
+
+        release.countDown();
+        awaitSaved(3);
+    }
+
+    @Test
+    void failedBatchIsRetriedThenSavedOnce() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            savedEvents.addAll(invocation.getArgument(0));
+            return null;
+        }).when(noiseEventStore).saveAll(anyList());
+        buffer = start(100, 10, BufferOverflowPolicy.REJECT, 3);
+
+        buffer.enqueue(event(user("a"), 50.0));
+
+        awaitSaved(1);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("noise.write_buffer.retried").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void batchFailingAllRetriesIsRequeued() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            savedEvents.addAll(invocation.getArgument(0));
+            return null;
+        }).when(noiseEventStore).saveAll(anyList());
+        buffer = start(100, 10, BufferOverflowPolicy.REJECT, 0);
+
+        buffer.enqueue(event(user("a"), 50.0));
+
+        // 재시도 없이 실패 → 큐에 다시 넣고 다음 배치에서 저장
+        awaitSaved(1);
+        assertThat(meterRegistry.counter("noise.write_buffer.requeued").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("noise.write_buffer.flush_failed").count()).isZero();
+    }
+
+    @Test
+    void flushUserStoresThatUsersQueuedEventsAndRuns() {
+        recordSaves();
+        buffer = start(1000, 100, BufferOverflowPolicy.REJECT, 0);
+        User a = user("a");
+        User b = user("b");
+
+        buffer.enqueue(event(a, 60.0));
+        buffer.enqueue(event(b, 61.0));
+        buffer.enqueue(event(a, 62.0));
+        buffer.enqueueRuns(List.of(run("a"), run("b")));
+
+        buffer.flush("a");
+
+        // flusher 가 먼저 저장했든 flush 가 저장했든, 반환 시점에는 a 의 몫이 모두 저장돼 있다
+        assertThat(savedEvents).filteredOn(event -> event.getUser() == a)
+                .extracting(NoiseEvent::getDecibel)
+                .containsExactlyInAnyOrder(60.0, 62.0);
+        assertThat(savedRuns).extracting(QuietSampleRun::getUserId).contains("a");
+    }
+
+    // 첫 저장을 붙잡아 두고 (flusher 가 저장 중인 상태) 풀어 줄 래치를 돌려준다
+    private CountDownLatch blockFirstSave() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<NoiseEvent> batch = List.copyOf(invocation.getArgument(0));
+            if (calls.incrementAndGet() == 1) {
+                saving.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            savedEvents.addAll(batch);
+            return null;
+        }).when(noiseEventStore).saveAll(anyList());
+        return release;
+    }
+
+    // 1.0 은 flusher 가 가져가 저장 중, 2.0 / 3.0 으로 큐(capacity 2)를 채운다
+    private void fillWhileFlusherIsBusy(User user) throws InterruptedException {
+        buffer.enqueue(event(user, 1.0));
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.enqueue(event(user, 2.0));
+        buffer.enqueue(event(user, 3.0));
+    }
+
+    private void awaitSaved(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (savedEvents.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(savedEvents).hasSize(count);
+    }
+
+    private void recordSaves() {
+        doAnswer(invocation -> {
+            savedEvents.addAll(invocation.getArgument(0));
+            return null;
+        }).when(noiseEventStore).saveAll(anyList());
+        doAnswer(invocation -> {
+            savedRuns.addAll(invocation.getArgument(0));
+            return null;
+        }).when(noiseSampleRunWriter).store(anyList());
+    }
+
+    private NoiseEventWriteBuffer start(int capacity, long flushIntervalMs, BufferOverflowPolicy policy, int maxRetries) {
+        NoiseEventWriteBuffer started = new NoiseEventWriteBuffer(noiseEventStore, noiseSampleRunWriter,
+                meterRegistry, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(started, "enabled", true);
+        ReflectionTestUtils.setField(started, "capacity", capacity);
+        ReflectionTestUtils.setField(started, "batchSize", 500);
+        ReflectionTestUtils.setField(started, "flushIntervalMs", flushIntervalMs);
+        ReflectionTestUtils.setField(started, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(started, "blockTimeoutMs", 50L);
+        ReflectionTestUtils.setField(started, "shutdownTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(started, "maxRetries", maxRetries);
+        ReflectionTestUtils.setField(started, "retryBackoffMs", 1L);
+        started.start();
+        return started;
+    }
+
+    private static User user(String uid) {
+        User user = new User();
+        user.setFirebaseUid(uid);
+        return user;
+    }
+
+    private static NoiseEvent event(User user, double decibel) {
+        return NoiseEvent.builder()
+                .user(user)
+                .decibel(decibel)
+                .measuredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static QuietSampleRun run(String uid) {
+        QuietSampleRun run = new QuietSampleRun(uid, 1, System.currentTimeMillis(), 40.0);
+        run.append(System.currentTimeMillis() + 1000, 41.0);
+        return run;
+    }
+}
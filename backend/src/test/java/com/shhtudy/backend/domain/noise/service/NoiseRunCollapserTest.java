@@ -0,0 +1,151 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.stats.NoiseSessionAccumulator;
+import com.shhtudy.backend.domain.noise.stats.QuietSampleRun;
+import com.shhtudy.backend.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조용한 측정값 묶음 저장: 저장된 이벤트 + 묶음으로 다시 계산한 통계가 원본과 같은지, 세션 종료 전 flush
+ */
+class NoiseRunCollapserTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final NoiseSampleRunWriter noiseSampleRunWriter = mock(NoiseSampleRunWriter.class);
+    private final NoiseEventWriteBuffer noiseEventWriteBuffer = mock(NoiseEventWriteBuffer.class);
+    private final List<QuietSampleRun> storedRuns = new ArrayList<>();
+
+    private NoiseRunCollapser collapser;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        collapser = new NoiseRunCollapser(noiseSampleRunWriter, noiseEventWriteBuffer,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(collapser, "enabled", true);
+        ReflectionTestUtils.setField(collapser, "maxGapMs", 5000L);
+        ReflectionTestUtils.setField(collapser, "idleMs", 5000L);
+        ReflectionTestUtils.setField(collapser, "graceMs", 2000L);
+
+        user = new User();
+        user.setFirebaseUid("user-1");
+    }
+
+    @Test
+    void storedEventsAndRunsReplayToSameStats() {
+        recordRuns();
+        Random random = new Random(9);
+        List<NoiseEvent> events = new ArrayList<>();
+        long timestamp = START;
+        for (int i = 0; i < 2000; i++) {
+            timestamp += random.nextInt(10) < 9 ? 1000 : 6000;
+            double decibel = random.nextInt(5) == 0 ? 50.0 + random.nextInt(20) : 35.0 + random.nextInt(10);
+            events.add(event(timestamp, decibel));
+        }
+
+        NoiseSessionAccumulator direct = new NoiseSessionAccumulator(true);
+        events.forEach(event -> direct.add(millis(event), event.getDecibel()));
+
+        // 요청 단위로 나눠 넣고, 종료 시 남은 묶음까지 저장
+        List<NoiseEvent> storedEvents = new ArrayList<>();
+        for (int from = 0; from < events.size(); from += 37) {
+            storedEvents.addAll(collapser.offerAll(events.subList(from, Math.min(from + 37, events.size()))));
+        }
+        collapser.flush(user.getFirebaseUid());
+
+        // 재계산: 저장된 이벤트와 묶음을 시작 시각순으로
+        List<Object> replay = new ArrayList<>(storedEvents);
+        replay.addAll(storedRuns);
+        replay.sort(Comparator.comparingLong(item -> item instanceof QuietSampleRun run ? run.getStartMillis()
+                : millis((NoiseEvent) item)));
+        NoiseSessionAccumulator rebuilt = new NoiseSessionAccumulator(true);
+        for (Object item : replay) {
+            if (item instanceof QuietSampleRun run) {
+                rebuilt.addQuietRun(run);
+            } else {
+                rebuilt.add(millis((NoiseEvent) item), ((NoiseEvent) item).getDecibel());
+            }
+        }
+
+        assertThat(storedEvents).allMatch(event -> event.getDecibel() > NoiseSessionAccumulator.QUIET_THRESHOLD_DB);
+        assertThat(storedRuns.size()).isLessThan(events.size() - storedEvents.size());
+        assertThat(rebuilt.getCount()).isEqualTo(direct.getCount());
+        assertThat(rebuilt.getAverageDecibel()).isCloseTo(direct.getAverageDecibel(), within(1e-9));
+        assertThat(rebuilt.getMaxDecibel()).isEqualTo(direct.getMaxDecibel());
+        assertThat(rebuilt.getQuietRatio()).isEqualTo(direct.getQuietRatio());
+        assertThat(rebuilt.getAbruptCount()).isEqualTo(direct.getAbruptCount());
+        assertThat(rebuilt.getHistogram().toBytes()).isEqualTo(direct.getHistogram().toBytes());
+    }
+
+    @Test
+    void flushStoresRunsLeftPendingByFailedStore() {
+        // 첫 저장(다음 기준 초과 값이 묶음을 닫을 때)은 실패해서 다음 주기 재시도 목록에 남는다
+        doThrow(new DataAccessResourceFailureException("db down")).when(noiseSampleRunWriter).store(anyList());
+        collapser.offer(event(START, 40.0));
+        collapser.offer(event(START + 1000, 41.0));
+        collapser.offer(event(START + 2000, 60.0));
+        assertThat(storedRuns).isEmpty();
+
+        recordRuns();
+        collapser.offer(event(START + 3000, 42.0));
+        collapser.flush(user.getFirebaseUid());
+
+        // 실패했던 묶음과 열린 묶음이 모두 저장된다
+        assertThat(storedRuns).extracting(QuietSampleRun::getStartMillis).containsExactlyInAnyOrder(START, START + 3000);
+    }
+
+    @Test
+    void failedFlushKeepsRunsForRetry() {
+        collapser.offer(event(START, 40.0));
+        doThrow(new DataAccessResourceFailureException("db down")).when(noiseSampleRunWriter).store(anyList());
+
+        assertThatThrownBy(() -> collapser.flush(user.getFirebaseUid()))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        recordRuns();
+        collapser.flushIdle();
+        assertThat(storedRuns).extracting(QuietSampleRun::getStartMillis).containsExactly(START);
+    }
+
+    private void recordRuns() {
+        doAnswer(invocation -> {
+            storedRuns.addAll(invocation.getArgument(0));
+            return null;
+        }).when(noiseSampleRunWriter).store(anyList());
+    }
+
+    private NoiseEvent event(long measuredAtMillis, double decibel) {
+        return NoiseEvent.builder()
+                .user(user)
+                .decibel(decibel)
+                .measuredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAtMillis), ZONE))
+                .build();
+    }
+
+    private static long millis(NoiseEvent event) {
+        return event.getMeasuredAt().atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
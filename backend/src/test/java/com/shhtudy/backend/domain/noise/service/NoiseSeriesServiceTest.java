@@ -0,0 +1,121 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleBuffer;
+import com.shhtudy.backend.domain.noise.codec.NoiseSampleCodec;
+import com.shhtudy.backend.domain.noise.entity.NoiseSession;
+import com.shhtudy.backend.domain.noise.repository.NoiseEventJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseSampleRunJdbcRepository;
+import com.shhtudy.backend.domain.noise.repository.NoiseSessionRepository;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
+import com.shhtudy.backend.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 압축 후 원본 삭제: 압축 이후 들어온 행은 지우지 않고, 조회 시 압축본과 남은 원본을 시각 순서대로 합친다
+ */
+class NoiseSeriesServiceTest {
+
+    private static final LocalDateTime CHECKIN = LocalDateTime.of(2024, 3, 4, 9, 0);
+    private static final LocalDateTime CHECKOUT = CHECKIN.plusMinutes(10);
+
+    private final NoiseEventStore noiseEventStore = mock(NoiseEventStore.class);
+    private final NoiseEventJdbcRepository noiseEventJdbcRepository = mock(NoiseEventJdbcRepository.class);
+    private final NoiseSessionRepository noiseSessionRepository = mock(NoiseSessionRepository.class);
+    private final NoiseSeriesService service = new NoiseSeriesService(noiseEventStore, noiseEventJdbcRepository,
+            noiseSessionRepository, mock(NoiseSampleRunJdbcRepository.class));
+
+    private User user;
+    private NoiseSession session;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setFirebaseUid("user-1");
+        session = NoiseSession.builder()
+                .user(user)
+                .checkinTime(CHECKIN)
+                .checkoutTime(CHECKOUT)
+                .build();
+    }
+
+    @Test
+    void purgeDeletesOnlyRowsCoveredByCompactedSeries() {
+        streamRaw(millis(CHECKIN, 0), 40.0, millis(CHECKIN, 1), 41.0);
+        when(noiseEventJdbcRepository.findMaxId("user-1", CHECKIN, CHECKOUT)).thenReturn(20L);
+        assertThat(service.compact(session)).isEqualTo(2);
+        when(noiseEventJdbcRepository.deleteBetween("user-1", CHECKIN, CHECKOUT, 20L)).thenReturn(2);
+
+        assertThat(service.purgeRaw(session)).isEqualTo(2);
+        assertThat(session.isRawPurged()).isTrue();
+        assertThat(session.getSeriesMaxEventId()).isEqualTo(20L);
+    }
+
+    @Test
+    void purgeAfterBackfillClearsSeriesForRecompaction() {
+        streamRaw(millis(CHECKIN, 0), 40.0);
+        when(noiseEventJdbcRepository.findMaxId("user-1", CHECKIN, CHECKOUT)).thenReturn(20L);
+        service.compact(session);
+
+        // 압축 이후 세션 구간에 새 행이 들어옴
+        when(noiseEventJdbcRepository.findMaxId("user-1", CHECKIN, CHECKOUT)).thenReturn(21L);
+
+        assertThat(service.purgeRaw(session)).isEqualTo(-1);
+        assertThat(session.getSampleSeries()).isNull();
+        assertThat(session.getSeriesMaxEventId()).isNull();
+        assertThat(session.isRawPurged()).isFalse();
+        verify(noiseEventJdbcRepository, never()).deleteBetween(anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    void purgedSessionIsMergedWithRemainingRawRowsInTimeOrder() {
+        streamRaw(millis(CHECKIN, 0), 40.0, millis(CHECKIN, 2), 42.0, millis(CHECKIN, 4), 44.0);
+        service.compact(session);
+        session.setRawPurged(true);
+        when(noiseSessionRepository.findPurgedOverlapping(user, CHECKIN, CHECKOUT)).thenReturn(List.of(session));
+
+        // 삭제 후 백필로 들어온 원본 행
+        streamRaw(millis(CHECKIN, 1), 41.0, millis(CHECKIN, 3), 43.0, millis(CHECKIN, 5), 45.0);
+
+        NoiseSampleBuffer merged = new NoiseSampleBuffer();
+        service.forEachSample(user, CHECKIN, CHECKOUT, merged);
+
+        assertThat(Arrays.copyOf(merged.measuredAtArray(), merged.size())).containsExactly(
+                millis(CHECKIN, 0), millis(CHECKIN, 1), millis(CHECKIN, 2),
+                millis(CHECKIN, 3), millis(CHECKIN, 4), millis(CHECKIN, 5));
+        for (int i = 0; i < merged.size(); i++) {
+            assertThat(merged.decibel(i)).isEqualTo(40.0 + i);
+        }
+    }
+
+    // 저장소가 (시각, 값) 쌍을 순서대로 흘려보내도록
+    private void streamRaw(Object... samples) {
+        doAnswer(invocation -> {
+            NoiseSampleCodec.SampleSink sink = invocation.getArgument(3);
+            for (int i = 0; i < samples.length; i += 2) {
+                sink.accept((Long) samples[i], (Double) samples[i + 1]);
+            }
+            return null;
+        }).when(noiseEventStore).streamSamples(eq("user-1"), any(), any(), any());
+    }
+
+    private static long millis(LocalDateTime base, int seconds) {
+        return Timestamp.valueOf(base.plusSeconds(seconds)).getTime();
+    }
+}
@@ -0,0 +1,141 @@
+package com.shhtudy.backend.domain.noise.service;
+
+import com.shhtudy.backend.domain.noise.dto.NoiseEventRequestDto;
+import com.shhtudy.backend.domain.noise.entity.NoiseEvent;
+import com.shhtudy.backend.domain.noise.store.NoiseEventStore;
+import com.shhtudy.backend.domain.usage.repository.UsageRepository;
+import com.shhtudy.backend.domain.usage.service.UsageSessionRegistry;
+import com.shhtudy.backend.domain.user.entity.User;
+import com.shhtudy.backend.domain.user.repository.UserRepository;
+import com.shhtudy.backend.global.exception.CustomException;
+import com.shhtudy.backend.global.exception.code.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장이 실패/롤백된 측정값이 세션 누적 통계에 남지 않는지 (클라이언트 재전송 시 두 번 집계 방지)
+ */
+@ExtendWith(MockitoExtension.class)
+class NoiseServiceIngestTest {
+
+    private static final String UID = "user-1";
+
+    @Mock
+    private NoiseEventStore noiseEventStore;
+    @Mock
+    private NoiseEventWriteBuffer noiseEventWriteBuffer;
+    @Mock
+    private NoiseRunCollapser noiseRunCollapser;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UsageRepository usageRepository;
+    @Mock
+    private UsageSessionRegistry usageSessionRegistry;
+    @Spy
+    private NoiseSessionAccumulatorRegistry noiseSessionAccumulatorRegistry = new NoiseSessionAccumulatorRegistry();
+
+    @InjectMocks
+    private NoiseService noiseService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setFirebaseUid(UID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void failedBatchLeavesAccumulatorUnchanged() {
+        doThrow(new DataAccessResourceFailureException("db down")).when(noiseEventStore).saveAll(anyList());
+
+        assertThatThrownBy(() -> noiseService.saveSensorEvents(events(60.0, 61.0, 62.0)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(noiseSessionAccumulatorRegistry.remove(UID)).isNull();
+        verify(noiseRunCollapser, never()).offerAll(any());
+    }
+
+    @Test
+    void batchIsAccumulatedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        noiseService.saveSensorEvents(events(60.0, 61.0, 62.0));
+        assertThat(noiseSessionAccumulatorRegistry.remove(UID)).isNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(noiseSessionAccumulatorRegistry.remove(UID).getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rolledBackBatchIsNeverAccumulated() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        noiseService.saveSensorEvents(events(60.0, 61.0));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(noiseSessionAccumulatorRegistry.remove(UID)).isNull();
+    }
+
+    @Test
+    void rejectedEnqueueLeavesAccumulatorUnchanged() {
+        when(userRepository.findByFirebaseUid(UID)).thenReturn(Optional.of(user));
+        when(usageRepository.existsByUserAndCheckInTimeBetween(eq(user), any(), any())).thenReturn(true);
+        when(usageRepository.existsByUserAndCheckOutTimeBetweenAndUsageStatus(eq(user), any(), any(), any()))
+                .thenReturn(true);
+        when(noiseEventWriteBuffer.isEnabled()).thenReturn(true);
+        doThrow(new CustomException(ErrorCode.NOISE_BUFFER_FULL)).when(noiseEventWriteBuffer).enqueue(any());
+
+        NoiseEventRequestDto dto = new NoiseEventRequestDto();
+        dto.setDecibel(70.0);
+        assertThatThrownBy(() -> noiseService.saveNoiseEvent(UID, dto)).isInstanceOf(CustomException.class);
+
+        assertThat(noiseSessionAccumulatorRegistry.remove(UID)).isNull();
+        verify(noiseRunCollapser, never()).offer(any());
+    }
+
+    private List<NoiseEvent> events(double... decibels) {
+        LocalDateTime start = LocalDateTime.now().withNano(0);
+        NoiseEvent[] events = new NoiseEvent[decibels.length];
+        for (int i = 0; i < decibels.length; i++) {
+            events[i] = NoiseEvent.builder()
+                    .user(user)
+                    .decibel(decibels[i])
+                    .measuredAt(start.plusSeconds(i))
+                    .build();
+        }
+        return List.of(events);
+    }
+}
@@ -0,0 +1,133 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import com.shhtudy.backend.global.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DecibelHistogramTest {
+
+    @Test
+    void quantilesStayWithinOneBucketOfExactValues() {
+        Random random = new Random(17);
+        double[] values = new double[10_000];
+        DecibelHistogram histogram = new DecibelHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 30.0 + random.nextGaussian() * 8.0 + (random.nextInt(20) == 0 ? 40.0 : 0.0);
+            histogram.add(values[i]);
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (double q : new double[]{0.01, 0.1, 0.5, 0.9, 0.99, 1.0}) {
+            double exact = sorted[(int) Math.ceil(q * sorted.length) - 1];
+            // 버킷 상한값을 돌려주므로 정확한 값 이상, 0.1 dB 이내
+            assertThat(histogram.quantile(q)).as("q=%s", q).isBetween(exact, exact + 0.1);
+        }
+        assertThat(histogram.getMin()).isEqualTo(sorted[0]);
+        assertThat(histogram.getMax()).isEqualTo(sorted[sorted.length - 1]);
+    }
+
+    @Test
+    void mergeEqualsAddingEverything() {
+        Random random = new Random(3);
+        DecibelHistogram all = new DecibelHistogram();
+        DecibelHistogram merged = new DecibelHistogram();
+        for (int part = 0; part < 5; part++) {
+            DecibelHistogram partial = new DecibelHistogram();
+            for (int i = 0; i < 500; i++) {
+                double value = Math.round((20.0 + random.nextDouble() * 80.0) * 10.0) / 10.0;
+                partial.add(value);
+                all.add(value);
+            }
+            merged.merge(partial);
+        }
+        merged.merge(new DecibelHistogram()); // 빈 분포 병합은 영향 없음
+
+        assertThat(merged.toBytes()).isEqualTo(all.toBytes());
+        assertThat(merged.getTotalCount()).isEqualTo(2500);
+        assertThat(merged.quantile(0.5)).isEqualTo(all.quantile(0.5));
+
+        // 빈 분포에 병합하면 최소/최대도 그대로
+        DecibelHistogram empty = new DecibelHistogram();
+        empty.merge(all);
+        assertThat(empty.getMin()).isEqualTo(all.getMin());
+        assertThat(empty.getMax()).isEqualTo(all.getMax());
+    }
+
+    @Test
+    void quietBoundaryFallsOnBucketEdge() {
+        DecibelHistogram histogram = new DecibelHistogram();
+        histogram.add(45.0);
+        histogram.add(45.01);
+        histogram.add(44.9);
+        histogram.add(0.0);
+
+        assertThat(histogram.countAtOrBelow(NoiseSessionAccumulator.QUIET_THRESHOLD_DB)).isEqualTo(3);
+        assertThat(histogram.countBetween(44.0, 45.0)).isEqualTo(2);
+        assertThat(histogram.countBetween(45.0, 46.0)).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedAddMatchesAddWithTimes() {
+        DecibelHistogram repeated = new DecibelHistogram();
+        DecibelHistogram weighted = new DecibelHistogram();
+        for (int i = 0; i < 7; i++) {
+            repeated.add(41.3);
+        }
+        weighted.add(41.3, 7);
+        weighted.add(50.0, 0); // 0 번은 무시
+
+        assertThat(weighted.toBytes()).isEqualTo(repeated.toBytes());
+    }
+
+    @Test
+    void valuesOutsideRangeKeepExactMinMax() {
+        DecibelHistogram histogram = new DecibelHistogram();
+        histogram.add(-3.0);
+        histogram.add(180.0);
+
+        assertThat(histogram.getMin()).isEqualTo(-3.0);
+        assertThat(histogram.getMax()).isEqualTo(180.0);
+        assertThat(histogram.countAtOrBelow(0.0)).isEqualTo(1);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        Random random = new Random(11);
+        DecibelHistogram histogram = new DecibelHistogram();
+        for (int i = 0; i < 1000; i++) {
+            histogram.add(random.nextDouble() * 150.0);
+        }
+
+        DecibelHistogram restored = DecibelHistogram.fromBytes(histogram.toBytes());
+
+        assertThat(restored.toBytes()).isEqualTo(histogram.toBytes());
+        assertThat(restored.getTotalCount()).isEqualTo(1000);
+        assertThat(restored.quantile(0.9)).isCloseTo(histogram.quantile(0.9), within(0.0));
+        assertThat(DecibelHistogram.fromBytes(null).getTotalCount()).isZero();
+        assertThat(DecibelHistogram.fromBytes(new DecibelHistogram().toBytes()).quantile(0.5)).isZero();
+    }
+
+    @Test
+    void malformedBytesAreRejected() {
+        byte[] valid = new DecibelHistogram() {{
+            add(40.0);
+            add(60.0);
+        }}.toBytes();
+
+        byte[] wrongVersion = valid.clone();
+        wrongVersion[0] = 9;
+        assertThatThrownBy(() -> DecibelHistogram.fromBytes(wrongVersion)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> DecibelHistogram.fromBytes(Arrays.copyOf(valid, valid.length - 4)))
+                .isInstanceOf(CustomException.class);
+        // 버킷 수가 범위를 넘음
+        assertThatThrownBy(() -> DecibelHistogram.fromBytes(new byte[]{1, (byte) 0xFF, 0x7F}))
+                .isInstanceOf(CustomException.class);
+    }
+}
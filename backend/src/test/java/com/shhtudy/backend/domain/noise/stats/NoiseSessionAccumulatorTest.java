@@ -0,0 +1,106 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoiseSessionAccumulatorTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void abruptCountMatchesSortedEventScan() {
+        // 기준 초과/조용한 값, 1초 간격/지터/공백이 섞인 시계열을 여러 벌 만들어 기존 일괄 판정과 비교
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int count = 50 + random.nextInt(300);
+            long[] measuredAt = new long[count];
+            double[] decibels = new double[count];
+            long timestamp = START;
+            for (int i = 0; i < count; i++) {
+                int gap = random.nextInt(10);
+                timestamp += gap < 7 ? 1000 + random.nextInt(201) - 100 : gap < 9 ? 2500 : 500;
+                measuredAt[i] = timestamp;
+                decibels[i] = random.nextInt(3) == 0 ? 40.0 : 50.0 + random.nextInt(20);
+            }
+
+            NoiseSessionAccumulator accumulator = new NoiseSessionAccumulator(true);
+            for (int i = 0; i < count; i++) {
+                accumulator.add(measuredAt[i], decibels[i]);
+            }
+
+            assertThat(accumulator.getAbruptCount())
+                    .as("round %d", round)
+                    .isEqualTo(countAbruptNoises(measuredAt, decibels));
+            assertThat(accumulator.isComplete()).isTrue();
+        }
+    }
+
+    @Test
+    void threeConsecutiveLoudSecondsCountOnceAndReset() {
+        NoiseSessionAccumulator accumulator = new NoiseSessionAccumulator(true);
+        for (int i = 0; i < 6; i++) {
+            accumulator.add(START + i * 1000L, 60.0);
+        }
+        // 3초마다 1회, 판정 후 상태가 초기화되므로 6초 연속이면 2회
+        assertThat(accumulator.getAbruptCount()).isEqualTo(2);
+
+        // 조용한 값이 끼면 연속이 끊긴다
+        NoiseSessionAccumulator interrupted = new NoiseSessionAccumulator(true);
+        interrupted.add(START, 60.0);
+        interrupted.add(START + 1000, 60.0);
+        interrupted.add(START + 2000, 40.0);
+        interrupted.add(START + 3000, 60.0);
+        interrupted.add(START + 4000, 60.0);
+        assertThat(interrupted.getAbruptCount()).isZero();
+        assertThat(interrupted.getOverCount()).isEqualTo(4);
+        assertThat(interrupted.getQuietRatio()).isEqualTo(0.2);
+    }
+
+    @Test
+    void outOfOrderReadingMarksIncompleteButKeepsTotals() {
+        NoiseSessionAccumulator accumulator = new NoiseSessionAccumulator(true);
+        accumulator.add(START + 1000, 60.0);
+        accumulator.add(START + 2000, 60.0);
+        accumulator.add(START, 40.0);
+
+        assertThat(accumulator.isComplete()).isFalse();
+        assertThat(accumulator.getCount()).isEqualTo(3);
+        assertThat(accumulator.getMaxDecibel()).isEqualTo(60.0);
+        assertThat(accumulator.getOverCount()).isEqualTo(2);
+        // 순서가 뒤바뀐 값은 판정 상태를 건드리지 않는다
+        accumulator.add(START + 3000, 60.0);
+        assertThat(accumulator.getAbruptCount()).isEqualTo(1);
+    }
+
+    // 세션 종료 시 저장된 이벤트를 측정 시각순으로 훑던 기존 판정 (비교 기준)
+    private static int countAbruptNoises(long[] measuredAt, double[] decibels) {
+        int count = 0;
+        long consecutiveSeconds = 0;
+        boolean hasPrev = false;
+        long prev = 0;
+        for (int i = 0; i < measuredAt.length; i++) {
+            if (decibels[i] > NoiseSessionAccumulator.QUIET_THRESHOLD_DB) {
+                if (hasPrev) {
+                    long diff = Math.floorDiv(measuredAt[i] - prev, 1000L);
+                    consecutiveSeconds = diff <= 1 ? consecutiveSeconds + diff : 1;
+                } else {
+                    consecutiveSeconds = 1;
+                }
+                if (consecutiveSeconds >= 3) {
+                    count++;
+                    consecutiveSeconds = 0;
+                    hasPrev = false;
+                    continue;
+                }
+            } else {
+                consecutiveSeconds = 0;
+            }
+            hasPrev = true;
+            prev = measuredAt[i];
+        }
+        return count;
+    }
+}
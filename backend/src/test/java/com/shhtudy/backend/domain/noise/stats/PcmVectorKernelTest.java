@@ -0,0 +1,102 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 벡터 커널이 스칼라 커널(정수로 정확히 계산)과 같은 dBFS 를 내는지
+ * (test 태스크는 --add-modules jdk.incubator.vector 로 실행한다)
+ */
+class PcmVectorKernelTest {
+
+    // PcmVectorKernel 문서의 허용 오차
+    private static final double MAX_DB_ERROR = 0.001;
+
+    @Test
+    void matchesScalarOnRandomFrames() {
+        Random random = new Random(7);
+        for (int n = 0; n < 2000; n++) {
+            int length = 1 + random.nextInt(4800);
+            int offset = random.nextInt(64);
+            short[] pcm = new short[offset + length + random.nextInt(64)];
+            double bias = random.nextInt(20001) - 10000;
+            double amplitude = Math.pow(10, random.nextDouble() * 4.5); // 1 ~ 약 30000
+            for (int i = 0; i < pcm.length; i++) {
+                pcm[i] = clamp(bias + random.nextGaussian() * amplitude);
+            }
+            assertSameLevel(pcm, offset, length);
+        }
+    }
+
+    @Test
+    void matchesScalarOnOddTailLengths() {
+        Random random = new Random(11);
+        int lanes = PcmVectorKernel.laneCount();
+        // 벡터 한 번도 못 도는 길이부터 레인 경계 앞뒤까지
+        for (int length = 1; length <= lanes * 4 + 3; length++) {
+            short[] pcm = new short[length + 5];
+            for (int i = 0; i < pcm.length; i++) {
+                pcm[i] = clamp(300 + random.nextGaussian() * 2000);
+            }
+            assertSameLevel(pcm, 0, length);
+            assertSameLevel(pcm, 5, length);
+        }
+    }
+
+    @Test
+    void allZeroFrameIsSilent() {
+        short[] pcm = new short[1024];
+
+        assertThat(PcmVectorKernel.acPower(pcm, 0, pcm.length)).isZero();
+        assertThat(PcmLevelMeter.powerToDbfs(PcmVectorKernel.acPower(pcm, 0, pcm.length)))
+                .isEqualTo(PcmLevelMeter.MIN_DBFS);
+    }
+
+    @Test
+    void constantFullScaleFrameHasNoAcPower() {
+        short[] high = new short[4800];
+        short[] low = new short[4800];
+        Arrays.fill(high, Short.MAX_VALUE);
+        Arrays.fill(low, Short.MIN_VALUE);
+
+        assertThat(PcmVectorKernel.acPower(high, 0, high.length)).isZero();
+        assertThat(PcmVectorKernel.acPower(low, 0, low.length)).isZero();
+    }
+
+    @Test
+    void matchesScalarOnFullScaleSquareWave() {
+        for (int length : new int[]{2, 255, 1024, 4801, 16384}) {
+            short[] pcm = new short[length];
+            for (int i = 0; i < length; i++) {
+                pcm[i] = (i & 1) == 0 ? Short.MAX_VALUE : Short.MIN_VALUE;
+            }
+            assertSameLevel(pcm, 0, length);
+        }
+    }
+
+    @Test
+    void matchesScalarOnSmallSignalOverLargeBias() {
+        // 직류 성분이 커도 평균을 먼저 빼므로 작은 교류 성분이 남는다
+        Random random = new Random(3);
+        short[] pcm = new short[4801];
+        for (int i = 0; i < pcm.length; i++) {
+            pcm[i] = (short) (30000 + random.nextInt(5) - 2);
+        }
+        assertSameLevel(pcm, 0, pcm.length);
+    }
+
+    private static void assertSameLevel(short[] pcm, int offset, int length) {
+        double scalar = PcmLevelMeter.powerToDbfs(PcmScalarKernel.acPower(pcm, offset, length));
+        double vector = PcmLevelMeter.powerToDbfs(PcmVectorKernel.acPower(pcm, offset, length));
+        assertThat(vector).as("length %d offset %d", length, offset).isCloseTo(scalar, within(MAX_DB_ERROR));
+    }
+
+    private static short clamp(double value) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.shhtudy.backend.domain.noise.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuietSampleRunTest {
+
+    private static final long START = 1_699_999_980_000L; // 1분 경계 (60000 의 배수)
+    private static final long MAX_GAP_MS = 5000;
+
+    @Test
+    void quietRunsGiveSameStatsAsIndividualReadings() {
+        // 조용한 측정값을 묶음으로 넣은 누적과 하나씩 넣은 누적이 같은지 (평균/최대/조용한 비율/급격한 소음/분포)
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            NoiseSessionAccumulator individual = new NoiseSessionAccumulator(true);
+            NoiseSessionAccumulator collapsed = new NoiseSessionAccumulator(true);
+            QuietSampleRun run = null;
+
+            long timestamp = START + random.nextInt(60_000);
+            int count = 50 + random.nextInt(400);
+            for (int i = 0; i < count; i++) {
+                int gap = random.nextInt(20);
+                timestamp += gap < 17 ? 1000 + random.nextInt(201) - 100 : gap < 19 ? 7000 : 400;
+                double decibel = random.nextInt(4) == 0
+                        ? 46.0 + random.nextInt(30)
+                        : Math.round((30.0 + random.nextDouble() * 15.0) * 10.0) / 10.0;
+                individual.add(timestamp, decibel);
+
+                boolean quiet = decibel <= NoiseSessionAccumulator.QUIET_THRESHOLD_DB;
+                if (quiet && run != null && run.canAppend(1, timestamp, MAX_GAP_MS)) {
+                    run.append(timestamp, decibel);
+                    continue;
+                }
+                if (run != null) {
+                    collapsed.addQuietRun(run);
+                    run = null;
+                }
+                if (quiet) {
+                    run = new QuietSampleRun("user", 1, timestamp, decibel);
+                } else {
+                    collapsed.add(timestamp, decibel);
+                }
+            }
+            if (run != null) {
+                collapsed.addQuietRun(run);
+            }
+
+            assertThat(collapsed.getCount()).as("round %d", round).isEqualTo(individual.getCount());
+            assertThat(collapsed.getAverageDecibel()).isCloseTo(individual.getAverageDecibel(), within(1e-9));
+            assertThat(collapsed.getMaxDecibel()).isEqualTo(individual.getMaxDecibel());
+            assertThat(collapsed.getQuietRatio()).isEqualTo(individual.getQuietRatio());
+            assertThat(collapsed.getOverCount()).isEqualTo(individual.getOverCount());
+            assertThat(collapsed.getAbruptCount()).as("round %d", round).isEqualTo(individual.getAbruptCount());
+            assertThat(collapsed.getHistogram().toBytes()).isEqualTo(individual.getHistogram().toBytes());
+            assertThat(collapsed.isComplete()).isTrue();
+        }
+    }
+
+    @Test
+    void runDoesNotCrossMinuteSeatOrGap() {
+        QuietSampleRun run = new QuietSampleRun("user", 1, START + 58_000, 40.0);
+
+        assertThat(run.canAppend(1, START + 59_000, MAX_GAP_MS)).isTrue();
+        assertThat(run.canAppend(1, START + 60_000, MAX_GAP_MS)).isFalse(); // 다음 1분 구간
+        assertThat(run.canAppend(2, START + 59_000, MAX_GAP_MS)).isFalse(); // 다른 좌석
+        assertThat(run.canAppend(1, START + 57_000, MAX_GAP_MS)).isFalse(); // 시각 역전
+
+        QuietSampleRun early = new QuietSampleRun("user", 1, START, 40.0);
+        assertThat(early.canAppend(1, START + MAX_GAP_MS, MAX_GAP_MS)).isTrue();
+        assertThat(early.canAppend(1, START + MAX_GAP_MS + 1, MAX_GAP_MS)).isFalse(); // 간격 초과
+    }
+
+    @Test
+    void appendKeepsCountSumMinMax() {
+        QuietSampleRun run = new QuietSampleRun("user", -1, START, 40.0);
+        run.append(START + 1000, 35.5);
+        run.append(START + 2000, 44.0);
+
+        assertThat(run.getCount()).isEqualTo(3);
+        assertThat(run.getSum()).isEqualTo(119.5);
+        assertThat(run.getMin()).isEqualTo(35.5);
+        assertThat(run.getMax()).isEqualTo(44.0);
+        assertThat(run.getEndMillis()).isEqualTo(START + 2000);
+        assertThat(run.getHistogram().getTotalCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,182 @@
+package com.shhtudy.backend.domain.noise.store;
+
+import com.shhtudy.backend.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세그먼트 저장소: 다시 열기, 잘린 파일, 늦게 들어온 측정값 순서, 커밋 후 쓰기
+ */
+class SegmentNoiseEventStoreTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    @TempDir
+    Path dir;
+
+    private final List<SegmentNoiseEventStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        opened.forEach(SegmentNoiseEventStore::close);
+    }
+
+    @Test
+    void reopenRestoresRecordsAndIndex() {
+        SegmentNoiseEventStore store = open();
+        long base = todayNoon();
+        save(store, "a", base, 50.0);
+        save(store, "b", base + 1000, 60.0);
+        save(store, "a", base + 2000, 55.0);
+        store.close();
+        opened.remove(store);
+
+        SegmentNoiseEventStore reopened = open();
+
+        assertThat(samples(reopened, "a")).containsExactly(base, base + 2000);
+        assertThat(samples(reopened, "b")).containsExactly(base + 1000);
+        assertThat(reopened.countByUser(user("a"))).isEqualTo(2);
+        assertThat(reopened.findLatestSeatId("a", dayStart(), dayEnd())).isEqualTo(7);
+    }
+
+    @Test
+    void lateReadingsAreReturnedInMeasuredOrder() {
+        SegmentNoiseEventStore store = open();
+        long base = todayNoon();
+        save(store, "a", base + 2000, 52.0);
+        save(store, "a", base, 50.0);
+        save(store, "a", base + 1000, 51.0);
+
+        assertThat(samples(store, "a")).containsExactly(base, base + 1000, base + 2000);
+
+        List<NoiseEventRecord> latest = store.findLatest(user("a"), dayStart(), dayEnd(), 2);
+        assertThat(latest).extracting(NoiseEventRecord::getDecibel).containsExactly(52.0, 51.0);
+    }
+
+    @Test
+    void truncatedSegmentKeepsWholeRecordsAndRollsOver() throws IOException {
+        SegmentNoiseEventStore store = open();
+        long base = todayNoon();
+        for (int i = 0; i < 5; i++) {
+            save(store, "a", base + i * 1000L, 50.0 + i);
+        }
+        store.close();
+        opened.remove(store);
+
+        // 세 번째 레코드 뒤에서 파일이 잘린 상황 (네 번째 레코드는 일부만 남음)
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(NoiseSegment.HEADER_SIZE + 3L * NoiseSegment.RECORD_SIZE + 10);
+        }
+
+        SegmentNoiseEventStore reopened = open();
+        assertThat(samples(reopened, "a")).containsExactly(base, base + 1000, base + 2000);
+
+        // 잘린 세그먼트 뒤에 이어 쓰지 않고 새 세그먼트를 만든다
+        save(reopened, "a", base + 9000, 59.0);
+        assertThat(samples(reopened, "a")).containsExactly(base, base + 1000, base + 2000, base + 9000);
+        assertThat(segmentFiles()).hasSize(2);
+    }
+
+    @Test
+    void readingsOutsideRetentionAreSkipped() {
+        SegmentNoiseEventStore store = open();
+        long old = LocalDate.now(ZONE).minusDays(30).atTime(12, 0).atZone(ZONE).toInstant().toEpochMilli();
+        save(store, "a", old, 50.0);
+
+        assertThat(store.countByUser(user("a"))).isZero();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    void writesInsideTransactionWaitForCommit() {
+        SegmentNoiseEventStore store = open();
+        long base = todayNoon();
+        TransactionSynchronizationManager.initSynchronization();
+
+        save(store, "a", base, 50.0);
+        assertThat(samples(store, "a")).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(samples(store, "a")).containsExactly(base);
+    }
+
+    @Test
+    void rolledBackWritesAreDropped() {
+        SegmentNoiseEventStore store = open();
+        TransactionSynchronizationManager.initSynchronization();
+
+        save(store, "a", todayNoon(), 50.0);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(samples(store, "a")).isEmpty();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    private SegmentNoiseEventStore open() {
+        SegmentNoiseEventStore store = new SegmentNoiseEventStore(dir.toString(), 1024, 7,
+                false, false, false, "");
+        store.open();
+        opened.add(store);
+        return store;
+    }
+
+    private static void save(SegmentNoiseEventStore store, String userId, long measuredAtMillis, double decibel) {
+        store.saveAll(new String[]{userId}, new int[]{7}, new double[]{decibel}, new long[]{measuredAtMillis}, 1);
+    }
+
+    private static List<Long> samples(SegmentNoiseEventStore store, String userId) {
+        List<Long> measuredAt = new ArrayList<>();
+        store.streamSamples(userId, dayStart(), dayEnd(), (millis, decibel) -> measuredAt.add(millis));
+        return measuredAt;
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static User user(String userId) {
+        User user = new User();
+        user.setFirebaseUid(userId);
+        return user;
+    }
+
+    private static long todayNoon() {
+        return LocalDate.now(ZONE).atTime(12, 0).atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime dayStart() {
+        return LocalDate.now(ZONE).atStartOfDay();
+    }
+
+    private static LocalDateTime dayEnd() {
+        return LocalDate.now(ZONE).plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,80 @@
+package com.shhtudy.backend.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shhtudy.backend.global.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 Idempotency-Key 재시도 시 보관한 응답(헤더 포함)을 그대로 돌려주는지
+ */
+class IdempotencyFilterTest {
+
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            new IdempotencyStore(3_600_000L, 1000, 1 << 20), new ObjectMapper(), new SimpleMeterRegistry(),
+            16384, 1 << 20);
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    // 컨트롤러 대신: 전송 간격 안내 헤더와 함께 200 응답
+    private final HttpServlet controller = new HttpServlet() {
+        @Override
+        protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            calls.incrementAndGet();
+            response.setHeader("X-Noise-Upload-Interval-Ms", "5000");
+            response.setHeader("X-Noise-Sample-Interval-Ms", "1000");
+            response.setContentType("application/json");
+            response.getOutputStream().write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    @Test
+    void replayIncludesHeadersSetByController() throws Exception {
+        MockHttpServletResponse first = send(null);
+        MockHttpServletResponse replayed = send(null);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getHeader("X-Noise-Upload-Interval-Ms")).isEqualTo("5000");
+        assertThat(replayed.getHeader("X-Noise-Sample-Interval-Ms")).isEqualTo("1000");
+        assertThat(replayed.getContentType()).isEqualTo(first.getContentType());
+        assertThat(replayed.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void headersFromOuterFiltersAreNotReplayed() throws Exception {
+        send("stale");
+        MockHttpServletResponse replayed = send("fresh");
+
+        // 바깥 필터(레이트 리밋 등)가 붙인 값은 재응답 시점 값이 남는다
+        assertThat(replayed.getHeaders(HttpHeaders.RETRY_AFTER)).containsExactly("fresh");
+    }
+
+    private MockHttpServletResponse send(String outerHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/noise/events");
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.setContentType("application/json");
+        request.setContent("{\"decibel\":50.0}".getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (outerHeader != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, outerHeader);
+        }
+        filter.doFilter(request, response, new MockFilterChain(controller));
+        return response;
+    }
+}
@@ -0,0 +1,137 @@
+package com.shhtudy.backend.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 버킷: 버스트 허용 후 거절, 대기 시간, 키별 분리, 전체 한도 거절 시 사용자 몫 반환
+ * (채워지는 속도를 초당 1회 이하로 둬서 테스트 중 시간 경과가 결과에 영향을 주지 않게 한다)
+ */
+class RateLimiterTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void burstIsAllowedThenRejectedWithWait() {
+        RateLimiter limiter = limiter(1, 3, 1000, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(1)).as("request %d", i).isEqualTo(RateLimiter.ALLOWED);
+        }
+        long wait = limiter.tryAcquire(1);
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(ONE_SECOND);
+        assertThat(rejected("user")).isEqualTo(1.0);
+        assertThat(rejected("global")).isZero();
+    }
+
+    @Test
+    void rejectedRequestCanRetryAfterReturnedWait() throws InterruptedException {
+        RateLimiter limiter = limiter(100, 2, 1000, 1000);
+
+        long wait;
+        do {
+            wait = limiter.tryAcquire(1);
+        } while (wait == RateLimiter.ALLOWED);
+        TimeUnit.NANOSECONDS.sleep(wait + TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(limiter.tryAcquire(1)).isEqualTo(RateLimiter.ALLOWED);
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        RateLimiter limiter = limiter(1, 1, 1000, 1000);
+
+        assertThat(limiter.tryAcquire(1)).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(1)).isPositive();
+        assertThat(limiter.tryAcquire(2)).isEqualTo(RateLimiter.ALLOWED);
+    }
+
+    @Test
+    void globalLimitAppliesAcrossKeysUnlessSkipped() {
+        RateLimiter limiter = limiter(1, 10, 1, 2);
+
+        assertThat(limiter.tryAcquire(1)).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(2)).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(3)).isPositive();
+        assertThat(rejected("global")).isEqualTo(1.0);
+
+        // 전체 한도를 건너뛰는 요청은 사용자 버킷만 본다
+        assertThat(limiter.tryAcquire(3, false)).isEqualTo(RateLimiter.ALLOWED);
+    }
+
+    @Test
+    void globalRejectionRefundsUserSlot() {
+        RateLimiter limiter = limiter(1, 3, 1, 2);
+
+        assertThat(limiter.tryAcquire(1)).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(1)).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(1)).isPositive(); // 전체 한도로 거절
+
+        // 돌려받은 사용자 몫 1개만 남아 있다
+        assertThat(limiter.tryAcquire(1, false)).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(1, false)).isPositive();
+        assertThat(rejected("user")).isEqualTo(1.0);
+        assertThat(rejected("global")).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledAlwaysAllows() {
+        RateLimiter limiter = new RateLimiter(meterRegistry, false, 16, 1, 1, 1, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire(1)).isEqualTo(RateLimiter.ALLOWED);
+        }
+        assertThat(rejected("user")).isZero();
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedBurst() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(meterRegistry, true, 16, 0.001, 100, 1000, 1000);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquire(7, false) == RateLimiter.ALLOWED) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(allowed.get()).isEqualTo(100);
+        assertThat(rejected("user")).isEqualTo(7900.0);
+    }
+
+    private RateLimiter limiter(double userRate, int userBurst, double globalRate, int globalBurst) {
+        return new RateLimiter(meterRegistry, true, 65536, userRate, userBurst, globalRate, globalBurst);
+    }
+
+    private double rejected(String scope) {
+        return meterRegistry.get("rate_limit.rejected").tag("scope", scope).counter().count();
+    }
+}